@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.benchmarks;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.smallrye.asyncapi.api.AsyncApiConstants;
+import io.smallrye.asyncapi.api.util.ClassNameMatcher;
+
+/**
+ * Decides which of 100k synthetic class paths to scan, with the scan include/exclude patterns
+ * compiled into a {@link ClassNameMatcher}, and with a baseline building the class and package
+ * name of each path and looking them up in the configured sets, as the archive indexing used to.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+public class ClassNameMatcherBenchmark {
+
+    @Param("100000")
+    int paths;
+
+    private final Set<String> scanClasses = new HashSet<>();
+    private final Set<String> scanPackages = new HashSet<>();
+    private final Set<String> scanExcludeClasses = new HashSet<>();
+    private final Set<String> scanExcludePackages = new HashSet<>();
+    private String[] archivePaths;
+    private ClassNameMatcher matcher;
+
+    @Setup(Level.Trial)
+    public void createPaths() {
+        // 500 packages of 200 classes, a tenth of the packages and a few classes are scanned
+        for (int p = 0; p < 500; p += 10) {
+            scanPackages.add(packageName(p));
+            scanExcludeClasses.add(packageName(p) + ".Event" + p);
+        }
+        for (int p = 5; p < 500; p += 50) {
+            scanClasses.add(packageName(p) + ".Event0");
+        }
+        scanExcludePackages.add(packageName(250));
+        archivePaths = new String[paths];
+        for (int i = 0; i < paths; i++) {
+            String path = packageName(i % 500).replace('.', '/') + "/Event" + (i / 500) + AsyncApiConstants.CLASS_SUFFIX;
+            // Classes of web archives, and entries streamed from jars
+            archivePaths[i] = i % 2 == 0 ? AsyncApiConstants.WEB_ARCHIVE_CLASS_PREFIX + path : path;
+        }
+        matcher = new ClassNameMatcher(scanClasses, scanPackages, scanExcludeClasses, scanExcludePackages);
+        if (trie() != nameLookups()) {
+            throw new IllegalStateException("The matcher and the baseline accept different classes");
+        }
+    }
+
+    @Benchmark
+    public int trie() {
+        int accepted = 0;
+        for (String path : archivePaths) {
+            if (matcher.accept(path)) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+
+    @Benchmark
+    public int nameLookups() {
+        int accepted = 0;
+        for (String path : archivePaths) {
+            if (acceptClassForScanning(path)) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+
+    private static String packageName(int p) {
+        return "com.acme.module" + (p / 50) + ".events" + p;
+    }
+
+    /**
+     * The class filter of the archive indexing as it was before the {@link ClassNameMatcher}.
+     */
+    private boolean acceptClassForScanning(String archivePath) {
+        if (archivePath.startsWith(AsyncApiConstants.WEB_ARCHIVE_CLASS_PREFIX)) {
+            archivePath = archivePath.substring(AsyncApiConstants.WEB_ARCHIVE_CLASS_PREFIX.length());
+        }
+        String fqcn = archivePath.replaceAll("/", ".").substring(0, archivePath.lastIndexOf(AsyncApiConstants.CLASS_SUFFIX));
+        String packageName = "";
+        if (fqcn.contains(".")) {
+            int idx = fqcn.lastIndexOf(".");
+            packageName = fqcn.substring(0, idx);
+        }
+
+        boolean accept = scanClasses.contains(fqcn) || scanPackages.contains(packageName);
+        if (scanExcludeClasses.contains(fqcn)) {
+            accept = false;
+        }
+        if (scanExcludePackages.contains(packageName)) {
+            accept = false;
+        }
+        return accept;
+    }
+
+}
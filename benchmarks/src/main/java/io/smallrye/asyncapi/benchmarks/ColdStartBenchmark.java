@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.core.models.Document;
+import io.smallrye.asyncapi.api.util.IOUtil;
+import io.smallrye.asyncapi.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.runtime.AsyncApiProcessor;
+import io.smallrye.asyncapi.runtime.AsyncApiStaticFile;
+import io.smallrye.asyncapi.runtime.io.AsyncApiBinaryCodec;
+
+/**
+ * Loads a static file of about 1 MB or 10 MB (as compact JSON) into the model once per JVM, the way
+ * an application does at startup: from the binary encoding, from JSON through the streaming parser,
+ * and from JSON read into a String first, as the static file used to be read.
+ *
+ * Each fork measures a single load. The files are generated by a separate JVM, so that neither
+ * Jackson nor apicurio have run in the measured JVM before the load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 10, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class ColdStartBenchmark {
+
+    // Channels and schemas of Documents.api per MB of compact JSON
+    private static final int ELEMENTS_PER_MB = 212;
+
+    @Param({ "1", "10" })
+    int megabytes;
+
+    private Path directory;
+    private Path json;
+    private Path binary;
+
+    @Setup(Level.Trial)
+    public void createFiles() throws IOException, InterruptedException {
+        directory = Files.createTempDirectory("asyncapi-cold-start");
+        json = directory.resolve("asyncapi.json");
+        binary = directory.resolve("asyncapi.bin");
+        Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+        Process generator = new ProcessBuilder(java.toString(), "-Xmx1g", "-cp", System.getProperty("java.class.path"),
+                Generator.class.getName(), directory.toString(), String.valueOf(megabytes))
+                .inheritIO()
+                .start();
+        if (generator.waitFor() != 0) {
+            throw new IllegalStateException("Generating the static files failed");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFiles() throws IOException {
+        Files.deleteIfExists(json);
+        Files.deleteIfExists(binary);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public Document binary() throws IOException {
+        return load(binary, AsyncApiFormat.BINARY);
+    }
+
+    @Benchmark
+    public Document json() throws IOException {
+        return load(json, AsyncApiFormat.JSON);
+    }
+
+    @Benchmark
+    public Document jsonString() throws IOException {
+        try (InputStream in = Files.newInputStream(json)) {
+            return Library.readDocumentFromJSONString(IOUtil.toString(in));
+        }
+    }
+
+    private static Document load(Path file, AsyncApiFormat format) throws IOException {
+        try (AsyncApiStaticFile staticFile = new AsyncApiStaticFile(Files.newInputStream(file), format)) {
+            return AsyncApiProcessor.modelFromStaticFile(staticFile);
+        }
+    }
+
+    /**
+     * Writes the JSON and binary static files of the benchmark.
+     */
+    static final class Generator {
+
+        /**
+         * Constructor.
+         */
+        private Generator() {
+        }
+
+        /**
+         * @param args the directory to write the files to, and their size in MB
+         * @throws IOException if a file cannot be written
+         */
+        public static void main(String[] args) throws IOException {
+            Path directory = Paths.get(args[0]);
+            int elements = Integer.parseInt(args[1]) * ELEMENTS_PER_MB;
+            String text = Documents.api(elements, elements, 40);
+            Files.write(directory.resolve("asyncapi.json"), text.getBytes(StandardCharsets.UTF_8));
+            Files.write(directory.resolve("asyncapi.bin"), AsyncApiBinaryCodec.encode(new ObjectMapper().readTree(text)));
+        }
+
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.benchmarks;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.core.models.Document;
+
+/**
+ * Generates the documents the benchmarks work on.
+ */
+final class Documents {
+
+    /**
+     * Constructor.
+     */
+    private Documents() {
+    }
+
+    /**
+     * Returns a document with the given number of channels, each subscribed to with a message
+     * holding an object payload. The channels are named the same way in every document, so that
+     * two documents share all of their channels.
+     *
+     * @param channels the number of channels
+     * @param description the description of each channel
+     * @param payloads whether the messages have a payload
+     */
+    static Document channels(int channels, String description, boolean payloads) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"asyncapi\": \"2.0.0\", \"info\": {\"title\": \"Benchmark\", \"version\": \"1.0.0\"},");
+        json.append(" \"channels\": {");
+        for (int i = 0; i < channels; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("\"orders/").append(i).append("\": {\"description\": \"").append(description).append("\",");
+            json.append(" \"subscribe\": {\"operationId\": \"onOrder").append(i).append("\",");
+            json.append(" \"tags\": [{\"name\": \"orders\"}],");
+            json.append(" \"message\": {\"name\": \"Order").append(i).append("\", \"contentType\": \"application/json\"");
+            if (payloads) {
+                json.append(", \"payload\": {\"type\": \"object\", \"properties\": {");
+                json.append("\"id\": {\"type\": \"string\"}, \"total\": {\"type\": \"number\"}}}");
+            }
+            json.append("}}}");
+        }
+        json.append("}}");
+        return Library.readDocumentFromJSONString(json.toString());
+    }
+
+    /**
+     * Returns a document tagged with the given range of tag names.
+     *
+     * @param from the number of the first tag, inclusive
+     * @param to the number of the last tag, exclusive
+     * @param description the description of each tag
+     */
+    static Document tags(int from, int to, String description) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"asyncapi\": \"2.0.0\", \"info\": {\"title\": \"Benchmark\", \"version\": \"1.0.0\"},");
+        json.append(" \"tags\": [");
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                json.append(',');
+            }
+            json.append("{\"name\": \"tag").append(i).append("\", \"description\": \"").append(description).append("\"}");
+        }
+        json.append("]}");
+        return Library.readDocumentFromJSONString(json.toString());
+    }
+
+    /**
+     * Returns the JSON text of a document with the given number of channels and component schemas,
+     * the way a large hand-written spec looks: every channel publishes a message whose payload
+     * references one of the schemas, and every schema has described properties.
+     *
+     * @param channels the number of channels
+     * @param schemas the number of component schemas
+     * @param properties the number of properties of each schema
+     */
+    static String api(int channels, int schemas, int properties) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"asyncapi\": \"2.0.0\", \"info\": {\"title\": \"Benchmark\", \"version\": \"1.0.0\"},");
+        json.append(" \"channels\": {");
+        for (int i = 0; i < channels; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("\"orders/").append(i).append("/events\": {\"description\": \"Events of order stream ").append(i)
+                    .append(".\", \"publish\": {\"operationId\": \"publishOrder").append(i)
+                    .append("\", \"summary\": \"Publishes order events.\", \"tags\": [{\"name\": \"orders\"}],")
+                    .append(" \"message\": {\"name\": \"Order").append(i)
+                    .append("\", \"contentType\": \"application/json\", \"payload\": {\"$ref\": \"#/components/schemas/Schema")
+                    .append(i % schemas).append("\"}}}}");
+        }
+        json.append("}, \"components\": {\"schemas\": {");
+        for (int i = 0; i < schemas; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("\"Schema").append(i).append("\": {\"type\": \"object\", \"required\": [\"property0\"],")
+                    .append(" \"properties\": {");
+            for (int p = 0; p < properties; p++) {
+                if (p > 0) {
+                    json.append(',');
+                }
+                json.append("\"property").append(p).append("\": {\"type\": \"")
+                        .append(p % 3 == 0 ? "string" : p % 3 == 1 ? "integer" : "number")
+                        .append("\", \"description\": \"Property ").append(p).append(" of schema ").append(i)
+                        .append(", as sent by the order service.\"}");
+            }
+            json.append("}}");
+        }
+        json.append("}}}");
+        return json.toString();
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.core.models.Document;
+import io.apicurio.datamodels.core.models.common.Tag;
+import io.smallrye.asyncapi.api.util.MergeUtil;
+
+/**
+ * Merges two lists of tags sharing half of their names: with {@link MergeUtil}, which looks the
+ * tags up in a temporary index by name, and with a baseline scanning the first list for each tag
+ * of the second one, as the list merges used to.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class KeyedListMergeBenchmark {
+
+    @Param("10000")
+    int elements;
+
+    private Document template1;
+    private Document template2;
+    private Document document1;
+    private Document document2;
+
+    @Setup(Level.Trial)
+    public void createDocuments() {
+        template1 = Documents.tags(0, elements, "Tagged by the static file.");
+        template2 = Documents.tags(elements / 2, elements / 2 + elements, "Tagged by the annotations.");
+    }
+
+    /**
+     * Merging changes the first list and adopts the tags of the second one, so each merge gets
+     * fresh copies.
+     */
+    @Setup(Level.Invocation)
+    public void copyDocuments() {
+        document1 = Library.cloneDocument(template1);
+        document2 = Library.cloneDocument(template2);
+    }
+
+    @Benchmark
+    public Document keyIndex() {
+        return MergeUtil.merge(document1, document2);
+    }
+
+    @Benchmark
+    public List<Tag> scan() {
+        return mergeTagLists(document1.tags, document2.tags);
+    }
+
+    /**
+     * The merge of two lists of tags as it was before the key index.
+     */
+    private static List<Tag> mergeTagLists(List<Tag> values1, List<Tag> values2) {
+        for (Tag value2 : values2) {
+            Tag match = null;
+            for (Tag value1 : values1) {
+                if (value1.name != null && value1.name.equals(value2.name)) {
+                    match = value1;
+                    break;
+                }
+            }
+            if (match == null) {
+                values1.add(value2);
+            } else {
+                MergeUtil.mergeObjects(match, value2);
+            }
+        }
+        return values1;
+    }
+
+}
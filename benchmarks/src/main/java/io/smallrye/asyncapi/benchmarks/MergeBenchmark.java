@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.core.models.Document;
+import io.smallrye.asyncapi.api.util.MergeUtil;
+
+/**
+ * Merges two documents sharing the same channels, like the static file and the annotations of an
+ * app usually do: with {@link MergeUtil}, which merges the fields of each class through a cached
+ * merge plan, and with the {@link ReflectiveMergeUtil} baseline, which looks the fields up and
+ * accesses them reflectively for every node.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class MergeBenchmark {
+
+    @Param("5000")
+    int channels;
+
+    private Document template1;
+    private Document template2;
+    private Document document1;
+    private Document document2;
+
+    @Setup(Level.Trial)
+    public void createDocuments() {
+        template1 = Documents.channels(channels, "Described by the static file.", false);
+        template2 = Documents.channels(channels, "Described by the annotations.", true);
+    }
+
+    /**
+     * Merging changes the first document and adopts the nodes of the second one, so each merge
+     * gets fresh copies.
+     */
+    @Setup(Level.Invocation)
+    public void copyDocuments() {
+        document1 = Library.cloneDocument(template1);
+        document2 = Library.cloneDocument(template2);
+    }
+
+    @Benchmark
+    public Document mergePlans() {
+        return MergeUtil.merge(document1, document2);
+    }
+
+    @Benchmark
+    public Document reflection() {
+        return ReflectiveMergeUtil.merge(document1, document2);
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.core.models.Document;
+import io.smallrye.asyncapi.api.util.IOUtil;
+import io.smallrye.asyncapi.runtime.io.AsyncApiParser;
+
+/**
+ * Parses a static file of a few MB (hundreds of channels and component schemas) in JSON and in
+ * YAML: with the {@link AsyncApiParser}, which builds the node tree straight from the stream, and
+ * with baselines reading the whole file into a String first, as the static file used to be read.
+ * The YAML baseline then converts the YAML to JSON text and parses that again. Run with
+ * {@code -prof gc} for the allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class ParseBenchmark {
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
+
+    @Param("500")
+    int channels;
+
+    @Param("500")
+    int schemas;
+
+    private byte[] json;
+    private byte[] yaml;
+
+    @Setup(Level.Trial)
+    public void createFiles() throws IOException {
+        String text = Documents.api(channels, schemas, 40);
+        json = text.getBytes(StandardCharsets.UTF_8);
+        yaml = YAML_MAPPER.writeValueAsBytes(JSON_MAPPER.readTree(text));
+    }
+
+    @Benchmark
+    public Document json() {
+        return AsyncApiParser.parseJson(new ByteArrayInputStream(json));
+    }
+
+    @Benchmark
+    public Document jsonString() {
+        return Library.readDocumentFromJSONString(IOUtil.toString(new ByteArrayInputStream(json)));
+    }
+
+    @Benchmark
+    public Document yaml() {
+        return AsyncApiParser.parseYaml(new ByteArrayInputStream(yaml));
+    }
+
+    @Benchmark
+    public Document yamlString() throws IOException {
+        String content = IOUtil.toString(new ByteArrayInputStream(yaml));
+        String converted = JSON_MAPPER.writeValueAsString(YAML_MAPPER.readTree(content));
+        return Library.readDocumentFromJSONString(converted);
+    }
+
+}
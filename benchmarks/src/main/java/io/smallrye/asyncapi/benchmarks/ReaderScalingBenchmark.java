@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.apicurio.datamodels.core.models.Document;
+import io.smallrye.asyncapi.api.AsyncApiDocument;
+import io.smallrye.asyncapi.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.runtime.io.AsyncApiRenderedDocument;
+
+/**
+ * Reads the final document from an increasing number of threads, the way concurrent requests for
+ * the document do: through the volatile snapshot of {@link AsyncApiDocument}, and through the
+ * {@link SynchronizedHolder} baseline, which takes a lock for each read like the holder used to.
+ *
+ * Run {@link #main(String[])} to measure each benchmark with 1 to 64 threads, or pick a thread
+ * count with {@code java -jar benchmarks.jar ReaderScalingBenchmark -t 16}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReaderScalingBenchmark {
+
+    private static final int[] THREADS = { 1, 2, 4, 8, 16, 32, 64 };
+
+    private final SynchronizedHolder holder = new SynchronizedHolder();
+
+    @Setup(Level.Trial)
+    public void publish() {
+        Document model = Documents.channels(100, "Orders.", true);
+        AsyncApiDocument.INSTANCE.reset();
+        AsyncApiDocument.INSTANCE.set(model);
+        holder.set(model);
+    }
+
+    @TearDown(Level.Trial)
+    public void reset() {
+        AsyncApiDocument.INSTANCE.reset();
+    }
+
+    @Benchmark
+    public Document volatileSnapshot() {
+        return AsyncApiDocument.INSTANCE.get();
+    }
+
+    @Benchmark
+    public AsyncApiRenderedDocument volatileSnapshotRendered() {
+        return AsyncApiDocument.INSTANCE.getRendered(AsyncApiFormat.JSON);
+    }
+
+    @Benchmark
+    public Document synchronizedHolder() {
+        return holder.get();
+    }
+
+    /**
+     * Runs the benchmarks once per thread count, from 1 to 64 threads. Any JMH command line option
+     * is applied to each run.
+     *
+     * @param args JMH command line options
+     * @throws RunnerException if a benchmark fails
+     * @throws CommandLineOptionException if the options are invalid
+     */
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions options = new CommandLineOptions(args);
+        for (int threads : THREADS) {
+            new Runner(new OptionsBuilder()
+                    .parent(options)
+                    .include(ReaderScalingBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build()).run();
+        }
+    }
+
+    /**
+     * Holds the model the way {@link AsyncApiDocument} used to, reading it under the monitor of
+     * the holder.
+     */
+    static final class SynchronizedHolder {
+        private Document model;
+
+        synchronized void set(Document model) {
+            this.model = model;
+        }
+
+        synchronized Document get() {
+            if (model == null) {
+                throw new IllegalStateException("Model not initialized yet");
+            }
+            return model;
+        }
+    }
+
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.apicurio.datamodels.core.models.Document;
+import io.smallrye.asyncapi.api.AsyncApiConfigImpl;
+import io.smallrye.asyncapi.runtime.scanner.AsyncApiAnnotationScanner;
+import io.smallrye.asyncapi.spec.annotations.Channel;
+
+/**
+ * Scans a synthetic index of compiled classes with the {@link AsyncApiAnnotationScanner}. The
+ * annotated part of the app is the same for every size (100 classes declaring 500 channels, with
+ * nested and generic payloads), the rest of the index is filled with classes without annotations,
+ * so the scan time should hardly depend on the number of classes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(value = 2, jvmArgsAppend = { "-Xms1g", "-Xmx1g" })
+public class ScanBenchmark {
+
+    private static final String PACKAGE = "bench.app";
+    private static final int EVENT_CLASSES = 100;
+    private static final int CHANNELS_PER_CLASS = 5;
+    private static final int FILLERS_PER_FILE = 100;
+
+    @Param({ "1000", "10000" })
+    int classes;
+
+    @Param({ "false", "true" })
+    boolean schemaReferences;
+
+    private IndexView index;
+    private AsyncApiConfigImpl config;
+
+    @Setup(Level.Trial)
+    public void createIndex() throws IOException {
+        config = new AsyncApiConfigImpl(null) {
+            @Override
+            public boolean schemaReferencesEnable() {
+                return schemaReferences;
+            }
+        };
+
+        List<JavaFileObject> sources = new ArrayList<>();
+        sources.add(source("Envelope", "public class Envelope<T> { private String correlationId; private T payload; }"));
+        int payloads = EVENT_CLASSES * CHANNELS_PER_CLASS;
+        for (int i = 0; i < payloads; i++) {
+            // Chains of ten payloads, each one nesting the previous one
+            String previous = i % 10 == 0 ? "" : " private Payload" + (i - 1) + " previous;";
+            sources.add(source("Payload" + i, "public class Payload" + i
+                    + " { private String id; private long timestamp; private java.util.List<String> tags;" + previous + " }"));
+        }
+        for (int c = 0; c < EVENT_CLASSES; c++) {
+            StringBuilder body = new StringBuilder("public class Events" + c + " {\n");
+            for (int m = 0; m < CHANNELS_PER_CLASS; m++) {
+                int p = c * CHANNELS_PER_CLASS + m;
+                body.append("@io.smallrye.asyncapi.spec.annotations.Channel(\"events/").append(p).append("\")\n");
+                if (m % 2 == 0) {
+                    body.append("@io.smallrye.asyncapi.spec.annotations.Subscribe(operationId = \"on").append(p)
+                            .append("\")\npublic java.util.concurrent.CompletionStage<Payload").append(p)
+                            .append("> on").append(p).append("() { return null; }\n");
+                } else {
+                    body.append("@io.smallrye.asyncapi.spec.annotations.Publish(operationId = \"send").append(p)
+                            .append("\")\npublic void send").append(p).append("(Envelope<Payload").append(p)
+                            .append("> event) { }\n");
+                }
+            }
+            sources.add(source("Events" + c, body.append("}").toString()));
+        }
+        int fillers = classes - 1 - payloads - EVENT_CLASSES;
+        for (int f = 0; f < fillers; f += FILLERS_PER_FILE) {
+            StringBuilder body = new StringBuilder();
+            for (int i = f; i < Math.min(fillers, f + FILLERS_PER_FILE); i++) {
+                body.append("class Filler").append(i).append(" { private String name; private int count;")
+                        .append(" String name() { return name; } int count() { return count; } }\n");
+            }
+            sources.add(source("Fillers" + f, body.toString()));
+        }
+        index = compileAndIndex(sources);
+        if (index.getKnownClasses().size() != classes) {
+            throw new IllegalStateException("Indexed " + index.getKnownClasses().size() + " classes");
+        }
+    }
+
+    @Benchmark
+    public Document scan() {
+        return new AsyncApiAnnotationScanner(config, index).scan();
+    }
+
+    private static IndexView compileAndIndex(List<JavaFileObject> sources) throws IOException {
+        Path output = Files.createTempDirectory("asyncapi-scan-benchmark");
+        try {
+            String classpath = Paths.get(location(Channel.class)).toString();
+            JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+            Boolean compiled = compiler.getTask(null, null, null,
+                    Arrays.asList("-classpath", classpath, "-d", output.toString(), "-proc:none"), null, sources)
+                    .call();
+            if (!Boolean.TRUE.equals(compiled)) {
+                throw new IllegalStateException("Compilation of the synthetic app failed");
+            }
+            Indexer indexer = new Indexer();
+            try (Stream<Path> files = Files.walk(output)) {
+                for (Path file : files.filter(f -> f.toString().endsWith(".class")).collect(Collectors.toList())) {
+                    try (InputStream in = Files.newInputStream(file)) {
+                        indexer.index(in);
+                    }
+                }
+            }
+            return indexer.complete();
+        } finally {
+            try (Stream<Path> files = Files.walk(output)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    private static URI location(Class<?> type) {
+        try {
+            return type.getProtectionDomain().getCodeSource().getLocation().toURI();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static JavaFileObject source(String className, String body) {
+        String code = "package " + PACKAGE + ";\n" + body + "\n";
+        URI uri = URI.create("string:///" + PACKAGE.replace('.', '/') + "/" + className + ".java");
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+
+}
@@ -16,15 +16,18 @@
 
 package io.smallrye.asyncapi.api;
 
+import java.util.List;
 import java.util.Set;
 
 /**
  * Accessor to AsyncAPI configuration options.
  *
  * mp.asyncapi.model.reader : Configuration property to specify the fully qualified name of the AAIModelReader implementation.
- * mp.asyncapi.filter : Configuration property to specify the fully qualified name of the AAIFilter implementation.
+ * mp.asyncapi.filter : Configuration property to specify the fully qualified name of the AAIFilter implementation, or a
+ * comma separated list of names of AAIFilter implementations, applied in order.
  * mp.asyncapi.scan.disable : Configuration property to disable annotation scanning. Default value is false.
- * mp.asyncapi.scan.packages : Configuration property to specify the list of packages to scan.
+ * mp.asyncapi.scan.packages : Configuration property to specify the list of packages to scan. A trailing ".**" includes
+ * sub-packages.
  * mp.asyncapi.scan.classes : Configuration property to specify the list of classes to scan.
  * mp.asyncapi.scan.exclude.packages : Configuration property to specify the list of packages to exclude from scans.
  * mp.asyncapi.scan.exclude.classes : Configuration property to specify the list of classes to exclude from scans.
@@ -38,6 +41,8 @@ public interface AsyncApiConfig {
 
     public String filter();
 
+    public List<String> filters();
+
     public boolean scanDisable();
 
     public Set<String> scanPackages();
@@ -54,8 +59,26 @@ public interface AsyncApiConfig {
 
     public Set<String> scanDependenciesJars();
 
+    public int scanParallelism();
+
+    public String indexCacheDir();
+
+    public int indexCacheMaxEntries();
+
     public boolean schemaReferencesEnable();
 
     public String customSchemaRegistryClass();
 
+    public int mergeParallelThreshold();
+
+    public boolean lazyInitEnable();
+
+    public boolean releaseModelEnable();
+
+    public int filterParallelThreshold();
+
+    public int filteredViewsCacheSize();
+
+    public int slicesCacheSize();
+
 }
@@ -16,7 +16,9 @@
 
 package io.smallrye.asyncapi.api;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.microprofile.config.Config;
@@ -35,6 +37,7 @@ public class AsyncApiConfigImpl implements AsyncApiConfig {
 
     private String modelReader;
     private String filter;
+    private List<String> filters;
     private Boolean scanDisable;
     private Set<String> scanPackages;
     private Set<String> scanClasses;
@@ -43,8 +46,17 @@ public class AsyncApiConfigImpl implements AsyncApiConfig {
     private Set<String> servers;
     private Boolean scanDependenciesDisable;
     private Set<String> scanDependenciesJars;
+    private Integer scanParallelism;
+    private String indexCacheDir;
+    private Integer indexCacheMaxEntries;
     private Boolean schemaReferencesEnable;
     private String customSchemaRegistryClass;
+    private Integer mergeParallelThreshold;
+    private Boolean lazyInitEnable;
+    private Boolean releaseModelEnable;
+    private Integer filterParallelThreshold;
+    private Integer filteredViewsCacheSize;
+    private Integer slicesCacheSize;
 
     /**
      * Constructor.
@@ -85,6 +97,17 @@ public class AsyncApiConfigImpl implements AsyncApiConfig {
         return filter;
     }
 
+    /**
+     * @see io.smallrye.asyncapi.api.AsyncApiConfig#filters()
+     */
+    @Override
+    public List<String> filters() {
+        if (filters == null) {
+            filters = asCsvList(filter());
+        }
+        return filters;
+    }
+
     /**
      * @see io.smallrye.asyncapi.api.AsyncApiConfig#scanDisable()
      */
@@ -180,6 +203,40 @@ public class AsyncApiConfigImpl implements AsyncApiConfig {
         return scanDependenciesJars;
     }
 
+    /**
+     * @see io.smallrye.asyncapi.api.AsyncApiConfig#scanParallelism()
+     */
+    @Override
+    public int scanParallelism() {
+        if (scanParallelism == null) {
+            scanParallelism = getConfig().getOptionalValue(AsyncApiConstants.SCAN_PARALLELISM, Integer.class).orElse(1);
+        }
+        return scanParallelism;
+    }
+
+    /**
+     * @see io.smallrye.asyncapi.api.AsyncApiConfig#indexCacheDir()
+     */
+    @Override
+    public String indexCacheDir() {
+        if (indexCacheDir == null) {
+            indexCacheDir = getConfig().getOptionalValue(AsyncApiConstants.INDEX_CACHE_DIR, String.class).orElse(null);
+        }
+        return indexCacheDir;
+    }
+
+    /**
+     * @see io.smallrye.asyncapi.api.AsyncApiConfig#indexCacheMaxEntries()
+     */
+    @Override
+    public int indexCacheMaxEntries() {
+        if (indexCacheMaxEntries == null) {
+            indexCacheMaxEntries = getConfig().getOptionalValue(AsyncApiConstants.INDEX_CACHE_MAX_ENTRIES, Integer.class)
+                    .orElse(16);
+        }
+        return indexCacheMaxEntries;
+    }
+
     @Override
     public boolean schemaReferencesEnable() {
         if (schemaReferencesEnable == null) {
@@ -198,6 +255,78 @@ public class AsyncApiConfigImpl implements AsyncApiConfig {
         return customSchemaRegistryClass;
     }
 
+    /**
+     * @see io.smallrye.asyncapi.api.AsyncApiConfig#mergeParallelThreshold()
+     */
+    @Override
+    public int mergeParallelThreshold() {
+        if (mergeParallelThreshold == null) {
+            mergeParallelThreshold = getConfig().getOptionalValue(AsyncApiConstants.MERGE_PARALLEL_THRESHOLD, Integer.class)
+                    .orElse(0);
+        }
+        return mergeParallelThreshold;
+    }
+
+    /**
+     * @see io.smallrye.asyncapi.api.AsyncApiConfig#lazyInitEnable()
+     */
+    @Override
+    public boolean lazyInitEnable() {
+        if (lazyInitEnable == null) {
+            lazyInitEnable = getConfig().getOptionalValue(AsyncApiConstants.LAZY_INIT_ENABLE, Boolean.class)
+                    .orElse(false);
+        }
+        return lazyInitEnable;
+    }
+
+    /**
+     * @see io.smallrye.asyncapi.api.AsyncApiConfig#releaseModelEnable()
+     */
+    @Override
+    public boolean releaseModelEnable() {
+        if (releaseModelEnable == null) {
+            releaseModelEnable = getConfig().getOptionalValue(AsyncApiConstants.RELEASE_MODEL_ENABLE, Boolean.class)
+                    .orElse(false);
+        }
+        return releaseModelEnable;
+    }
+
+    /**
+     * @see io.smallrye.asyncapi.api.AsyncApiConfig#filterParallelThreshold()
+     */
+    @Override
+    public int filterParallelThreshold() {
+        if (filterParallelThreshold == null) {
+            filterParallelThreshold = getConfig()
+                    .getOptionalValue(AsyncApiConstants.FILTER_PARALLEL_THRESHOLD, Integer.class).orElse(32);
+        }
+        return filterParallelThreshold;
+    }
+
+    /**
+     * @see io.smallrye.asyncapi.api.AsyncApiConfig#filteredViewsCacheSize()
+     */
+    @Override
+    public int filteredViewsCacheSize() {
+        if (filteredViewsCacheSize == null) {
+            filteredViewsCacheSize = getConfig()
+                    .getOptionalValue(AsyncApiConstants.FILTERED_VIEWS_CACHE_SIZE, Integer.class).orElse(16);
+        }
+        return filteredViewsCacheSize;
+    }
+
+    /**
+     * @see io.smallrye.asyncapi.api.AsyncApiConfig#slicesCacheSize()
+     */
+    @Override
+    public int slicesCacheSize() {
+        if (slicesCacheSize == null) {
+            slicesCacheSize = getConfig()
+                    .getOptionalValue(AsyncApiConstants.SLICES_CACHE_SIZE, Integer.class).orElse(64);
+        }
+        return slicesCacheSize;
+    }
+
     private static Set<String> asCsvSet(String items) {
         Set<String> rval = new HashSet<>();
         if (items != null) {
@@ -209,4 +338,17 @@ public class AsyncApiConfigImpl implements AsyncApiConfig {
         return rval;
     }
 
+    private static List<String> asCsvList(String items) {
+        List<String> rval = new ArrayList<>();
+        if (items != null) {
+            for (String item : items.split(",")) {
+                String trimmed = item.trim();
+                if (!trimmed.isEmpty() && !rval.contains(trimmed)) {
+                    rval.add(trimmed);
+                }
+            }
+        }
+        return rval;
+    }
+
 }
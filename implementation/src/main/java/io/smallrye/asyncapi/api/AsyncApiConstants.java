@@ -25,12 +25,28 @@ public final class AsyncApiConstants {
 
     public static final String SCAN_DEPENDENCIES_DISABLE = "mp.asyncapi.extensions.scan-dependencies.disable";
     public static final String SCAN_DEPENDENCIES_JARS = "mp.asyncapi.extensions.scan-dependencies.jars";
+    public static final String SCAN_PARALLELISM = "mp.asyncapi.extensions.scan.parallelism";
+    // Archives are matched by the size and modification time of their jars, see IndexCacheUtil: a jar
+    // replaced, more than a few seconds after it was written, by one of the same size and time stamp
+    // is served from the cache
+    public static final String INDEX_CACHE_DIR = "mp.asyncapi.extensions.index-cache.dir";
+    public static final String INDEX_CACHE_MAX_ENTRIES = "mp.asyncapi.extensions.index-cache.max-entries";
     public static final String SCHEMA_REFERENCES_ENABLE = "mp.asyncapi.extensions.schema-references.enable";
     public static final String CUSTOM_SCHEMA_REGISTRY_CLASS = "mp.asyncapi.extensions.custom-schema-registry.class";
+    public static final String MERGE_PARALLEL_THRESHOLD = "mp.asyncapi.extensions.merge.parallel-threshold";
+    public static final String LAZY_INIT_ENABLE = "mp.asyncapi.extensions.lazy-init.enable";
+    public static final String RELEASE_MODEL_ENABLE = "mp.asyncapi.extensions.release-model.enable";
+    public static final String FILTER_PARALLEL_THRESHOLD = "mp.asyncapi.extensions.filter.parallel-threshold";
+    public static final String FILTERED_VIEWS_CACHE_SIZE = "mp.asyncapi.extensions.filtered-views.cache-size";
+    public static final String SLICES_CACHE_SIZE = "mp.asyncapi.extensions.slices.cache-size";
 
     public static final String CLASS_SUFFIX = ".class";
     public static final String JAR_SUFFIX = ".jar";
     public static final String WEB_ARCHIVE_CLASS_PREFIX = "/WEB-INF/classes/";
+    public static final String JANDEX_INDEX = "/META-INF/jandex.idx";
+    public static final String GENERATED_DOCUMENT_JSON = "/META-INF/asyncapi-generated.json";
+    public static final String GENERATED_DOCUMENT_YAML = "/META-INF/asyncapi-generated.yaml";
+    public static final String GENERATED_DOCUMENT_BINARY = "/META-INF/asyncapi-generated.bin";
 
     public static final String EXTENSION_PROPERTY_PREFIX = "x-";
 
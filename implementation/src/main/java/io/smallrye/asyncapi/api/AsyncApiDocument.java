@@ -15,11 +15,30 @@
  */
 package io.smallrye.asyncapi.api;
 
+import java.io.ByteArrayInputStream;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
 import io.apicurio.datamodels.asyncapi.v2.models.Aai20Document;
 import io.apicurio.datamodels.core.models.Document;
+import io.smallrye.asyncapi.api.util.ChannelSlicer;
 import io.smallrye.asyncapi.api.util.FilterUtil;
 import io.smallrye.asyncapi.api.util.MergeUtil;
+import io.smallrye.asyncapi.api.util.ReferenceIndex;
 import io.smallrye.asyncapi.api.util.ServersUtil;
+import io.smallrye.asyncapi.api.util.TimingUtil;
+import io.smallrye.asyncapi.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.runtime.io.AsyncApiParser;
+import io.smallrye.asyncapi.runtime.io.AsyncApiRenderedDocument;
 import io.smallrye.asyncapi.spec.AAIFilter;
 
 /**
@@ -29,6 +48,57 @@ import io.smallrye.asyncapi.spec.AAIFilter;
  * Note that the model must be initialized first!
  * </p>
  *
+ * <p>
+ * The final model is published through a volatile reference once {@link #initialize()} completes, so
+ * readers never contend on a lock. All init-time mutators remain serialized on {@link #INSTANCE}.
+ * The model is rendered as JSON at the same time, and into each other {@link AsyncApiFormat} when
+ * first asked for, so that the content can be served without serializing the model per request.
+ * </p>
+ *
+ * <p>
+ * In dev mode the model may be rebuilt while the app is running, see {@link AsyncApiIncrementalBuilder}.
+ * Each rebuilt model replaces the published one in a single step, so readers see either the old or
+ * the new model, never a mix of both.
+ * </p>
+ *
+ * <p>
+ * With {@link AsyncApiConstants#LAZY_INIT_ENABLE}, {@link #initialize()} only records the inputs, and
+ * the phases run when the model or its rendered content is first asked for, exactly once even when
+ * asked for concurrently. Apps that are never inspected then pay neither the time nor the memory
+ * for the model. With {@link AsyncApiConstants#RELEASE_MODEL_ENABLE}, only the rendered content is
+ * kept once the model has been rendered, and the model is read back from it if ever asked for (or
+ * needed to render another format). The model read back is only kept softly, so the memory it takes
+ * can be reclaimed again, and it is read back once more the next time it is asked for.
+ * </p>
+ *
+ * <p>
+ * Callers that serve a different document per request (for example per tenant or per user role)
+ * can ask for a filtered view of the final model with {@link #get(String, List)} and
+ * {@link #getRendered(AsyncApiFormat, String, List)}. Each view is derived once per variant key and
+ * classes of filters, and kept, rendered, in a bounded least recently used cache (see
+ * {@link AsyncApiConstants#FILTERED_VIEWS_CACHE_SIZE}) that is dropped with the model it derives
+ * from.
+ * </p>
+ *
+ * <p>
+ * Callers that only need some channels can ask for a self-contained slice of the final model with
+ * {@link #getSlice(Collection)} and {@link #getRenderedSlice(AsyncApiFormat, Collection)}: the
+ * channels and the components they reference, transitively. The references are resolved once per
+ * model, and the slices are cached like the filtered views (see
+ * {@link AsyncApiConstants#SLICES_CACHE_SIZE}).
+ * </p>
+ *
+ * <p>
+ * The nodes of the final model are indexed by JSON pointer along with the references between them
+ * when the model is published, see {@link #getReferenceIndex()}, so that references are resolved,
+ * and the users of a component are found, without walking the model.
+ * </p>
+ *
+ * <p>
+ * When the document was generated at build time, it is published with {@link #initialize(Map)}
+ * instead, and served as generated without running any of the phases.
+ * </p>
+ *
  * @author Martin Kouba
  * @author Eric Wittmann
  */
@@ -41,10 +111,13 @@ public class AsyncApiDocument {
     private transient Document readerModel;
     private transient Document staticFileModel;
     private transient Document annotationsModel;
-    private transient AAIFilter filter;
+    private transient List<AAIFilter> filters;
     private transient String archiveName;
 
-    private transient Document model;
+    // Published once init is complete, read without locking
+    private transient volatile Snapshot snapshot;
+    // Set by a lazy init until the snapshot is first asked for
+    private transient volatile Supplier<Snapshot> pending;
 
     private AsyncApiDocument() {
     }
@@ -55,12 +128,107 @@ public class AsyncApiDocument {
      * @throws IllegalStateException If the final model is not initialized yet
      */
     public Document get() {
-        synchronized (INSTANCE) {
-            if (model == null) {
-                throw new IllegalStateException("Model not initialized yet");
-            }
-            return model;
+        return snapshot().model();
+    }
+
+    /**
+     * Returns the final AsyncAPI document pre-rendered in the given format. The rendering is done
+     * once, as JSON when the model is initialized (or first asked for, with a lazy init) and in the
+     * other formats when first asked for, so the returned content is immutable and cheap to serve.
+     *
+     * @param format the output format
+     * @return the rendered document
+     * @throws IllegalStateException If the final model is not initialized yet
+     */
+    public AsyncApiRenderedDocument getRendered(AsyncApiFormat format) {
+        return snapshot().rendered(format);
+    }
+
+    /**
+     * Returns the index of the nodes of the final AsyncAPI document by JSON pointer, and of the local
+     * references between them. It is built along with the final model, or else (when the model is
+     * released or was generated at build time) when first asked for.
+     *
+     * @return the reference index of the final model
+     * @throws IllegalStateException If the final model is not initialized yet
+     */
+    public ReferenceIndex getReferenceIndex() {
+        return snapshot().references();
+    }
+
+    /**
+     * Returns a view of the final AsyncAPI document filtered by the given filters, for callers that
+     * serve a different document per request. The view is derived the first time the given variant
+     * is asked for with filters of the given classes, and cached until it is evicted or the final
+     * model is replaced. The filters are only used when the view is not cached, so filters of the
+     * same classes must always derive the same view for a given variant: any state they depend on
+     * belongs in the variant key.
+     *
+     * The view shares everything the filters left unchanged with the final model, and only copies
+     * the channels, servers, component schemas and component messages the filters changed (see
+     * {@link FilterUtil#filteredView(List, Document, int)}). It must thus be treated as read only.
+     * The shared nodes still belong to the final model: their parent and owner document are not
+     * those of the view.
+     *
+     * @param variant key identifying the filters, for example a tenant or a role
+     * @param filters the filters deriving the view, applied in the given order
+     * @return the filtered view, or the final model itself when there is no filter
+     * @throws IllegalStateException If the final model is not initialized yet
+     */
+    public Document get(String variant, List<AAIFilter> filters) {
+        Snapshot current = snapshot();
+        if (filters == null || filters.isEmpty()) {
+            return current.model();
         }
+        return current.view(variant, filters).model();
+    }
+
+    /**
+     * Returns a view of the final AsyncAPI document filtered by the given filters, rendered in the
+     * given format. See {@link #get(String, List)}. The rendering is done once per variant and
+     * format, and cached along with the view.
+     *
+     * @param format the output format
+     * @param variant key identifying the filters, for example a tenant or a role
+     * @param filters the filters deriving the view, applied in the given order
+     * @return the rendered view, or the rendered final model when there is no filter
+     * @throws IllegalStateException If the final model is not initialized yet
+     */
+    public AsyncApiRenderedDocument getRendered(AsyncApiFormat format, String variant, List<AAIFilter> filters) {
+        Snapshot current = snapshot();
+        if (filters == null || filters.isEmpty()) {
+            return current.rendered(format);
+        }
+        return current.view(variant, filters).rendered(format);
+    }
+
+    /**
+     * Returns the slice of the final AsyncAPI document holding the given channels, together with the
+     * components they reference, directly or through other components. Everything else but the
+     * channels and components (info, servers, ...) is kept as is. The slice is cached until it is
+     * evicted or the final model is replaced, and must be treated as read only.
+     *
+     * @param channels names of the channels to keep
+     * @return the slice
+     * @throws IllegalStateException If the final model is not initialized yet
+     * @throws IllegalArgumentException If one of the channels is not part of the final model
+     */
+    public Document getSlice(Collection<String> channels) {
+        return snapshot().slice(channels).model();
+    }
+
+    /**
+     * Returns the slice of the final AsyncAPI document holding the given channels, rendered in the
+     * given format. See {@link #getSlice(Collection)}.
+     *
+     * @param format the output format
+     * @param channels names of the channels to keep
+     * @return the rendered slice
+     * @throws IllegalStateException If the final model is not initialized yet
+     * @throws IllegalArgumentException If one of the channels is not part of the final model
+     */
+    public AsyncApiRenderedDocument getRenderedSlice(AsyncApiFormat format, Collection<String> channels) {
+        return snapshot().slice(channels).rendered(format);
     }
 
     /**
@@ -70,7 +238,8 @@ public class AsyncApiDocument {
      */
     public void set(Document model) {
         synchronized (INSTANCE) {
-            this.model = model;
+            this.snapshot = model == null ? null : new Snapshot(model, false, Caches.DEFAULTS);
+            this.pending = null;
         }
     }
 
@@ -79,18 +248,30 @@ public class AsyncApiDocument {
      */
     public void reset() {
         synchronized (INSTANCE) {
-            model = null;
+            snapshot = null;
+            pending = null;
             clear();
         }
     }
 
     /**
+     * Returns true once the model is initialized, or recorded to be initialized on first use by a lazy
+     * init: the phases of a lazy init may not have run yet, see {@link #isInitialized()}.
+     *
      * @return {@code true} if model initialized
      */
     public boolean isSet() {
-        synchronized (INSTANCE) {
-            return model != null;
-        }
+        return snapshot != null || pending != null;
+    }
+
+    /**
+     * Returns true once the final model is built and published. Unlike {@link #isSet()}, this is
+     * false after a lazy init until the model or its rendered content is first asked for.
+     *
+     * @return {@code true} if the final model is built
+     */
+    public boolean isInitialized() {
+        return snapshot != null;
     }
 
     public synchronized void config(AsyncApiConfig config) {
@@ -110,7 +291,16 @@ public class AsyncApiDocument {
     }
 
     public void filter(AAIFilter filter) {
-        set(() -> this.filter = filter);
+        filters(filter == null ? null : Collections.singletonList(filter));
+    }
+
+    /**
+     * Sets the filters configured by the app, applied in the given order.
+     *
+     * @param filters the filters, may be null or empty
+     */
+    public void filters(List<AAIFilter> filters) {
+        set(() -> this.filters = filters);
     }
 
     public void archiveName(String archiveName) {
@@ -119,7 +309,7 @@ public class AsyncApiDocument {
 
     public void initialize() {
         synchronized (INSTANCE) {
-            if (model != null) {
+            if (isSet()) {
                 modelAlreadyInitialized();
             }
             // Check all the required parts are set
@@ -127,25 +317,95 @@ public class AsyncApiDocument {
                 throw new IllegalStateException("AsyncApiConfig must be set before init");
             }
 
-            // Phase 1: Use AAIModelReader
-            Document merged = readerModel;
+            AsyncApiConfig config = this.config;
+            Document readerModel = this.readerModel;
+            Document staticFileModel = this.staticFileModel;
+            Document annotationsModel = this.annotationsModel;
+            List<AAIFilter> filters = this.filters;
+            String archiveName = this.archiveName;
+            Supplier<Snapshot> init = () -> new Snapshot(
+                    build(config, readerModel, staticFileModel, annotationsModel, filters, archiveName),
+                    config.releaseModelEnable(), new Caches(config));
+            if (config.lazyInitEnable()) {
+                pending = init;
+            } else {
+                snapshot = init.get();
+            }
+            clear();
+        }
+    }
+
+    /**
+     * Initialize the final model from a document generated at build time, as rendered in each
+     * format. Nothing is scanned, merged or filtered: the rendered content is served as is, and
+     * the model is only read from the binary (or else JSON) content when first asked for. A format
+     * missing from the given content is rendered from the model when first asked for.
+     *
+     * @param generated the rendered content of the generated document, by format, must include JSON
+     */
+    public void initialize(Map<AsyncApiFormat, byte[]> generated) {
+        synchronized (INSTANCE) {
+            if (isSet()) {
+                modelAlreadyInitialized();
+            }
+            snapshot = new Snapshot(generated, Caches.DEFAULTS);
+            clear();
+        }
+    }
+
+    /**
+     * Replaces the published model with the given one. Unlike {@link #initialize()}, this may be
+     * called any number of times. As with {@link #initialize()}, the config decides whether the
+     * model is released once rendered and how many derived documents are cached.
+     *
+     * @param model the final AsyncAPI model
+     * @param config AsyncApiConfig
+     */
+    void publish(Document model, AsyncApiConfig config) {
+        Snapshot next = new Snapshot(model, config.releaseModelEnable(), new Caches(config));
+        synchronized (INSTANCE) {
+            snapshot = next;
+            pending = null;
+        }
+    }
+
+    /**
+     * Builds the final model from the models of the individual sources. The given models are
+     * modified in the process.
+     */
+    static Document build(AsyncApiConfig config, Document readerModel, Document staticFileModel,
+            Document annotationsModel, List<AAIFilter> filters, String archiveName) {
+        // Phase 1: Use AAIModelReader (timed as AsyncApiPhase.MODEL_READER when the reader runs)
+        Document merged = readerModel;
 
-            // Phase 2: Merge any static AsyncAPI file packaged in the app
-            merged = MergeUtil.mergeObjects(merged, staticFileModel);
+        // Phase 2: Merge any static AsyncAPI file packaged in the app
+        merged = merge(AsyncApiPhase.MERGE_STATIC_FILE, merged, staticFileModel, config);
 
-            // Phase 3: Merge annotations
-            merged = MergeUtil.mergeObjects(merged, annotationsModel);
+        // Phase 3: Merge annotations
+        merged = merge(AsyncApiPhase.MERGE_ANNOTATIONS, merged, annotationsModel, config);
 
-            // Phase 4: Filter model via AAIFilter
-            merged = filterModel(merged);
+        // Phase 4: Filter model via AAIFilter
+        TimingUtil.Timer timer = TimingUtil.start(AsyncApiPhase.FILTER);
+        try {
+            merged = filterModel(filters, merged, config);
+        } finally {
+            timer.stop();
+        }
 
-            // Phase 5: Default empty document if model == null
+        // Phase 5: Default empty document if model == null
+        timer = TimingUtil.start(AsyncApiPhase.DEFAULT_DOCUMENT);
+        try {
             if (merged == null) {
                 merged = new Aai20Document();
                 ((Aai20Document) merged).asyncapi = AsyncApiConstants.ASYNC_API_VERSION;
             }
+        } finally {
+            timer.stop();
+        }
 
-            // Phase 6: Provide missing required elements
+        // Phase 6: Provide missing required elements
+        timer = TimingUtil.start(AsyncApiPhase.REQUIRED_ELEMENTS);
+        try {
             Aai20Document mergedAai = (Aai20Document) merged;
             if (mergedAai.info == null) {
                 mergedAai.info = mergedAai.createInfo();
@@ -156,37 +416,92 @@ public class AsyncApiDocument {
             if (mergedAai.info.version == null) {
                 mergedAai.info.version = "1.0";
             }
+        } finally {
+            timer.stop();
+        }
 
-            // Phase 7: Use Config values to add Servers (global, pathItem, operation)
+        // Phase 7: Use Config values to add Servers (global, pathItem, operation)
+        timer = TimingUtil.start(AsyncApiPhase.SERVERS);
+        try {
             ServersUtil.configureServers(config, merged);
+            timer.countChannels(merged);
+        } finally {
+            timer.stop();
+        }
 
-            model = merged;
-            clear();
+        return merged;
+    }
+
+    private static Document merge(AsyncApiPhase phase, Document merged, Document model, AsyncApiConfig config) {
+        TimingUtil.Timer timer = TimingUtil.start(phase);
+        try {
+            return MergeUtil.merge(merged, model, config.mergeParallelThreshold(),
+                    timer.counter(AsyncApiPhaseCounter.NODES_MERGED));
+        } finally {
+            timer.stop();
         }
     }
 
     /**
-     * Filter the final model using a {@link AAIFilter} configured by the app. If no filter has been configured, this will
-     * simply return the model unchanged.
+     * Filter the final model using the {@link AAIFilter}s configured by the app. If no filter has been configured, this
+     * will simply return the model unchanged.
      *
+     * @param filters
      * @param model
+     * @param config
      */
-    private Document filterModel(Document model) {
-        if (model == null || filter == null) {
+    private static Document filterModel(List<AAIFilter> filters, Document model, AsyncApiConfig config) {
+        if (model == null || filters == null || filters.isEmpty()) {
             return model;
         }
-        return FilterUtil.applyFilter(filter, model);
+        return FilterUtil.applyFilters(filters, model, config.filterParallelThreshold());
     }
 
     private void set(Runnable action) {
         synchronized (INSTANCE) {
-            if (model != null) {
+            if (isSet()) {
                 modelAlreadyInitialized();
             }
             action.run();
         }
     }
 
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = materialize();
+        }
+        return current;
+    }
+
+    /**
+     * Runs the phases recorded by a lazy init, once. Concurrent callers wait for the first one and
+     * share its result. The phases modify the models they merge, so they cannot be run again: if
+     * they fail, the failure is reported to every later caller, until the holder is reset.
+     */
+    private Snapshot materialize() {
+        synchronized (INSTANCE) {
+            Snapshot current = snapshot;
+            if (current == null) {
+                Supplier<Snapshot> init = pending;
+                if (init == null) {
+                    throw new IllegalStateException("Model not initialized yet");
+                }
+                try {
+                    current = init.get();
+                } catch (RuntimeException | Error e) {
+                    pending = () -> {
+                        throw new IllegalStateException("Model initialization failed", e);
+                    };
+                    throw e;
+                }
+                snapshot = current;
+                pending = null;
+            }
+            return current;
+        }
+    }
+
     private void modelAlreadyInitialized() {
         throw new IllegalStateException("Model already initialized");
     }
@@ -196,8 +511,271 @@ public class AsyncApiDocument {
         annotationsModel = null;
         readerModel = null;
         staticFileModel = null;
-        filter = null;
+        filters = null;
         archiveName = null;
     }
 
+    /**
+     * The final model together with its rendered forms, published as a unit. The filtered views and
+     * slices of the model are cached here too, so they are dropped along with it.
+     */
+    private static final class Snapshot {
+        // Null when the model is released
+        private final Document model;
+        // The released model once read back, kept until the memory is needed
+        private volatile SoftReference<Document> readBack;
+        // Read without locking, rendered on first use under the lock of the array
+        private final AtomicReferenceArray<AsyncApiRenderedDocument> rendered = new AtomicReferenceArray<>(
+                AsyncApiFormat.values().length);
+        private final Caches caches;
+        private final Map<List<Object>, View> views;
+        private final Map<List<String>, View> slices;
+        private volatile ChannelSlicer slicer;
+        private volatile ReferenceIndex references;
+
+        private Snapshot(Document model, boolean releaseModel, Caches caches) {
+            // The other formats are rendered when first asked for, most apps only ever serve one
+            rendered.set(AsyncApiFormat.JSON.ordinal(), AsyncApiRenderedDocument.render(model, AsyncApiFormat.JSON));
+            this.model = releaseModel ? null : model;
+            // A released model would be kept alive by its index
+            this.references = releaseModel ? null : index(model);
+            this.caches = caches;
+            this.views = newCache(caches.viewsCacheSize);
+            this.slices = newCache(caches.slicesCacheSize);
+        }
+
+        private Snapshot(Map<AsyncApiFormat, byte[]> generated, Caches caches) {
+            this.model = null;
+            this.caches = caches;
+            this.views = newCache(caches.viewsCacheSize);
+            this.slices = newCache(caches.slicesCacheSize);
+            if (!generated.containsKey(AsyncApiFormat.JSON)) {
+                throw new IllegalArgumentException("The generated document must include the JSON format");
+            }
+            for (Map.Entry<AsyncApiFormat, byte[]> entry : generated.entrySet()) {
+                rendered.set(entry.getKey().ordinal(), new AsyncApiRenderedDocument(entry.getKey(), entry.getValue()));
+            }
+        }
+
+        /**
+         * Returns the model, reading it from the rendered content if it was not kept. The model read
+         * back is only referenced softly, so it is read again if its memory was reclaimed since.
+         */
+        private Document model() {
+            if (model != null) {
+                return model;
+            }
+            Document current = softModel();
+            if (current == null) {
+                synchronized (rendered) {
+                    current = softModel();
+                    if (current == null) {
+                        current = readModel();
+                        readBack = new SoftReference<>(current);
+                    }
+                }
+            }
+            return current;
+        }
+
+        private Document softModel() {
+            SoftReference<Document> current = readBack;
+            return current == null ? null : current.get();
+        }
+
+        /**
+         * Reads the model from the rendered content. The binary form is preferred since it is the
+         * fastest to read.
+         */
+        private Document readModel() {
+            AsyncApiRenderedDocument binary = rendered.get(AsyncApiFormat.BINARY.ordinal());
+            if (binary != null) {
+                return AsyncApiParser.parseBinary(ByteBuffer.wrap(binary.toByteArray()));
+            }
+            return AsyncApiParser.parseJson(
+                    new ByteArrayInputStream(rendered.get(AsyncApiFormat.JSON.ordinal()).toByteArray()));
+        }
+
+        /**
+         * Returns the content rendered in the given format. A format that was not rendered yet is
+         * rendered from the model on first use, exactly once. A released model is read back for
+         * that, and only kept softly.
+         */
+        private AsyncApiRenderedDocument rendered(AsyncApiFormat format) {
+            AsyncApiRenderedDocument current = rendered.get(format.ordinal());
+            if (current == null) {
+                synchronized (rendered) {
+                    current = rendered.get(format.ordinal());
+                    if (current == null) {
+                        current = AsyncApiRenderedDocument.render(model(), format);
+                        rendered.set(format.ordinal(), current);
+                    }
+                }
+            }
+            return current;
+        }
+
+        /**
+         * Returns the view cached for the given variant and classes of filters, adding one for the
+         * given filters if there is none. The view is derived outside of the cache lock, when first
+         * asked for.
+         */
+        private View view(String variant, List<AAIFilter> filters) {
+            List<Object> key = new ArrayList<>(filters.size() + 1);
+            key.add(variant);
+            for (AAIFilter filter : filters) {
+                key.add(filter.getClass());
+            }
+            return cached(views, key,
+                    () -> new View(() -> FilterUtil.filteredView(filters, model(), caches.filterParallelThreshold)));
+        }
+
+        /**
+         * Returns the slice cached for the given channels, whatever their order, adding one if there
+         * is none. The slice is cut outside of the cache lock, when first asked for. Unknown channels
+         * are rejected before anything is cached.
+         */
+        private View slice(Collection<String> channels) {
+            ChannelSlicer slicer = slicer();
+            for (String channel : channels) {
+                if (!slicer.channels().contains(channel)) {
+                    throw new IllegalArgumentException("Unknown channel: " + channel);
+                }
+            }
+            List<String> key = new ArrayList<>(new TreeSet<>(channels));
+            return cached(slices, key, () -> new View(() -> slicer.slice(key)));
+        }
+
+        /**
+         * Returns the reference index of the model, building it on first use if it was not built
+         * along with the snapshot.
+         */
+        private ReferenceIndex references() {
+            ReferenceIndex current = references;
+            if (current == null) {
+                synchronized (this) {
+                    current = references;
+                    if (current == null) {
+                        current = index(model());
+                        references = current;
+                    }
+                }
+            }
+            return current;
+        }
+
+        private static ReferenceIndex index(Document model) {
+            TimingUtil.Timer timer = TimingUtil.start(AsyncApiPhase.REFERENCE_INDEX);
+            try {
+                return new ReferenceIndex(model);
+            } finally {
+                timer.stop();
+            }
+        }
+
+        /**
+         * Returns the slicer of the model, resolving the references of the model on first use.
+         */
+        private ChannelSlicer slicer() {
+            ChannelSlicer current = slicer;
+            if (current == null) {
+                synchronized (this) {
+                    current = slicer;
+                    if (current == null) {
+                        current = new ChannelSlicer(model());
+                        slicer = current;
+                    }
+                }
+            }
+            return current;
+        }
+
+        private static <K> View cached(Map<K, View> cache, K key, Supplier<View> view) {
+            if (cache == null) {
+                return view.get();
+            }
+            synchronized (cache) {
+                return cache.computeIfAbsent(key, k -> view.get());
+            }
+        }
+
+        /**
+         * Returns a least recently used cache of the given size, or null if the size disables it.
+         */
+        private static <K> Map<K, View> newCache(int size) {
+            if (size <= 0) {
+                return null;
+            }
+            return new LinkedHashMap<K, View>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, View> eldest) {
+                    return size() > size;
+                }
+            };
+        }
+    }
+
+    /**
+     * The sizes of the caches of a snapshot, from the configuration of the app.
+     */
+    private static final class Caches {
+        private static final Caches DEFAULTS = new Caches(16, 64, 32);
+
+        private final int viewsCacheSize;
+        private final int slicesCacheSize;
+        private final int filterParallelThreshold;
+
+        private Caches(AsyncApiConfig config) {
+            this(config.filteredViewsCacheSize(), config.slicesCacheSize(), config.filterParallelThreshold());
+        }
+
+        private Caches(int viewsCacheSize, int slicesCacheSize, int filterParallelThreshold) {
+            this.viewsCacheSize = viewsCacheSize;
+            this.slicesCacheSize = slicesCacheSize;
+            this.filterParallelThreshold = filterParallelThreshold;
+        }
+    }
+
+    /**
+     * A document derived from the final model, such as a filtered view or a slice, derived and
+     * rendered on first use.
+     */
+    private static final class View {
+        private final Supplier<Document> derive;
+        private volatile Document model;
+        private final AtomicReferenceArray<AsyncApiRenderedDocument> rendered = new AtomicReferenceArray<>(
+                AsyncApiFormat.values().length);
+
+        private View(Supplier<Document> derive) {
+            this.derive = derive;
+        }
+
+        private Document model() {
+            Document current = model;
+            if (current == null) {
+                synchronized (this) {
+                    current = model;
+                    if (current == null) {
+                        current = derive.get();
+                        model = current;
+                    }
+                }
+            }
+            return current;
+        }
+
+        private AsyncApiRenderedDocument rendered(AsyncApiFormat format) {
+            AsyncApiRenderedDocument current = rendered.get(format.ordinal());
+            if (current == null) {
+                current = AsyncApiRenderedDocument.render(model(), format);
+                if (!rendered.compareAndSet(format.ordinal(), null, current)) {
+                    current = rendered.get(format.ordinal());
+                }
+            }
+            return current;
+        }
+    }
+
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.logging.Logger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.apicurio.datamodels.core.models.Document;
+import io.smallrye.asyncapi.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.runtime.AsyncApiProcessor;
+import io.smallrye.asyncapi.runtime.AsyncApiStaticFile;
+import io.smallrye.asyncapi.runtime.io.AsyncApiParser;
+import io.smallrye.asyncapi.runtime.scanner.AsyncApiAnnotationScanner;
+
+/**
+ * Rebuilds the final AsyncAPI document of a running app whenever its inputs change, for example on
+ * each hot reload in dev mode, and publishes it to an {@link AsyncApiDocument}.
+ *
+ * <p>
+ * The builder remembers the inputs of the previous build and only redoes the work that depends on
+ * what changed:
+ * </p>
+ * <ul>
+ * <li>the static file is only parsed again when the hash of its content changed,</li>
+ * <li>the annotations are only scanned again for the channels declared by, or depending on, the
+ * changed classes (see {@link AsyncApiAnnotationScanner#rescan(IndexView, Collection)}),</li>
+ * <li>the model reader and the filter are application code and always run again, as do the merge
+ * and the phases that follow it, since they work on the merged model.</li>
+ * </ul>
+ *
+ * <p>
+ * A change of the scan configuration (the scanned and excluded packages, classes and dependency
+ * jars, or the schema references setting), or of the configured schema registry class, makes the
+ * annotations be scanned from scratch.
+ * </p>
+ */
+public class AsyncApiIncrementalBuilder {
+    private static final Logger LOG = Logger.getLogger(AsyncApiIncrementalBuilder.class);
+
+    private final AsyncApiDocument document;
+
+    private byte[] staticFileHash;
+    private AsyncApiFormat staticFileFormat;
+    private JsonNode staticFileTree;
+
+    private AsyncApiAnnotationScanner scanner;
+    private List<Object> scannerSettings;
+
+    /**
+     * Constructor, publishing to {@link AsyncApiDocument#INSTANCE}.
+     */
+    public AsyncApiIncrementalBuilder() {
+        this(AsyncApiDocument.INSTANCE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param document the AsyncApiDocument to publish the rebuilt models to
+     */
+    public AsyncApiIncrementalBuilder(AsyncApiDocument document) {
+        this.document = document;
+    }
+
+    /**
+     * Builds the final model from the current inputs of the app, reusing whatever is unaffected
+     * from the previous build, and publishes it. Note that this method does NOT close the static
+     * file. The caller is responsible for that.
+     *
+     * @param config AsyncApiConfig
+     * @param index IndexView of the current version of the deployment
+     * @param changedClasses the names of the classes added, changed or removed since the previous
+     *        build, or null if unknown, in which case the annotations are scanned from scratch
+     * @param staticFile the static file packaged in the app, may be null
+     * @param loader ClassLoader used to load the model reader, filter and schema registry
+     * @param archiveName name of the deployment, may be null
+     * @return the published model
+     */
+    public synchronized Document rebuild(AsyncApiConfig config, IndexView index, Collection<String> changedClasses,
+            AsyncApiStaticFile staticFile, ClassLoader loader, String archiveName) {
+        Document readerModel = AsyncApiProcessor.modelFromReader(config, loader);
+        Document staticFileModel = staticFileModel(staticFile);
+        Document annotationsModel = annotationsModel(config, index, changedClasses, loader);
+
+        Document model = AsyncApiDocument.build(config, readerModel, staticFileModel, annotationsModel,
+                AsyncApiProcessor.getFilters(config, loader), archiveName);
+        document.publish(model, config);
+        return model;
+    }
+
+    /**
+     * Returns the model of the given static file. The file is only parsed again if its content or
+     * format changed since the previous build.
+     */
+    private Document staticFileModel(AsyncApiStaticFile staticFile) {
+        if (staticFile == null || staticFile.getContent() == null) {
+            staticFileHash = null;
+            staticFileFormat = null;
+            staticFileTree = null;
+            return null;
+        }
+
+        byte[] content;
+        try {
+            content = staticFile.getContent().readAllBytes();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        byte[] hash = sha256(content);
+        if (staticFileTree == null || staticFile.getFormat() != staticFileFormat
+                || !MessageDigest.isEqual(hash, staticFileHash)) {
+            staticFileTree = AsyncApiParser.parseTree(new ByteArrayInputStream(content), staticFile.getFormat());
+            staticFileFormat = staticFile.getFormat();
+            staticFileHash = hash;
+        } else {
+            LOG.debug("Static file unchanged, reusing its parsed content.");
+        }
+        return AsyncApiParser.readTree(staticFileTree);
+    }
+
+    /**
+     * Returns the model generated from the annotations, only scanning the parts of the deployment
+     * affected by the given changed classes when possible.
+     */
+    private Document annotationsModel(AsyncApiConfig config, IndexView index, Collection<String> changedClasses,
+            ClassLoader loader) {
+        if (config.scanDisable()) {
+            scanner = null;
+            scannerSettings = null;
+            return null;
+        }
+
+        // Everything in the config that decides which classes are scanned, or how
+        List<Object> settings = Arrays.asList(config.scanPackages(), config.scanClasses(),
+                config.scanExcludePackages(), config.scanExcludeClasses(), config.scanDependenciesDisable(),
+                config.scanDependenciesJars(), config.schemaReferencesEnable(), config.customSchemaRegistryClass());
+        List<DotName> changed = null;
+        if (changedClasses != null) {
+            changed = new ArrayList<>(changedClasses.size());
+            for (String className : changedClasses) {
+                changed.add(DotName.createSimple(className));
+            }
+        }
+        if (scanner == null || changed == null || !Objects.equals(settings, scannerSettings)
+                || (config.customSchemaRegistryClass() != null
+                        && changedClasses.contains(config.customSchemaRegistryClass()))) {
+            scanner = new AsyncApiAnnotationScanner(config, index, AsyncApiProcessor.getSchemaRegistry(config, loader));
+            scannerSettings = settings;
+            changed = null;
+        }
+        return scanner.rescan(index, changed);
+    }
+
+    private static byte[] sha256(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.api;
+
+/**
+ * The phases of the production of the final AsyncAPI document, as reported to
+ * {@link AsyncApiPhaseListener}s.
+ */
+public enum AsyncApiPhase {
+
+    /**
+     * Indexing the classes of the deployment. Counts {@link AsyncApiPhaseCounter#CLASSES_INDEXED} and
+     * {@link AsyncApiPhaseCounter#JARS_OPENED}.
+     */
+    INDEX,
+    /**
+     * Phase 1: invoking the model reader of the app. Counts {@link AsyncApiPhaseCounter#CHANNELS}.
+     */
+    MODEL_READER,
+    /**
+     * Parsing the static file packaged in the app. Counts {@link AsyncApiPhaseCounter#CHANNELS}.
+     */
+    STATIC_FILE,
+    /**
+     * Scanning the deployment for annotations. Counts {@link AsyncApiPhaseCounter#CHANNELS}.
+     */
+    ANNOTATIONS,
+    /**
+     * Phase 2: merging the static file model. Counts {@link AsyncApiPhaseCounter#NODES_MERGED}.
+     */
+    MERGE_STATIC_FILE,
+    /**
+     * Phase 3: merging the annotations model. Counts {@link AsyncApiPhaseCounter#NODES_MERGED}.
+     */
+    MERGE_ANNOTATIONS,
+    /**
+     * Phase 4: filtering the model with the filter of the app.
+     */
+    FILTER,
+    /**
+     * Phase 5: creating an empty document when no source produced a model.
+     */
+    DEFAULT_DOCUMENT,
+    /**
+     * Phase 6: providing the missing required elements.
+     */
+    REQUIRED_ELEMENTS,
+    /**
+     * Phase 7: adding the configured servers. Counts {@link AsyncApiPhaseCounter#CHANNELS} of the
+     * final document.
+     */
+    SERVERS,
+    /**
+     * Indexing the nodes and references of the final document, see
+     * {@link AsyncApiDocument#getReferenceIndex()}.
+     */
+    REFERENCE_INDEX
+
+}
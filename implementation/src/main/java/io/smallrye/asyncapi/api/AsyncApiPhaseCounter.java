@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.api;
+
+/**
+ * The quantities counted during an {@link AsyncApiPhase}.
+ */
+public enum AsyncApiPhaseCounter {
+
+    /**
+     * The classes in the index, including those of pre-built and cached indexes.
+     */
+    CLASSES_INDEXED,
+    /**
+     * The jars opened to be indexed, nested jars included.
+     */
+    JARS_OPENED,
+    /**
+     * The nodes present in both merged models, whose fields had to be merged.
+     */
+    NODES_MERGED,
+    /**
+     * The channels of the model produced by the phase.
+     */
+    CHANNELS
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.api;
+
+import java.util.Map;
+
+import io.smallrye.asyncapi.api.util.TimingUtil;
+
+/**
+ * Notified of the duration, allocations and counters of each {@link AsyncApiPhase}, for example to
+ * record the startup cost of the AsyncAPI document in production.
+ *
+ * Listeners are discovered with the {@link java.util.ServiceLoader} of this class, or registered
+ * with {@link TimingUtil#addListener(AsyncApiPhaseListener)}. They are invoked on the thread that
+ * ran the phase, and must be thread safe since phases may run concurrently.
+ *
+ * The same information is also recorded as a JFR event named io.smallrye.asyncapi.Phase, when JFR
+ * is available and recording it.
+ */
+public interface AsyncApiPhaseListener {
+
+    /**
+     * Called when a phase completed, successfully or not.
+     *
+     * @param phase the phase
+     * @param durationNanos the wall clock duration of the phase, in nanoseconds
+     * @param allocatedBytes the bytes allocated by the thread that ran the phase and by the workers it
+     *        handed parts of the phase to, or -1 if the JVM does not measure allocations
+     * @param counters the quantities counted during the phase, see {@link AsyncApiPhase}
+     */
+    void phaseCompleted(AsyncApiPhase phase, long durationNanos, long allocatedBytes,
+            Map<AsyncApiPhaseCounter, Long> counters);
+
+}
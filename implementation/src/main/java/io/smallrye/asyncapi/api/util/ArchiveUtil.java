@@ -17,26 +17,52 @@
 package io.smallrye.asyncapi.api.util;
 
 import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import org.eclipse.microprofile.config.ConfigProvider;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.ClassSummary;
+import org.jboss.jandex.CompositeIndex;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
 import org.jboss.jandex.IndexView;
 import org.jboss.jandex.Indexer;
 import org.jboss.logging.Logger;
 import org.jboss.shrinkwrap.api.Archive;
 import org.jboss.shrinkwrap.api.ArchivePath;
 import org.jboss.shrinkwrap.api.Node;
-import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.FileAsset;
 import org.jboss.shrinkwrap.api.classloader.ShrinkWrapClassLoader;
-import org.jboss.shrinkwrap.api.importer.ZipImporter;
-import org.jboss.shrinkwrap.api.spec.JavaArchive;
 
 import io.smallrye.asyncapi.api.AsyncApiConfig;
 import io.smallrye.asyncapi.api.AsyncApiConfigImpl;
 import io.smallrye.asyncapi.api.AsyncApiConstants;
+import io.smallrye.asyncapi.api.AsyncApiPhase;
+import io.smallrye.asyncapi.api.AsyncApiPhaseCounter;
 import io.smallrye.asyncapi.runtime.AsyncApiFormat;
 import io.smallrye.asyncapi.runtime.AsyncApiStaticFile;
 
@@ -79,10 +105,18 @@ public class ArchiveUtil {
      */
     public static AsyncApiStaticFile archiveToStaticFile(Archive<?> archive) {
         AsyncApiStaticFile rval = new AsyncApiStaticFile();
-        rval.setFormat(AsyncApiFormat.YAML);
+        rval.setFormat(AsyncApiFormat.BINARY);
 
-        // Check for the file in both META-INF and WEB-INF/classes/META-INF
-        Node node = archive.get("/META-INF/asyncapi.yaml");
+        // Check for the file in both META-INF and WEB-INF/classes/META-INF, the binary form first
+        // since it is the fastest to read
+        Node node = archive.get("/META-INF/asyncapi.bin");
+        if (node == null) {
+            node = archive.get("/WEB-INF/classes/META-INF/asyncapi.bin");
+        }
+        if (node == null) {
+            node = archive.get("/META-INF/asyncapi.yaml");
+            rval.setFormat(AsyncApiFormat.YAML);
+        }
         if (node == null) {
             node = archive.get("/WEB-INF/classes/META-INF/asyncapi.yaml");
         }
@@ -105,13 +139,57 @@ public class ArchiveUtil {
             return null;
         }
 
-        rval.setContent(node.getAsset().openStream());
+        Asset asset = node.getAsset();
+        if (asset instanceof FileAsset) {
+            // The asset lives on disk, so hand the parser a mapping of the file instead of a copy
+            rval.setContent(IOUtil.openMapped(((FileAsset) asset).getSource()));
+        } else {
+            rval.setContent(asset.openStream());
+        }
 
         return rval;
     }
 
     /**
-     * Index the ShrinkWrap archive to produce a jandex index.
+     * Finds the AsyncAPI document generated at build time (see {@link AsyncApiConstants#GENERATED_DOCUMENT_JSON})
+     * in the deployment and returns its content by format. If not found, returns null, in which case the
+     * document has to be built from the deployment.
+     *
+     * @param archive Shrinkwrap Archive instance
+     * @return the generated document content by format, or null
+     */
+    public static Map<AsyncApiFormat, byte[]> archiveToGeneratedDocument(Archive<?> archive) {
+        Map<AsyncApiFormat, byte[]> generated = new EnumMap<>(AsyncApiFormat.class);
+        for (String prefix : new String[] { "", "/WEB-INF/classes" }) {
+            addGeneratedContent(archive, prefix + AsyncApiConstants.GENERATED_DOCUMENT_JSON, AsyncApiFormat.JSON, generated);
+            addGeneratedContent(archive, prefix + AsyncApiConstants.GENERATED_DOCUMENT_YAML, AsyncApiFormat.YAML, generated);
+            addGeneratedContent(archive, prefix + AsyncApiConstants.GENERATED_DOCUMENT_BINARY, AsyncApiFormat.BINARY,
+                    generated);
+            if (!generated.isEmpty()) {
+                break;
+            }
+        }
+        return generated.containsKey(AsyncApiFormat.JSON) ? generated : null;
+    }
+
+    private static void addGeneratedContent(Archive<?> archive, String path, AsyncApiFormat format,
+            Map<AsyncApiFormat, byte[]> generated) {
+        Node node = archive.get(path);
+        if (node == null || node.getAsset() == null) {
+            return;
+        }
+        try (InputStream content = node.getAsset().openStream()) {
+            generated.put(format, content.readAllBytes());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Index the ShrinkWrap archive to produce a jandex index. When the configured scan parallelism
+     * is greater than one, the classes and nested jars of the archive are indexed concurrently.
+     * When an index cache directory is configured, the result is stored there keyed by the
+     * entries of the archive, and read back instead of scanning the archive again.
      *
      * @param config AsyncApiConfig
      * @param archive Shrinkwrap Archive
@@ -122,44 +200,338 @@ public class ArchiveUtil {
             throw new RuntimeException("Archive was null!");
         }
 
-        Indexer indexer = new Indexer();
-        indexArchive(config, indexer, archive);
-        return indexer.complete();
+        TimingUtil.Timer timer = TimingUtil.start(AsyncApiPhase.INDEX);
+        try {
+            IndexView index = archiveToIndex(config, archive, timer);
+            if (timer.isEnabled()) {
+                timer.count(AsyncApiPhaseCounter.CLASSES_INDEXED, index.getKnownClasses().size());
+            }
+            return index;
+        } finally {
+            timer.stop();
+        }
+    }
+
+    private static IndexView archiveToIndex(AsyncApiConfig config, Archive<?> archive, TimingUtil.Timer timer) {
+        String indexCacheDir = config.indexCacheDir();
+        if (indexCacheDir == null) {
+            return toIndexView(indexArchive(config, archive, timer));
+        }
+
+        Path cacheDir = Paths.get(indexCacheDir);
+        Path cacheFile = cacheDir.resolve(IndexCacheUtil.cacheKey(config, archive) + IndexCacheUtil.CACHE_FILE_SUFFIX);
+        List<Index> indexes = IndexCacheUtil.read(cacheFile);
+        if (indexes != null) {
+            LOG.debugv("Using cached index: {0} for archive: {1}", cacheFile, archive.getName());
+            return toIndexView(indexes);
+        }
+        indexes = indexArchive(config, archive, timer);
+        IndexCacheUtil.write(cacheFile, indexes);
+        IndexCacheUtil.evict(cacheDir, config.indexCacheMaxEntries());
+        return toIndexView(indexes);
+    }
+
+    /**
+     * Combines the given indexes into a single view.
+     *
+     * @param indexes
+     */
+    private static IndexView toIndexView(List<Index> indexes) {
+        if (indexes.size() == 1) {
+            return indexes.get(0);
+        }
+        return CompositeIndex.create(new ArrayList<IndexView>(indexes));
+    }
+
+    /**
+     * Indexes the given archive, either sequentially or in parallel depending on the configured
+     * scan parallelism. Returns the scanned index followed by any pre-built indexes found in
+     * nested jars.
+     *
+     * @param config
+     * @param archive
+     * @param timer counts the opened jars
+     */
+    private static List<Index> indexArchive(AsyncApiConfig config, Archive<?> archive, TimingUtil.Timer timer) {
+        ClassNameMatcher matcher = ClassNameMatcher.of(config);
+        int parallelism = config.scanParallelism();
+        if (parallelism > 1) {
+            return indexArchiveInParallel(config, matcher, archive, parallelism, timer);
+        }
+
+        ScannedClasses scanned = new ScannedClasses();
+        List<Index> indexes = new ArrayList<>();
+        indexArchive(config, matcher, scanned, archive, indexes, timer);
+        indexes.add(0, lastCopies(Collections.singletonList(scanned)));
+        return indexes;
     }
 
     /**
      * Indexes the given archive.
      *
      * @param config
-     * @param indexer
+     * @param matcher
+     * @param scanned
+     * @param archive
+     * @param prebuilt collects the pre-built indexes of nested jars
+     * @param timer counts the opened jars
+     */
+    private static void indexArchive(AsyncApiConfig config, ClassNameMatcher matcher, ScannedClasses scanned,
+            Archive<?> archive, List<Index> prebuilt, TimingUtil.Timer timer) {
+        int position = 0;
+        for (Map.Entry<ArchivePath, Node> each : archive.getContent().entrySet()) {
+            scanned.startEntry(position++);
+            indexEntry(config, matcher, scanned, archive, each, prebuilt, timer);
+        }
+    }
+
+    /**
+     * Indexes the given archive using a fixed pool of workers. The class and nested jar entries
+     * of the archive are put on a shared queue, and each worker drains the queue into its own
+     * {@link Indexer}. The classes are then combined as a single indexer would have: when the
+     * same class was found more than once, the last copy in archive order is kept.
+     *
+     * @param config
+     * @param matcher
      * @param archive
+     * @param parallelism
+     * @param timer counts the opened jars
      */
-    private static void indexArchive(AsyncApiConfig config, Indexer indexer, Archive<?> archive) {
-        Map<ArchivePath, Node> c = archive.getContent();
+    private static List<Index> indexArchiveInParallel(AsyncApiConfig config, ClassNameMatcher matcher, Archive<?> archive,
+            int parallelism, TimingUtil.Timer timer) {
+        // The entries keep their position in the archive, so that the workers can tell which copy comes last
+        Queue<Map.Entry<Integer, Map.Entry<ArchivePath, Node>>> work = new ConcurrentLinkedQueue<>();
+        int position = 0;
+        for (Map.Entry<ArchivePath, Node> each : archive.getContent().entrySet()) {
+            if (isIndexable(config, matcher, each.getKey().get())) {
+                work.add(new AbstractMap.SimpleImmutableEntry<>(position, each));
+            }
+            position++;
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "asyncapi-indexer-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
         try {
-            for (Map.Entry<ArchivePath, Node> each : c.entrySet()) {
-                ArchivePath archivePath = each.getKey();
-                if (archivePath.get().endsWith(AsyncApiConstants.CLASS_SUFFIX)
-                        && acceptClassForScanning(config, archivePath.get())) {
-                    try (InputStream contentStream = each.getValue().getAsset().openStream()) {
-                        LOG.debugv("Indexing asset: {0} from archive: {1}", archivePath.get(), archive.getName());
-                        indexer.index(contentStream);
-                    }
+            List<ScannedClasses> scans = new ArrayList<>(parallelism);
+            List<Future<List<Index>>> workers = new ArrayList<>(parallelism);
+            for (int i = 0; i < parallelism; i++) {
+                ScannedClasses scanned = new ScannedClasses();
+                scans.add(scanned);
+                workers.add(executor.submit(() -> {
+                    List<Index> prebuilt = new ArrayList<>();
+                    timer.worker(() -> {
+                        Map.Entry<Integer, Map.Entry<ArchivePath, Node>> each;
+                        while ((each = work.poll()) != null) {
+                            scanned.startEntry(each.getKey());
+                            indexEntry(config, matcher, scanned, archive, each.getValue(), prebuilt, timer);
+                        }
+                    });
+                    return prebuilt;
+                }));
+            }
+            List<Index> indexes = new ArrayList<>(parallelism);
+            for (Future<List<Index>> worker : workers) {
+                indexes.addAll(worker.get());
+            }
+            indexes.add(0, lastCopies(scans));
+            return indexes;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns true if the given archive path is a class or a nested jar that should be indexed.
+     *
+     * @param config
+     * @param matcher
+     * @param archivePath
+     */
+    private static boolean isIndexable(AsyncApiConfig config, ClassNameMatcher matcher, String archivePath) {
+        if (archivePath.endsWith(AsyncApiConstants.CLASS_SUFFIX)) {
+            return matcher.accept(archivePath);
+        }
+        if (archivePath.endsWith(AsyncApiConstants.JAR_SUFFIX)) {
+            return acceptJarForScanning(config, archivePath);
+        }
+        return false;
+    }
+
+    /**
+     * Indexes a single entry of the given archive: a class is indexed directly, a nested jar
+     * is streamed and either its pre-built index is used or its classes are indexed. Other
+     * entries are ignored.
+     *
+     * @param config
+     * @param matcher
+     * @param scanned
+     * @param archive
+     * @param each
+     * @param prebuilt collects the pre-built indexes of nested jars
+     * @param timer counts the opened jars
+     */
+    private static void indexEntry(AsyncApiConfig config, ClassNameMatcher matcher, ScannedClasses scanned,
+            Archive<?> archive, Map.Entry<ArchivePath, Node> each, List<Index> prebuilt, TimingUtil.Timer timer) {
+        ArchivePath archivePath = each.getKey();
+        try {
+            if (archivePath.get().endsWith(AsyncApiConstants.CLASS_SUFFIX)
+                    && matcher.accept(archivePath.get())) {
+                try (InputStream contentStream = each.getValue().getAsset().openStream()) {
+                    LOG.debugv("Indexing asset: {0} from archive: {1}", archivePath.get(), archive.getName());
+                    scanned.index(contentStream);
+                }
+                return;
+            }
+            if (archivePath.get().endsWith(AsyncApiConstants.JAR_SUFFIX)
+                    && acceptJarForScanning(config, archivePath.get())) {
+                try (InputStream contentStream = each.getValue().getAsset().openStream()) {
+                    indexJar(config, matcher, scanned, archivePath.get(), contentStream, prebuilt, timer);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Indexes a jar by streaming over its entries, so that only the accepted classes are ever read
+     * and the jar is never expanded into an archive. Nested jars are streamed the same way.
+     *
+     * A pre-built META-INF/jandex.idx is used instead of scanning the jar when it is found before
+     * any of the jar's classes (which is where jar tools put META-INF) and no class or package
+     * filters are configured, since the pre-built index covers every class of the jar.
+     *
+     * @param config
+     * @param matcher
+     * @param scanned
+     * @param jarName
+     * @param jarStream
+     * @param prebuilt collects the pre-built indexes of nested jars
+     * @param timer counts the opened jars
+     * @throws IOException
+     */
+    private static void indexJar(AsyncApiConfig config, ClassNameMatcher matcher, ScannedClasses scanned, String jarName,
+            InputStream jarStream, List<Index> prebuilt, TimingUtil.Timer timer) throws IOException {
+        timer.count(AsyncApiPhaseCounter.JARS_OPENED, 1);
+        try (ZipInputStream zip = new ZipInputStream(jarStream)) {
+            boolean indexed = false;
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.isDirectory()) {
                     continue;
                 }
-                if (archivePath.get().endsWith(AsyncApiConstants.JAR_SUFFIX)
-                        && acceptJarForScanning(config, archivePath.get())) {
-                    try (InputStream contentStream = each.getValue().getAsset().openStream()) {
-                        JavaArchive jarArchive = ShrinkWrap.create(JavaArchive.class, archivePath.get())
-                                .as(ZipImporter.class).importFrom(contentStream).as(JavaArchive.class);
-                        indexArchive(config, indexer, jarArchive);
+                // Use the same absolute form as the paths of a ShrinkWrap archive
+                String path = "/" + entry.getName();
+                if (path.endsWith(AsyncApiConstants.CLASS_SUFFIX)) {
+                    if (matcher.accept(path)) {
+                        LOG.debugv("Indexing asset: {0} from archive: {1}", path, jarName);
+                        scanned.index(new NonClosingInputStream(zip));
+                        indexed = true;
                     }
+                } else if (path.endsWith(AsyncApiConstants.JAR_SUFFIX)) {
+                    if (acceptJarForScanning(config, path)) {
+                        indexJar(config, matcher, scanned, path, new NonClosingInputStream(zip), prebuilt, timer);
+                    }
+                } else if (!indexed && path.equals(AsyncApiConstants.JANDEX_INDEX) && matcher.isEmpty()) {
+                    Index jarIndex = readJarIndex(jarName, zip);
+                    if (jarIndex != null) {
+                        prebuilt.add(jarIndex);
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads a pre-built jandex index from the given stream. Returns null when the index cannot be
+     * read (for example an unsupported index version), in which case the jar is scanned instead.
+     *
+     * @param jarName
+     * @param contentStream
+     */
+    private static Index readJarIndex(String jarName, InputStream contentStream) {
+        try {
+            LOG.debugv("Using pre-built index of archive: {0}", jarName);
+            return new IndexReader(new NonClosingInputStream(contentStream)).read();
+        } catch (IOException | RuntimeException e) {
+            LOG.debugv("Unable to read pre-built index of archive: {0}, scanning it instead", jarName);
+            return null;
+        }
+    }
+
+    /**
+     * Completes the given scans into a single index. When a class was found more than once (for
+     * example in WEB-INF/classes and in a jar of WEB-INF/lib), only its last copy in archive order
+     * is kept, with its annotations, the way a single {@link Indexer} keeps the last copy of a class.
+     * The index of a single scan without duplicates is returned as it is.
+     *
+     * @param scans
+     */
+    private static Index lastCopies(List<ScannedClasses> scans) {
+        Map<DotName, Long> positions = new HashMap<>();
+        boolean duplicates = false;
+        for (ScannedClasses scanned : scans) {
+            for (Map.Entry<DotName, Long> each : scanned.positions.entrySet()) {
+                duplicates |= positions.merge(each.getKey(), each.getValue(), Math::max) != each.getValue();
+            }
+            duplicates |= scanned.duplicates;
+        }
+        List<Index> indexes = new ArrayList<>(scans.size());
+        for (ScannedClasses scanned : scans) {
+            indexes.add(scanned.indexer.complete());
+        }
+        if (!duplicates && indexes.size() == 1) {
+            return indexes.get(0);
+        }
+
+        // Rebuild the index from the kept classes, with the same lookups as the Indexer builds
+        Map<DotName, ClassInfo> classes = new HashMap<>();
+        Map<DotName, List<AnnotationInstance>> annotations = new HashMap<>();
+        Map<DotName, List<ClassInfo>> subclasses = new HashMap<>();
+        Map<DotName, List<ClassInfo>> subinterfaces = new HashMap<>();
+        Map<DotName, List<ClassInfo>> implementors = new HashMap<>();
+        for (int i = 0; i < scans.size(); i++) {
+            for (Map.Entry<DotName, Long> each : scans.get(i).positions.entrySet()) {
+                if (!positions.get(each.getKey()).equals(each.getValue())) {
+                    continue;
+                }
+                // Within a scan, the index holds the last copy of the class
+                ClassInfo classInfo = indexes.get(i).getClassByName(each.getKey());
+                if (classInfo == null) {
+                    // A module-info, which the Indexer keeps out of the known classes
                     continue;
                 }
+                classes.put(classInfo.name(), classInfo);
+                for (Map.Entry<DotName, List<AnnotationInstance>> annotation : classInfo.annotationsMap().entrySet()) {
+                    annotations.computeIfAbsent(annotation.getKey(), k -> new ArrayList<>()).addAll(annotation.getValue());
+                }
+                if (classInfo.superName() != null) {
+                    subclasses.computeIfAbsent(classInfo.superName(), k -> new ArrayList<>()).add(classInfo);
+                }
+                for (DotName interfaceName : classInfo.interfaceNames()) {
+                    implementors.computeIfAbsent(interfaceName, k -> new ArrayList<>()).add(classInfo);
+                    if (classInfo.isInterface()) {
+                        subinterfaces.computeIfAbsent(interfaceName, k -> new ArrayList<>()).add(classInfo);
+                    }
+                }
             }
-        } catch (IOException e) {
-            throw new RuntimeException(e);
         }
+        // The users of each class (getKnownUsers) are not kept, nothing in the scan relies on them
+        return Index.create(annotations, subclasses, subinterfaces, implementors, classes, Collections.emptyMap());
     }
 
     /**
@@ -182,54 +554,44 @@ public class ArchiveUtil {
     }
 
     /**
-     * Returns true if the class represented by the given archive path should be included in
-     * the annotation index.
-     *
-     * @param config
-     * @param archivePath
+     * The classes indexed by a single {@link Indexer}, with the position in the archive of the
+     * last copy of each class: the position of the archive entry it was found in, and its order
+     * within that entry (which may be a jar).
      */
-    private static boolean acceptClassForScanning(AsyncApiConfig config, String archivePath) {
-        if (archivePath == null) {
-            return false;
-        }
+    private static final class ScannedClasses {
+        private final Indexer indexer = new Indexer();
+        private final Map<DotName, Long> positions = new HashMap<>();
+        private boolean duplicates;
+        private long entry;
+        private int ordinal;
 
-        Set<String> scanClasses = config.scanClasses();
-        Set<String> scanPackages = config.scanPackages();
-        Set<String> scanExcludeClasses = config.scanExcludeClasses();
-        Set<String> scanExcludePackages = config.scanExcludePackages();
-        if (scanClasses.isEmpty() && scanPackages.isEmpty() && scanExcludeClasses.isEmpty() && scanExcludePackages.isEmpty()) {
-            return true;
+        private void startEntry(int position) {
+            entry = (long) position << 32;
+            ordinal = 0;
         }
 
-        if (archivePath.startsWith(AsyncApiConstants.WEB_ARCHIVE_CLASS_PREFIX)) {
-            archivePath = archivePath.substring(AsyncApiConstants.WEB_ARCHIVE_CLASS_PREFIX.length());
-        }
-        String fqcn = archivePath.replaceAll("/", ".").substring(0, archivePath.lastIndexOf(AsyncApiConstants.CLASS_SUFFIX));
-        String packageName = "";
-        if (fqcn.contains(".")) {
-            int idx = fqcn.lastIndexOf(".");
-            packageName = fqcn.substring(0, idx);
+        private void index(InputStream content) throws IOException {
+            ClassSummary summary = indexer.indexWithSummary(content);
+            if (positions.put(summary.name(), entry | ordinal++) != null) {
+                duplicates = true;
+            }
         }
+    }
 
-        boolean accept;
-        // Includes
-        if (scanClasses.isEmpty() && scanPackages.isEmpty()) {
-            accept = true;
-        } else if (!scanClasses.isEmpty() && scanPackages.isEmpty()) {
-            accept = scanClasses.contains(fqcn);
-        } else if (scanClasses.isEmpty() && !scanPackages.isEmpty()) {
-            accept = scanPackages.contains(packageName);
-        } else {
-            accept = scanClasses.contains(fqcn) || scanPackages.contains(packageName);
-        }
-        // Excludes override includes
-        if (!scanExcludeClasses.isEmpty() && scanExcludeClasses.contains(fqcn)) {
-            accept = false;
+    /**
+     * Shields a shared stream (such as the {@link ZipInputStream} of a jar being indexed) from
+     * being closed by the consumer of a single entry.
+     */
+    private static class NonClosingInputStream extends FilterInputStream {
+
+        NonClosingInputStream(InputStream in) {
+            super(in);
         }
-        if (!scanExcludePackages.isEmpty() && scanExcludePackages.contains(packageName)) {
-            accept = false;
+
+        @Override
+        public void close() {
+            // the underlying stream is owned by the caller
         }
-        return accept;
     }
 
 }
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.api.util;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.core.models.Document;
+
+/**
+ * Cuts self-contained slices out of an AsyncAPI document: the given channels together with the
+ * components they reference, directly or through other components.
+ *
+ * <p>
+ * The references between the channels and the components of the document are resolved once, when
+ * the slicer is created, into a dependency graph of the components, and the components reachable
+ * from each channel are computed from it. Slicing then only copies the selected nodes.
+ * </p>
+ *
+ * <p>
+ * Everything in the document but the channels and the components (info, servers, tags, ...) is kept
+ * in each slice. So are all security schemes, since servers refer to them by name rather than by
+ * reference.
+ * </p>
+ */
+public class ChannelSlicer {
+
+    private static final String REF = "$ref";
+    private static final String COMPONENTS_REF_PREFIX = "#/components/";
+    private static final String CHANNELS = "channels";
+    private static final String COMPONENTS = "components";
+    private static final String SECURITY_SCHEMES = "securitySchemes";
+
+    private final ObjectNode document;
+    private final Map<String, Set<ComponentKey>> reachable;
+
+    /**
+     * Constructor, resolving the references of the given document. The document is not modified,
+     * and later changes to it are not seen by the slicer.
+     *
+     * @param model the document to slice
+     */
+    public ChannelSlicer(Document model) {
+        this.document = (ObjectNode) Library.writeNode(model);
+
+        Map<ComponentKey, Set<ComponentKey>> graph = new HashMap<>();
+        JsonNode components = document.path(COMPONENTS);
+        for (Iterator<Map.Entry<String, JsonNode>> types = components.fields(); types.hasNext();) {
+            Map.Entry<String, JsonNode> type = types.next();
+            for (Iterator<Map.Entry<String, JsonNode>> entries = type.getValue().fields(); entries.hasNext();) {
+                Map.Entry<String, JsonNode> entry = entries.next();
+                graph.put(new ComponentKey(type.getKey(), entry.getKey()), references(entry.getValue()));
+            }
+        }
+
+        Map<String, Set<ComponentKey>> reachable = new HashMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> channels = document.path(CHANNELS).fields(); channels.hasNext();) {
+            Map.Entry<String, JsonNode> channel = channels.next();
+            reachable.put(channel.getKey(), closure(references(channel.getValue()), graph));
+        }
+        this.reachable = reachable;
+    }
+
+    /**
+     * @return the names of the channels of the document
+     */
+    public Set<String> channels() {
+        return Collections.unmodifiableSet(reachable.keySet());
+    }
+
+    /**
+     * Returns the slice of the document holding the given channels, in the order of the document.
+     *
+     * @param channels names of the channels to keep
+     * @return a new document, to be treated as read only
+     * @throws IllegalArgumentException if one of the channels is not part of the document
+     */
+    public Document slice(Collection<String> channels) {
+        Set<String> selected = new HashSet<>(channels);
+        Set<ComponentKey> components = new LinkedHashSet<>();
+        for (String channel : selected) {
+            Set<ComponentKey> keys = reachable.get(channel);
+            if (keys == null) {
+                throw new IllegalArgumentException("Unknown channel: " + channel);
+            }
+            components.addAll(keys);
+        }
+
+        ObjectNode slice = JsonNodeFactory.instance.objectNode();
+        for (Iterator<Map.Entry<String, JsonNode>> fields = document.fields(); fields.hasNext();) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (CHANNELS.equals(field.getKey())) {
+                ObjectNode sliceChannels = slice.putObject(CHANNELS);
+                for (Iterator<Map.Entry<String, JsonNode>> all = field.getValue().fields(); all.hasNext();) {
+                    Map.Entry<String, JsonNode> channel = all.next();
+                    if (selected.contains(channel.getKey())) {
+                        sliceChannels.set(channel.getKey(), channel.getValue());
+                    }
+                }
+            } else if (COMPONENTS.equals(field.getKey())) {
+                ObjectNode sliceComponents = sliceComponents(field.getValue(), components);
+                if (sliceComponents.size() > 0) {
+                    slice.set(COMPONENTS, sliceComponents);
+                }
+            } else {
+                slice.set(field.getKey(), field.getValue());
+            }
+        }
+        // The nodes of the slice are shared with the sliced tree, which reading does not modify
+        return Library.readDocument(slice);
+    }
+
+    private static ObjectNode sliceComponents(JsonNode all, Set<ComponentKey> keep) {
+        ObjectNode components = JsonNodeFactory.instance.objectNode();
+        for (Iterator<Map.Entry<String, JsonNode>> types = all.fields(); types.hasNext();) {
+            Map.Entry<String, JsonNode> type = types.next();
+            if (SECURITY_SCHEMES.equals(type.getKey())) {
+                components.set(type.getKey(), type.getValue());
+                continue;
+            }
+            ObjectNode entries = JsonNodeFactory.instance.objectNode();
+            for (Iterator<Map.Entry<String, JsonNode>> it = type.getValue().fields(); it.hasNext();) {
+                Map.Entry<String, JsonNode> entry = it.next();
+                if (keep.contains(new ComponentKey(type.getKey(), entry.getKey()))) {
+                    entries.set(entry.getKey(), entry.getValue());
+                }
+            }
+            if (entries.size() > 0) {
+                components.set(type.getKey(), entries);
+            }
+        }
+        return components;
+    }
+
+    /**
+     * Returns the given components together with all the components they reference, transitively.
+     */
+    private static Set<ComponentKey> closure(Set<ComponentKey> roots, Map<ComponentKey, Set<ComponentKey>> graph) {
+        Set<ComponentKey> closure = new LinkedHashSet<>();
+        Deque<ComponentKey> pending = new ArrayDeque<>(roots);
+        while (!pending.isEmpty()) {
+            ComponentKey key = pending.pop();
+            if (closure.add(key)) {
+                pending.addAll(graph.getOrDefault(key, Collections.emptySet()));
+            }
+        }
+        return closure;
+    }
+
+    /**
+     * Returns the components referenced from within the given node.
+     */
+    private static Set<ComponentKey> references(JsonNode node) {
+        Set<ComponentKey> references = new LinkedHashSet<>();
+        collectReferences(node, references);
+        return references;
+    }
+
+    private static void collectReferences(JsonNode node, Set<ComponentKey> references) {
+        if (node.isObject()) {
+            for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext();) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (REF.equals(field.getKey()) && field.getValue().isTextual()) {
+                    ComponentKey key = ComponentKey.fromRef(field.getValue().textValue());
+                    if (key != null) {
+                        references.add(key);
+                    }
+                } else {
+                    collectReferences(field.getValue(), references);
+                }
+            }
+        } else if (node.isArray()) {
+            for (JsonNode child : node) {
+                collectReferences(child, references);
+            }
+        }
+    }
+
+    /**
+     * Identifies an entry of the components of the document, such as schemas/User.
+     */
+    private static final class ComponentKey {
+        private final String type;
+        private final String name;
+
+        private ComponentKey(String type, String name) {
+            this.type = type;
+            this.name = name;
+        }
+
+        /**
+         * Returns the component targeted by the given local reference, or null if it does not target
+         * a component. A reference into a component, such as #/components/schemas/User/properties/id,
+         * targets the whole component.
+         */
+        private static ComponentKey fromRef(String ref) {
+            if (!ref.startsWith(COMPONENTS_REF_PREFIX)) {
+                return null;
+            }
+            String[] segments = ref.substring(COMPONENTS_REF_PREFIX.length()).split("/", 3);
+            if (segments.length < 2) {
+                return null;
+            }
+            return new ComponentKey(unescape(segments[0]), unescape(segments[1]));
+        }
+
+        /**
+         * Decodes a JSON pointer segment.
+         */
+        private static String unescape(String segment) {
+            return segment.replace("~1", "/").replace("~0", "~");
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ComponentKey)) {
+                return false;
+            }
+            ComponentKey other = (ComponentKey) obj;
+            return type.equals(other.type) && name.equals(other.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + name.hashCode();
+        }
+    }
+
+}
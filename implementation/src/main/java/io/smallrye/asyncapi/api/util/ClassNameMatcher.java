@@ -0,0 +1,246 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.api.util;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import io.smallrye.asyncapi.api.AsyncApiConfig;
+import io.smallrye.asyncapi.api.AsyncApiConstants;
+
+/**
+ * Decides whether a class in an archive should be included in the annotation index, based on
+ * the scan include/exclude configuration. The configured class and package names are compiled
+ * once into a trie of name segments, which is then walked directly over the characters of the
+ * archive path, so no class name is ever built while scanning.
+ *
+ * Package patterns match the named package only. A "*" segment matches any single segment and
+ * a trailing "**" segment matches the package and all of its sub-packages, for example
+ * "com.acme.events.**". Class names match exactly and may also use "*" segments.
+ *
+ * Excludes override includes. Without any includes every class not excluded is accepted.
+ */
+public class ClassNameMatcher {
+
+    private static final String ANY_SEGMENT = "*";
+    private static final String ANY_SUB_PACKAGE = "**";
+
+    private final Trie includes;
+    private final Trie excludes;
+
+    /**
+     * Constructor.
+     *
+     * @param scanClasses classes to include
+     * @param scanPackages packages to include
+     * @param scanExcludeClasses classes to exclude
+     * @param scanExcludePackages packages to exclude
+     */
+    public ClassNameMatcher(Set<String> scanClasses, Set<String> scanPackages, Set<String> scanExcludeClasses,
+            Set<String> scanExcludePackages) {
+        this.includes = Trie.of(scanClasses, scanPackages);
+        this.excludes = Trie.of(scanExcludeClasses, scanExcludePackages);
+    }
+
+    /**
+     * Creates a matcher for the scan include/exclude configuration of the given config.
+     *
+     * @param config AsyncApiConfig
+     * @return ClassNameMatcher
+     */
+    public static ClassNameMatcher of(AsyncApiConfig config) {
+        return new ClassNameMatcher(config.scanClasses(), config.scanPackages(), config.scanExcludeClasses(),
+                config.scanExcludePackages());
+    }
+
+    /**
+     * Returns true if no include or exclude patterns are configured.
+     */
+    public boolean isEmpty() {
+        return includes == null && excludes == null;
+    }
+
+    /**
+     * Returns true if the class represented by the given archive path (for example
+     * "/WEB-INF/classes/com/acme/Foo.class") should be included in the annotation index.
+     *
+     * @param archivePath the path of a class in an archive
+     */
+    public boolean accept(String archivePath) {
+        if (archivePath == null) {
+            return false;
+        }
+        if (isEmpty()) {
+            return true;
+        }
+
+        int start = 0;
+        if (archivePath.startsWith(AsyncApiConstants.WEB_ARCHIVE_CLASS_PREFIX)) {
+            start = AsyncApiConstants.WEB_ARCHIVE_CLASS_PREFIX.length();
+        } else if (archivePath.startsWith("/")) {
+            start = 1;
+        }
+        int end = archivePath.endsWith(AsyncApiConstants.CLASS_SUFFIX)
+                ? archivePath.length() - AsyncApiConstants.CLASS_SUFFIX.length()
+                : archivePath.length();
+
+        if (excludes != null && excludes.root.matches(archivePath, start, end)) {
+            return false;
+        }
+        return includes == null || includes.root.matches(archivePath, start, end);
+    }
+
+    /**
+     * A trie of dotted class and package names, keyed by name segment.
+     */
+    private static class Trie {
+
+        private final TrieNode root = new TrieNode(null);
+
+        /**
+         * Returns a trie of the given class and package names, or null if there are none.
+         */
+        static Trie of(Set<String> classNames, Set<String> packageNames) {
+            if (classNames.isEmpty() && packageNames.isEmpty()) {
+                return null;
+            }
+            Trie trie = new Trie();
+            for (String className : classNames) {
+                trie.node(className).classTerminal = true;
+            }
+            for (String packageName : packageNames) {
+                if (packageName.equals(ANY_SUB_PACKAGE) || packageName.endsWith("." + ANY_SUB_PACKAGE)) {
+                    String parent = packageName.substring(0, Math.max(0, packageName.length() - 3));
+                    trie.node(parent).subPackagesTerminal = true;
+                } else {
+                    trie.node(packageName).packageTerminal = true;
+                }
+            }
+            return trie;
+        }
+
+        private TrieNode node(String dottedName) {
+            TrieNode node = root;
+            if (dottedName.isEmpty()) {
+                return node;
+            }
+            for (String segment : dottedName.split("\\.")) {
+                node = node.child(segment);
+            }
+            return node;
+        }
+    }
+
+    /**
+     * A node of the trie, representing one segment of a name.
+     */
+    private static class TrieNode {
+
+        private final String segment;
+        private TrieNode[] children = new TrieNode[0];
+        // The String hash codes of the child segments, compared before their characters
+        private int[] hashes = new int[0];
+        private TrieNode wildcard;
+
+        /**
+         * True if a class name ends at this node.
+         */
+        private boolean classTerminal;
+        /**
+         * True if a package name ends at this node.
+         */
+        private boolean packageTerminal;
+        /**
+         * True if this package and all of its sub-packages match.
+         */
+        private boolean subPackagesTerminal;
+
+        TrieNode(String segment) {
+            this.segment = segment;
+        }
+
+        TrieNode child(String name) {
+            if (ANY_SEGMENT.equals(name)) {
+                if (wildcard == null) {
+                    wildcard = new TrieNode(name);
+                }
+                return wildcard;
+            }
+            for (TrieNode child : children) {
+                if (child.segment.equals(name)) {
+                    return child;
+                }
+            }
+            TrieNode child = new TrieNode(name);
+            TrieNode[] grown = Arrays.copyOf(children, children.length + 1);
+            grown[children.length] = child;
+            children = grown;
+            hashes = Arrays.copyOf(hashes, hashes.length + 1);
+            hashes[children.length - 1] = name.hashCode();
+            return child;
+        }
+
+        /**
+         * Matches the '/' separated class name found between start (inclusive) and end (exclusive)
+         * of the given path against this node and its descendants.
+         */
+        boolean matches(String path, int start, int end) {
+            // Find the end of the segment and its hash code in a single pass
+            int separator = start;
+            int hash = 0;
+            char c;
+            while (separator < end && (c = path.charAt(separator)) != '/') {
+                hash = 31 * hash + c;
+                separator++;
+            }
+            if (separator == end) {
+                // Last segment is the simple class name, this node is its package
+                if (packageTerminal || subPackagesTerminal) {
+                    return true;
+                }
+                TrieNode child = child(path, start, end, hash);
+                return child != null && child.classTerminal || wildcard != null && wildcard.classTerminal;
+            }
+
+            if (subPackagesTerminal) {
+                return true;
+            }
+            TrieNode child = child(path, start, separator, hash);
+            if (child != null && child.matches(path, separator + 1, end)) {
+                return true;
+            }
+            return wildcard != null && wildcard.matches(path, separator + 1, end);
+        }
+
+        /**
+         * Returns the child named by the given segment of the path, or null.
+         */
+        private TrieNode child(String path, int start, int end, int hash) {
+            int length = end - start;
+            for (int i = 0; i < hashes.length; i++) {
+                if (hashes[i] == hash) {
+                    TrieNode child = children[i];
+                    if (child.segment.length() == length && path.regionMatches(start, child.segment, 0, length)) {
+                        return child;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+}
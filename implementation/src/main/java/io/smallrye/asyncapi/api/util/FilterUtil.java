@@ -16,14 +16,81 @@
 
 package io.smallrye.asyncapi.api.util;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiFunction;
+import java.util.function.UnaryOperator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.asyncapi.models.AaiChannelItem;
+import io.apicurio.datamodels.asyncapi.models.AaiComponents;
+import io.apicurio.datamodels.asyncapi.models.AaiDocument;
+import io.apicurio.datamodels.asyncapi.models.AaiMessage;
+import io.apicurio.datamodels.asyncapi.models.AaiOperation;
+import io.apicurio.datamodels.asyncapi.models.AaiSchema;
+import io.apicurio.datamodels.asyncapi.models.AaiServer;
+import io.apicurio.datamodels.asyncapi.v2.models.Aai20Schema;
+import io.apicurio.datamodels.cloning.ModelCloner;
 import io.apicurio.datamodels.core.models.Document;
+import io.apicurio.datamodels.core.models.ExtensibleNode;
+import io.apicurio.datamodels.core.models.Extension;
+import io.apicurio.datamodels.core.models.Node;
 import io.smallrye.asyncapi.spec.AAIFilter;
 
 /**
+ * Applies {@link AAIFilter}s to a document. The channels, operations, messages, schemas and
+ * servers of the document are visited once, whatever the number of filters, and each node is
+ * handed to every filter in turn. The parts of the document that no filter is interested in are
+ * not visited at all.
+ *
+ * When all the filters are stateless, the channels, component schemas and component messages are
+ * independent subtrees, and are filtered concurrently with fork/join once there are enough of them.
+ * The document ends up exactly as if it had been filtered sequentially.
+ *
  * @author eric.wittmann@gmail.com
  */
 public class FilterUtil {
 
+    private static final String ASYNCAPI_SCHEMA_FORMAT = "application/vnd.aai.asyncapi";
+    private static final String JSON_SCHEMA_FORMAT = "application/schema+json";
+
+    private static final int SEQUENTIAL = 0;
+
+    private static final String EXTENSION_PREFIX = "x-";
+    private static final Set<String> SCHEMA_KEYWORDS = schemaKeywords();
+    private static final Set<String> SUBSCHEMA_MAP_KEYWORDS = Set.of("properties");
+    private static final Set<String> SUBSCHEMA_KEYWORDS = Set.of("items", "allOf", "oneOf", "anyOf", "not",
+            "additionalProperties");
+
+    /**
+     * The node-level methods overridden by each filter class, computed once per class.
+     */
+    private static final ClassValue<FilterPlan> FILTER_PLANS = new ClassValue<FilterPlan>() {
+        @Override
+        protected FilterPlan computeValue(Class<?> type) {
+            return new FilterPlan(type);
+        }
+    };
+
     /**
      * Constructor.
      */
@@ -37,8 +104,624 @@ public class FilterUtil {
      * @param document
      */
     public static final Document applyFilter(AAIFilter filter, Document document) {
-        filter.filterDocument(document);
+        return applyFilters(Collections.singletonList(filter), document);
+    }
+
+    /**
+     * Apply the given filters, in order, to the given model. The nodes of the model are visited
+     * in a single traversal, then {@link AAIFilter#filterDocument(Document)} is called on each
+     * filter.
+     *
+     * @param filters
+     * @param document
+     */
+    public static final Document applyFilters(List<AAIFilter> filters, Document document) {
+        return applyFilters(filters, document, SEQUENTIAL);
+    }
+
+    /**
+     * Apply the given filters, in order, to the given model. When all the filters are stateless,
+     * the channels, component schemas and component messages are filtered in parallel on the
+     * common fork/join pool if there are at least parallelThreshold of them.
+     *
+     * @param filters
+     * @param document
+     * @param parallelThreshold minimum number of subtrees to filter in parallel, or 0 to always filter sequentially
+     */
+    public static final Document applyFilters(List<AAIFilter> filters, Document document, int parallelThreshold) {
+        if (document instanceof AaiDocument) {
+            Traversal traversal = new Traversal(filters, parallelThreshold, null);
+            if (!traversal.isEmpty()) {
+                traversal.filterDocument((AaiDocument) document);
+            }
+        }
+        for (AAIFilter filter : filters) {
+            filter.filterDocument(document);
+        }
         return document;
     }
 
+    /**
+     * Derives a filtered view of the given model, leaving the model itself untouched. The view is
+     * copied on write: it starts as a shallow copy of the model, and each channel, server,
+     * component schema and component message is only copied when it is handed to a filter. A copy
+     * the filters leave unchanged is replaced by the node of the model again, so that the view
+     * only holds copies of what the filters changed.
+     *
+     * A filter overriding {@link AAIFilter#filterDocument(Document)} may change any part of the
+     * document, so the view is then a full copy of the model.
+     *
+     * The nodes shared with the model are owned by the model: their parent and owner document are
+     * those of the model, not the view. The view must thus be treated as read only, and must not be
+     * navigated upwards from a shared node.
+     *
+     * @param filters
+     * @param base
+     * @param parallelThreshold minimum number of subtrees to filter in parallel, or 0 to always filter sequentially
+     */
+    public static final Document filteredView(List<AAIFilter> filters, Document base, int parallelThreshold) {
+        boolean documentFilters = false;
+        for (AAIFilter filter : filters) {
+            documentFilters |= FILTER_PLANS.get(filter.getClass()).document;
+        }
+        if (documentFilters || !(base instanceof AaiDocument)) {
+            return applyFilters(filters, Library.cloneDocument(base), parallelThreshold);
+        }
+
+        AaiDocument view = shallowCopy((AaiDocument) base);
+        Traversal traversal = new Traversal(filters, parallelThreshold, view);
+        if (!traversal.isEmpty()) {
+            traversal.filterDocument(view);
+        }
+        // No filter overrides filterDocument(), there is nothing else to call
+        return view;
+    }
+
+    /**
+     * Returns a new document sharing the nodes of the given one, with its own maps of channels,
+     * servers and components.
+     */
+    private static AaiDocument shallowCopy(AaiDocument base) {
+        AaiDocument copy = (AaiDocument) ModelCloner.createEmptyClone(base);
+        copyExtensions(base, copy);
+        copy.asyncapi = base.asyncapi;
+        copy.id = base.id;
+        copy.defaultContentType = base.defaultContentType;
+        copy.info = base.info;
+        copy.tags = base.tags;
+        copy.externalDocs = base.externalDocs;
+        copy.servers = copyMap(base.servers);
+        copy.channels = copyMap(base.channels);
+        if (base.components != null) {
+            AaiComponents components = (AaiComponents) ModelCloner.createEmptyClone(base.components);
+            components._parent = copy;
+            components._ownerDocument = copy;
+            copyExtensions(base.components, components);
+            components.schemas = copyMap(base.components.schemas);
+            components.messages = copyMap(base.components.messages);
+            components.securitySchemes = copyMap(base.components.securitySchemes);
+            components.parameters = copyMap(base.components.parameters);
+            components.correlationIds = copyMap(base.components.correlationIds);
+            components.operationTraits = copyMap(base.components.operationTraits);
+            components.messageTraits = copyMap(base.components.messageTraits);
+            components.serverBindings = copyMap(base.components.serverBindings);
+            components.channelBindings = copyMap(base.components.channelBindings);
+            components.operationBindings = copyMap(base.components.operationBindings);
+            components.messageBindings = copyMap(base.components.messageBindings);
+            copy.components = components;
+        }
+        return copy;
+    }
+
+    private static void copyExtensions(ExtensibleNode base, ExtensibleNode copy) {
+        Collection<Extension> extensions = base.getExtensions();
+        if (extensions != null) {
+            for (Extension extension : extensions) {
+                copy.addExtension(extension.name, extension);
+            }
+        }
+        List<String> extraProperties = base.getExtraPropertyNames();
+        if (extraProperties != null) {
+            for (String name : extraProperties) {
+                copy.addExtraProperty(name, base.getExtraProperty(name));
+            }
+        }
+    }
+
+    private static <T> Map<String, T> copyMap(Map<String, T> map) {
+        return map == null ? null : new LinkedHashMap<>(map);
+    }
+
+    /**
+     * Visits the nodes of a document, calling the filters interested in each kind of node.
+     */
+    private static final class Traversal {
+        private final List<AAIFilter> channelFilters = new ArrayList<>();
+        private final List<AAIFilter> operationFilters = new ArrayList<>();
+        private final List<AAIFilter> messageFilters = new ArrayList<>();
+        private final List<AAIFilter> schemaFilters = new ArrayList<>();
+        private final List<AAIFilter> serverFilters = new ArrayList<>();
+        private final int parallelThreshold;
+        private final AaiDocument view;
+
+        /**
+         * Constructor.
+         *
+         * @param filters
+         * @param parallelThreshold
+         * @param view the shallow copy to filter copy-on-write (see {@link FilterUtil#filteredView}), or
+         *        null to filter the document in place
+         */
+        private Traversal(List<AAIFilter> filters, int parallelThreshold, AaiDocument view) {
+            boolean stateless = true;
+            for (AAIFilter filter : filters) {
+                FilterPlan plan = FILTER_PLANS.get(filter.getClass());
+                // Only the node-level methods may be called concurrently
+                stateless &= plan.isEmpty() || filter.isStateless();
+                addIf(plan.channels, filter, channelFilters);
+                addIf(plan.operations, filter, operationFilters);
+                addIf(plan.messages, filter, messageFilters);
+                addIf(plan.schemas, filter, schemaFilters);
+                addIf(plan.servers, filter, serverFilters);
+            }
+            this.parallelThreshold = stateless ? parallelThreshold : SEQUENTIAL;
+            this.view = view;
+        }
+
+        private static void addIf(boolean condition, AAIFilter filter, List<AAIFilter> filters) {
+            if (condition) {
+                filters.add(filter);
+            }
+        }
+
+        private boolean isEmpty() {
+            return channelFilters.isEmpty() && operationFilters.isEmpty() && messageFilters.isEmpty()
+                    && schemaFilters.isEmpty() && serverFilters.isEmpty();
+        }
+
+        private boolean visitsChannels() {
+            return !channelFilters.isEmpty() || !operationFilters.isEmpty() || visitsMessages();
+        }
+
+        private boolean visitsMessages() {
+            return !messageFilters.isEmpty() || !schemaFilters.isEmpty();
+        }
+
+        private void filterDocument(AaiDocument document) {
+            if (!serverFilters.isEmpty()) {
+                filterMap(document.servers, subtree(document, serverFilters, AAIFilter::filterServer, null));
+            }
+            if (visitsChannels()) {
+                filterSubtrees(document.channels,
+                        subtree(document, channelFilters, AAIFilter::filterChannel, this::filterChannel));
+            }
+            AaiComponents components = document.components;
+            if (components != null) {
+                if (!schemaFilters.isEmpty()) {
+                    filterSubtrees(components.schemas,
+                            subtree(components, schemaFilters, AAIFilter::filterSchema, this::filterSchema));
+                }
+                if (visitsMessages()) {
+                    filterSubtrees(components.messages,
+                            subtree(components, messageFilters, AAIFilter::filterMessage, this::filterMessage));
+                }
+            }
+        }
+
+        /**
+         * Filters the values of a map of independent subtrees, in parallel if there are enough.
+         */
+        private <T extends Node> void filterSubtrees(Map<String, T> nodes, UnaryOperator<T> filter) {
+            if (nodes != null && parallelThreshold > 0 && nodes.size() >= parallelThreshold) {
+                filterMapInParallel(nodes, filter);
+            } else {
+                filterMap(nodes, filter);
+            }
+        }
+
+        /**
+         * Returns the function filtering a subtree of the document, that is a channel, a server, a
+         * component schema or a component message, and the nodes within it. When filtering a view,
+         * the filters are handed a copy of the subtree, owned by the view, and the subtree itself is
+         * kept if they leave the copy unchanged.
+         *
+         * @param parent the parent of the subtree in the filtered document
+         */
+        private <T extends Node> UnaryOperator<T> subtree(Node parent, List<AAIFilter> filters,
+                BiFunction<AAIFilter, T, T> callback, Children<T> children) {
+            if (view == null) {
+                return node -> filter(node, filters, callback, children);
+            }
+            return node -> {
+                Object original = Library.writeNode(node);
+                @SuppressWarnings("unchecked")
+                T copy = (T) ModelCloner.createEmptyClone(node);
+                // Set before reading, so that the nodes read into the copy are owned by the view too
+                copy._parent = parent;
+                copy._ownerDocument = view;
+                Library.readNode(original, copy);
+                T filtered = filter(copy, filters, callback, children);
+                if (filtered == copy && original.equals(Library.writeNode(copy))) {
+                    return node;
+                }
+                return filtered;
+            };
+        }
+
+        private void filterChannel(AaiChannelItem channel) {
+            if (!operationFilters.isEmpty() || visitsMessages()) {
+                channel.subscribe = filter(channel.subscribe, operationFilters, AAIFilter::filterOperation,
+                        this::filterOperation);
+                channel.publish = filter(channel.publish, operationFilters, AAIFilter::filterOperation,
+                        this::filterOperation);
+            }
+        }
+
+        private void filterOperation(AaiOperation operation) {
+            if (visitsMessages()) {
+                operation.message = filter(operation.message, messageFilters, AAIFilter::filterMessage,
+                        this::filterMessage);
+            }
+        }
+
+        private void filterMessage(AaiMessage message) {
+            filterList(message.oneOf, messageFilters, AAIFilter::filterMessage, this::filterMessage);
+            if (!schemaFilters.isEmpty() && isJsonSchema(message.schemaFormat)) {
+                filterPayload(message);
+            }
+        }
+
+        /**
+         * Filters the payload schema of a message. The payload is usually kept as plain JSON in the
+         * model, in which case the keywords known to the model are read into a schema for the
+         * filters. The JSON is left untouched unless the filters change the schema, and then only
+         * what they changed is written back: the model does not hold every JSON schema keyword (nor
+         * every form of the ones it holds, such as a numeric exclusiveMaximum), so writing the whole
+         * schema back would lose or alter the others.
+         */
+        private void filterPayload(AaiMessage message) {
+            if (message.payload instanceof AaiSchema) {
+                message.payload = filter((AaiSchema) message.payload, schemaFilters, AAIFilter::filterSchema,
+                        this::filterSchema);
+            } else if (message.payload instanceof ObjectNode) {
+                ObjectNode payload = (ObjectNode) message.payload;
+                AaiSchema schema = new Aai20Schema();
+                schema._parent = message;
+                schema._ownerDocument = message.ownerDocument();
+                Library.readNode(modelKeywords(payload), schema);
+                JsonNode read = (JsonNode) Library.writeNode(schema);
+                AaiSchema filtered = filter(schema, schemaFilters, AAIFilter::filterSchema, this::filterSchema);
+                if (filtered == null) {
+                    message.payload = null;
+                } else if (filtered != schema) {
+                    message.payload = Library.writeNode(filtered);
+                } else {
+                    message.payload = patch(payload, read, (JsonNode) Library.writeNode(filtered));
+                }
+            }
+        }
+
+        private void filterSchema(AaiSchema schema) {
+            filterMap(schema.properties, node -> filter(node, schemaFilters, AAIFilter::filterSchema, this::filterSchema));
+            if (schema.items instanceof AaiSchema) {
+                schema.items = filter((AaiSchema) schema.items, schemaFilters, AAIFilter::filterSchema,
+                        this::filterSchema);
+            } else if (schema.items instanceof List) {
+                @SuppressWarnings("unchecked")
+                List<Object> items = (List<Object>) schema.items;
+                filterSchemaList(items);
+            }
+            filterList(schema.allOf, schemaFilters, AAIFilter::filterSchema, this::filterSchema);
+            filterList(schema.oneOf, schemaFilters, AAIFilter::filterSchema, this::filterSchema);
+            filterList(schema.anyOf, schemaFilters, AAIFilter::filterSchema, this::filterSchema);
+            schema.not = filter(schema.not, schemaFilters, AAIFilter::filterSchema, this::filterSchema);
+            if (schema.additionalProperties instanceof AaiSchema) {
+                schema.additionalProperties = filter((AaiSchema) schema.additionalProperties, schemaFilters,
+                        AAIFilter::filterSchema, this::filterSchema);
+            }
+        }
+
+        private void filterSchemaList(List<Object> items) {
+            for (ListIterator<Object> iterator = items.listIterator(); iterator.hasNext();) {
+                Object item = iterator.next();
+                if (item instanceof AaiSchema) {
+                    AaiSchema filtered = filter((AaiSchema) item, schemaFilters, AAIFilter::filterSchema,
+                            this::filterSchema);
+                    if (filtered == null) {
+                        iterator.remove();
+                    } else if (filtered != item) {
+                        iterator.set(filtered);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of the given JSON schema holding only the keywords known to the schema model, in
+     * this schema and in its subschemas, so that reading it into the model neither warns about the
+     * others nor drops them from the original.
+     */
+    private static ObjectNode modelKeywords(ObjectNode schema) {
+        ObjectNode copy = JsonNodeFactory.instance.objectNode();
+        for (Iterator<Map.Entry<String, JsonNode>> fields = schema.fields(); fields.hasNext();) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String name = field.getKey();
+            JsonNode value = field.getValue();
+            if (SUBSCHEMA_MAP_KEYWORDS.contains(name) && value.isObject()) {
+                ObjectNode subschemas = copy.putObject(name);
+                for (Iterator<Map.Entry<String, JsonNode>> it = value.fields(); it.hasNext();) {
+                    Map.Entry<String, JsonNode> subschema = it.next();
+                    subschemas.set(subschema.getKey(), modelKeywordsOf(subschema.getValue()));
+                }
+            } else if (SUBSCHEMA_KEYWORDS.contains(name)) {
+                copy.set(name, modelKeywordsOf(value));
+            } else if (SCHEMA_KEYWORDS.contains(name) || name.startsWith(EXTENSION_PREFIX)) {
+                copy.set(name, value);
+            }
+        }
+        return copy;
+    }
+
+    private static JsonNode modelKeywordsOf(JsonNode value) {
+        if (value.isObject()) {
+            return modelKeywords((ObjectNode) value);
+        }
+        if (value.isArray()) {
+            ArrayNode copy = JsonNodeFactory.instance.arrayNode(value.size());
+            for (JsonNode item : value) {
+                copy.add(modelKeywordsOf(item));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the names of the JSON schema keywords held by the schema model.
+     */
+    private static Set<String> schemaKeywords() {
+        Set<String> keywords = new HashSet<>();
+        for (Class<?> type = Aai20Schema.class; type != null; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                String name = field.getName();
+                if (Modifier.isPublic(field.getModifiers()) && !Modifier.isStatic(field.getModifiers())
+                        && !name.startsWith("_")) {
+                    // Keywords that are Java keywords, such as enum, end with an underscore
+                    keywords.add(name.endsWith("_") ? name.substring(0, name.length() - 1) : name);
+                }
+            }
+        }
+        return keywords;
+    }
+
+    /**
+     * Applies to the original JSON the changes between the JSON read into the model and the JSON
+     * written from the model once filtered, keeping everything else of the original as is. Returns
+     * the original itself when nothing changed, or else a copy of it.
+     */
+    private static JsonNode patch(JsonNode original, JsonNode read, JsonNode filtered) {
+        if (read.equals(filtered)) {
+            return original;
+        }
+        if (original.isObject() && read.isObject() && filtered.isObject()) {
+            ObjectNode patched = JsonNodeFactory.instance.objectNode();
+            patched.setAll((ObjectNode) original);
+            Set<String> names = new LinkedHashSet<>();
+            read.fieldNames().forEachRemaining(names::add);
+            filtered.fieldNames().forEachRemaining(names::add);
+            for (String name : names) {
+                JsonNode readValue = read.get(name);
+                JsonNode filteredValue = filtered.get(name);
+                JsonNode originalValue = original.get(name);
+                if (filteredValue == null) {
+                    patched.remove(name);
+                } else if (readValue != null && originalValue != null) {
+                    patched.set(name, patch(originalValue, readValue, filteredValue));
+                } else if (!filteredValue.equals(readValue)) {
+                    patched.set(name, filteredValue);
+                }
+            }
+            return patched;
+        }
+        if (original.isArray() && read.isArray() && filtered.isArray() && original.size() == read.size()
+                && read.size() == filtered.size()) {
+            ArrayNode patched = JsonNodeFactory.instance.arrayNode(original.size());
+            for (int i = 0; i < original.size(); i++) {
+                patched.add(patch(original.get(i), read.get(i), filtered.get(i)));
+            }
+            return patched;
+        }
+        return filtered;
+    }
+
+    /**
+     * Returns true if a payload of the given schema format is a JSON (or AsyncAPI) schema, which is
+     * the default format.
+     */
+    private static boolean isJsonSchema(String schemaFormat) {
+        return schemaFormat == null || schemaFormat.startsWith(ASYNCAPI_SCHEMA_FORMAT)
+                || schemaFormat.startsWith(JSON_SCHEMA_FORMAT);
+    }
+
+    /**
+     * Filters each value of the given map, removing or replacing the values as told by the given
+     * function (see {@link #filter(Node, List, BiFunction, Children)}).
+     */
+    private static <T extends Node> void filterMap(Map<String, T> nodes, UnaryOperator<T> filter) {
+        if (nodes == null) {
+            return;
+        }
+        for (Iterator<Map.Entry<String, T>> iterator = nodes.entrySet().iterator(); iterator.hasNext();) {
+            Map.Entry<String, T> entry = iterator.next();
+            T filtered = filter.apply(entry.getValue());
+            if (filtered == null) {
+                iterator.remove();
+            } else if (filtered != entry.getValue()) {
+                entry.setValue(filtered);
+            }
+        }
+    }
+
+    /**
+     * Filters the values of the given map concurrently with fork/join, then removes or replaces
+     * them in the map, in order, as told by the filters.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Node> void filterMapInParallel(Map<String, T> nodes, UnaryOperator<T> filter) {
+        List<Map.Entry<String, T>> entries = new ArrayList<>(nodes.entrySet());
+        Node[] results = new Node[entries.size()];
+        FilterEntriesTask<T> task = new FilterEntriesTask<>(entries, filter, results, 0, entries.size(),
+                TimingUtil.current());
+        if (ForkJoinTask.inForkJoinPool()) {
+            task.invoke();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+        for (int i = 0; i < results.length; i++) {
+            Map.Entry<String, T> entry = entries.get(i);
+            if (results[i] == null) {
+                nodes.remove(entry.getKey());
+            } else if (results[i] != entry.getValue()) {
+                nodes.put(entry.getKey(), (T) results[i]);
+            }
+        }
+    }
+
+    /**
+     * Filters a range of map entries, splitting the range until it is small enough to filter
+     * directly.
+     */
+    private static final class FilterEntriesTask<T extends Node> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private static final int LEAF_SIZE = 8;
+
+        private final List<Map.Entry<String, T>> entries;
+        private final UnaryOperator<T> filter;
+        private final Node[] results;
+        private final int from;
+        private final int to;
+        // Measures the entries filtered on the fork/join workers as part of the phase, if any
+        private final TimingUtil.Timer timer;
+
+        private FilterEntriesTask(List<Map.Entry<String, T>> entries, UnaryOperator<T> filter, Node[] results,
+                int from, int to, TimingUtil.Timer timer) {
+            this.entries = entries;
+            this.filter = filter;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.timer = timer;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                if (timer == null) {
+                    filterEntries();
+                } else {
+                    timer.worker(this::filterEntries);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new FilterEntriesTask<>(entries, filter, results, from, middle, timer),
+                    new FilterEntriesTask<>(entries, filter, results, middle, to, timer));
+        }
+
+        private void filterEntries() {
+            for (int i = from; i < to; i++) {
+                results[i] = filter.apply(entries.get(i).getValue());
+            }
+        }
+    }
+
+    /**
+     * Filters each element of the given list, removing or replacing the elements as told by the filters.
+     */
+    private static <T extends Node> void filterList(List<T> nodes, List<AAIFilter> filters,
+            BiFunction<AAIFilter, T, T> callback, Children<T> children) {
+        if (nodes == null) {
+            return;
+        }
+        for (ListIterator<T> iterator = nodes.listIterator(); iterator.hasNext();) {
+            T node = iterator.next();
+            T filtered = filter(node, filters, callback, children);
+            if (filtered == null) {
+                iterator.remove();
+            } else if (filtered != node) {
+                iterator.set(filtered);
+            }
+        }
+    }
+
+    /**
+     * Hands the given node to each filter in turn, then visits the children of the resulting node.
+     * Returns the resulting node, or null if a filter removed it.
+     */
+    private static <T extends Node> T filter(T node, List<AAIFilter> filters, BiFunction<AAIFilter, T, T> callback,
+            Children<T> children) {
+        if (node == null) {
+            return null;
+        }
+        T current = node;
+        for (AAIFilter filter : filters) {
+            T filtered = callback.apply(filter, current);
+            if (filtered == null) {
+                return null;
+            }
+            if (filtered != current) {
+                filtered._parent = current._parent;
+                filtered._ownerDocument = current._ownerDocument;
+                current = filtered;
+            }
+        }
+        if (children != null) {
+            children.filter(current);
+        }
+        return current;
+    }
+
+    /**
+     * Visits the children of a node once it has been filtered.
+     */
+    @FunctionalInterface
+    private interface Children<T> {
+        void filter(T node);
+    }
+
+    /**
+     * The methods of {@link AAIFilter} that a filter class overrides: the node-level ones, and
+     * filterDocument.
+     */
+    private static final class FilterPlan {
+        private final boolean channels;
+        private final boolean operations;
+        private final boolean messages;
+        private final boolean schemas;
+        private final boolean servers;
+        private final boolean document;
+
+        private FilterPlan(Class<?> type) {
+            this.channels = overrides(type, "filterChannel", AaiChannelItem.class);
+            this.operations = overrides(type, "filterOperation", AaiOperation.class);
+            this.messages = overrides(type, "filterMessage", AaiMessage.class);
+            this.schemas = overrides(type, "filterSchema", AaiSchema.class);
+            this.servers = overrides(type, "filterServer", AaiServer.class);
+            this.document = overrides(type, "filterDocument", Document.class);
+        }
+
+        private boolean isEmpty() {
+            return !channels && !operations && !messages && !schemas && !servers;
+        }
+
+        private static boolean overrides(Class<?> type, String name, Class<?> parameterType) {
+            try {
+                return type.getMethod(name, parameterType).getDeclaringClass() != AAIFilter.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    }
+
 }
@@ -16,9 +16,15 @@
 
 package io.smallrye.asyncapi.api.util;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.Charset;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
 /**
  * @author eric.wittmann@gmail.com
@@ -35,16 +41,23 @@ public class IOUtil {
             return null;
         }
         try {
-            Charset charset = Charset.forName("UTF-8");
-            StringBuilder builder = new StringBuilder();
-            byte[] buff = new byte[4096];
-            int size = content.read(buff);
-            while (size != -1) {
-                String data = new String(buff, 0, size, charset);
-                builder.append(data);
-                size = content.read(buff);
-            }
-            return builder.toString();
+            // Decode all bytes at once so multi-byte sequences are never split
+            return new String(content.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Opens the given file as a stream backed by a read-only memory mapping of its content. The file
+     * is not copied onto the heap, and the mapping stays valid after the underlying channel is closed.
+     *
+     * @param file the file to map
+     */
+    public static InputStream openMapped(File file) {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new ByteBufferBackedInputStream(buffer);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -0,0 +1,398 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.api.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.zip.CRC32;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.ArchivePath;
+import org.jboss.shrinkwrap.api.Node;
+import org.jboss.shrinkwrap.api.asset.ArchiveAsset;
+import org.jboss.shrinkwrap.api.asset.Asset;
+import org.jboss.shrinkwrap.api.asset.ClassAsset;
+import org.jboss.shrinkwrap.api.asset.FileAsset;
+import org.jboss.shrinkwrap.api.asset.UrlAsset;
+
+import io.smallrye.asyncapi.api.AsyncApiConfig;
+import io.smallrye.asyncapi.api.AsyncApiConstants;
+
+/**
+ * Stores jandex indexes on disk so that an unchanged archive does not have to be scanned
+ * again. A cache file holds every index produced for an archive and is named after a hash
+ * of the scan configuration and of the archive's class, jar and jandex.idx entries.
+ *
+ * <p>
+ * Computing the key must be much cheaper than indexing, so entries are identified by metadata
+ * rather than content wherever possible: a jar on disk by its size and modification time, and an
+ * entry of a jar on the class path by the size and CRC stored in the jar. Only entries held in
+ * memory, or whose origin is unknown, are read to compute their CRC.
+ * </p>
+ *
+ * <p>
+ * Some file systems only keep modification times to the second or two, so a jar rewritten with the
+ * same size shortly after it was written may keep the same modification time. A jar modified less
+ * than {@link #RECENTLY_MODIFIED_MILLIS} ago is thus identified by the CRC of its content as well.
+ * So are the class files of an exploded directory, which a compiler rewrites in place in a matter
+ * of milliseconds, and which are small enough to read.
+ * </p>
+ *
+ * <p>
+ * The least recently used cache files are deleted once the cache directory holds more than the
+ * configured number of them, see {@link #evict(Path, int)}.
+ * </p>
+ */
+public class IndexCacheUtil {
+    private static final Logger LOG = Logger.getLogger(IndexCacheUtil.class);
+
+    /**
+     * Bumped whenever the layout of the cache files changes.
+     */
+    private static final String CACHE_VERSION = "2";
+
+    /**
+     * The extension of the cache files.
+     */
+    public static final String CACHE_FILE_SUFFIX = ".idx";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * How long ago a jar must have been modified for its modification time to identify its content,
+     * well over the granularity of the modification times of common file systems.
+     */
+    static final long RECENTLY_MODIFIED_MILLIS = 10_000;
+
+    /**
+     * Constructor.
+     */
+    private IndexCacheUtil() {
+    }
+
+    /**
+     * Computes the cache key of the given archive.
+     *
+     * @param config AsyncApiConfig
+     * @param archive Shrinkwrap Archive
+     * @return hex encoded key
+     */
+    public static String cacheKey(AsyncApiConfig config, Archive<?> archive) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+
+        update(digest, CACHE_VERSION);
+        update(digest, String.valueOf(config.scanDependenciesDisable()));
+        update(digest, config.scanDependenciesJars());
+        update(digest, config.scanClasses());
+        update(digest, config.scanPackages());
+        update(digest, config.scanExcludeClasses());
+        update(digest, config.scanExcludePackages());
+
+        updateEntries(digest, "", archive, new byte[BUFFER_SIZE]);
+
+        byte[] hash = digest.digest();
+        StringBuilder builder = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16));
+            builder.append(Character.forDigit(b & 0xF, 16));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Reads the indexes stored in the given cache file. Returns null if the file does not exist
+     * or cannot be read, in which case the archive should be indexed again. The file is marked as
+     * recently used, so that it is the last to be evicted.
+     *
+     * @param cacheFile the cache file
+     * @return the cached indexes or null
+     */
+    public static List<Index> read(Path cacheFile) {
+        if (!Files.isRegularFile(cacheFile)) {
+            return null;
+        }
+        List<Index> indexes;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+            int count = in.readInt();
+            indexes = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                indexes.add(new IndexReader(new ByteArrayInputStream(bytes)).read());
+            }
+        } catch (IOException | RuntimeException e) {
+            LOG.debugv("Unable to read cached index: {0}", cacheFile);
+            return null;
+        }
+        try {
+            Files.setLastModifiedTime(cacheFile, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            LOG.debugv("Unable to mark cached index as used: {0}", cacheFile);
+        }
+        return indexes;
+    }
+
+    /**
+     * Writes the given indexes to the given cache file. The content is written to a temporary
+     * file first and then moved into place, so concurrent readers never see a partial file.
+     * Failures are logged and otherwise ignored, since the cache is only an optimization.
+     *
+     * @param cacheFile the cache file
+     * @param indexes the indexes to store
+     */
+    public static void write(Path cacheFile, List<Index> indexes) {
+        Path tempFile = null;
+        try {
+            Path dir = cacheFile.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            tempFile = Files.createTempFile(dir, cacheFile.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(indexes.size());
+                for (Index index : indexes) {
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                    new IndexWriter(bytes).write(index);
+                    out.writeInt(bytes.size());
+                    bytes.writeTo(out);
+                }
+            }
+            try {
+                Files.move(tempFile, cacheFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tempFile = null;
+        } catch (IOException | RuntimeException e) {
+            LOG.warnv("Unable to write cached index: {0}", cacheFile);
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    // ignore
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes the least recently used cache files of the given directory, so that it holds no
+     * more than the given number of them. Failures are logged and otherwise ignored.
+     *
+     * @param dir the cache directory
+     * @param maxEntries the number of cache files to keep, 0 or less to keep them all
+     */
+    public static void evict(Path dir, int maxEntries) {
+        if (maxEntries <= 0) {
+            return;
+        }
+        Map<Path, FileTime> files = new HashMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir, "*" + CACHE_FILE_SUFFIX)) {
+            for (Path file : stream) {
+                files.put(file, Files.getLastModifiedTime(file));
+            }
+        } catch (IOException e) {
+            LOG.debugv("Unable to list cached indexes: {0}", dir);
+            return;
+        }
+        if (files.size() <= maxEntries) {
+            return;
+        }
+        List<Path> sorted = new ArrayList<>(files.keySet());
+        sorted.sort(Comparator.comparing(files::get, Comparator.reverseOrder()));
+        for (Path file : sorted.subList(maxEntries, sorted.size())) {
+            try {
+                Files.deleteIfExists(file);
+                LOG.debugv("Evicted cached index: {0}", file);
+            } catch (IOException e) {
+                LOG.debugv("Unable to evict cached index: {0}", file);
+            }
+        }
+    }
+
+    /**
+     * Hashes the class and jar entries of the given archive in path order, so the key does not
+     * depend on the archive's iteration order. Nested archives that have not been exported yet
+     * are hashed by their entries, since their exported bytes carry the time of export.
+     *
+     * @param digest
+     * @param prefix
+     * @param archive
+     * @param buffer
+     */
+    private static void updateEntries(MessageDigest digest, String prefix, Archive<?> archive, byte[] buffer) {
+        Map<String, Asset> entries = new TreeMap<>();
+        for (Map.Entry<ArchivePath, Node> each : archive.getContent().entrySet()) {
+            String path = each.getKey().get();
+            Asset asset = each.getValue().getAsset();
+            if ((path.endsWith(AsyncApiConstants.CLASS_SUFFIX) || path.endsWith(AsyncApiConstants.JAR_SUFFIX)
+                    || path.equals(AsyncApiConstants.JANDEX_INDEX)) && asset != null) {
+                entries.put(path, asset);
+            }
+        }
+        for (Map.Entry<String, Asset> each : entries.entrySet()) {
+            String path = prefix + each.getKey();
+            if (each.getValue() instanceof ArchiveAsset) {
+                updateEntries(digest, path, ((ArchiveAsset) each.getValue()).getArchive(), buffer);
+                continue;
+            }
+            update(digest, path);
+            update(digest, fingerprint(each.getValue(), buffer));
+        }
+    }
+
+    /**
+     * Returns a value that changes whenever the content of the given asset does: its metadata
+     * when it comes from a file or a jar entry (with the CRC of a file when its metadata is not
+     * enough, see {@link #fingerprint(Path, byte[])}), else the size and CRC of its content.
+     *
+     * @param asset
+     * @param buffer
+     */
+    private static String fingerprint(Asset asset, byte[] buffer) {
+        try {
+            String metadata = null;
+            if (asset instanceof FileAsset) {
+                metadata = fingerprint(((FileAsset) asset).getSource().toPath(), buffer);
+            } else if (asset instanceof UrlAsset) {
+                metadata = fingerprint(((UrlAsset) asset).getSource(), buffer);
+            } else if (asset instanceof ClassAsset) {
+                Class<?> type = ((ClassAsset) asset).getSource();
+                URL resource = type.getResource("/" + type.getName().replace('.', '/') + AsyncApiConstants.CLASS_SUFFIX);
+                metadata = resource == null ? null : fingerprint(resource, buffer);
+            }
+            if (metadata != null) {
+                return metadata;
+            }
+            try (InputStream contentStream = asset.openStream()) {
+                return "content:" + crc(contentStream, buffer);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Returns the fingerprint of the given file or jar entry URL, or null for other URLs.
+     *
+     * @param url
+     * @param buffer
+     */
+    private static String fingerprint(URL url, byte[] buffer) throws IOException {
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return fingerprint(Paths.get(url.toURI()), buffer);
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                return null;
+            }
+        }
+        if ("jar".equals(url.getProtocol())) {
+            URLConnection connection = url.openConnection();
+            if (connection instanceof JarURLConnection) {
+                // Only the central directory of the jar is read
+                JarEntry entry = ((JarURLConnection) connection).getJarEntry();
+                if (entry != null && entry.getCrc() != -1) {
+                    return "entry:" + entry.getSize() + ":" + entry.getCrc();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the size and modification time of the given file, and the CRC of its content when
+     * these may not change along with it: for a class file, or a file modified too recently.
+     *
+     * @param file
+     * @param buffer
+     */
+    private static String fingerprint(Path file, byte[] buffer) throws IOException {
+        long modified = Files.getLastModifiedTime(file).toMillis();
+        String metadata = "file:" + Files.size(file) + ":" + modified;
+        if (!file.toString().endsWith(AsyncApiConstants.CLASS_SUFFIX)
+                && modified < System.currentTimeMillis() - RECENTLY_MODIFIED_MILLIS) {
+            return metadata;
+        }
+        try (InputStream contentStream = Files.newInputStream(file)) {
+            return metadata + ":" + crc(contentStream, buffer);
+        }
+    }
+
+    /**
+     * Returns the size and CRC of the given content.
+     *
+     * @param content
+     * @param buffer
+     */
+    private static String crc(InputStream content, byte[] buffer) throws IOException {
+        CRC32 crc = new CRC32();
+        long size = 0;
+        int read;
+        while ((read = content.read(buffer)) != -1) {
+            crc.update(buffer, 0, read);
+            size += read;
+        }
+        return size + ":" + crc.getValue();
+    }
+
+    private static void update(MessageDigest digest, Set<String> values) {
+        update(digest, String.join(",", new TreeSet<>(values)));
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+}
@@ -16,14 +16,23 @@
 
 package io.smallrye.asyncapi.api.util;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 import org.jboss.logging.Logger;
 
@@ -52,6 +61,19 @@ public class MergeUtil {
         EXCLUDED_FIELDS.add("_ownerDocument");
     }
 
+    private static final int SEQUENTIAL = 0;
+
+    /**
+     * Merge plans are computed once per data model class, so that the public fields of a node
+     * are only looked up reflectively the first time a node of that type is merged.
+     */
+    private static final ClassValue<MergePlan> MERGE_PLANS = new ClassValue<MergePlan>() {
+        @Override
+        protected MergePlan computeValue(Class<?> type) {
+            return new MergePlan(type);
+        }
+    };
+
     /**
      * Constructor.
      */
@@ -69,6 +91,36 @@ public class MergeUtil {
         return mergeObjects(document1, document2);
     }
 
+    /**
+     * Merges two documents and returns the result. Maps holding at least parallelThreshold entries
+     * (channels, messages, schemas, ...) have the subtrees of their common keys merged in parallel
+     * on the common fork/join pool. The resulting entry order is the same as a sequential merge.
+     *
+     * @param document1 Document instance
+     * @param document2 Document instance
+     * @param parallelThreshold minimum map size to merge in parallel, or 0 to always merge sequentially
+     * @return Merged Document instance
+     */
+    public static final Document merge(Document document1, Document document2, int parallelThreshold) {
+        return mergeObjects(document1, document2, new MergeContext(parallelThreshold, null, TimingUtil.current()));
+    }
+
+    /**
+     * Merges two documents like {@link #merge(Document, Document, int)}, and counts the nodes
+     * present in both documents, whose fields had to be merged.
+     *
+     * @param document1 Document instance
+     * @param document2 Document instance
+     * @param parallelThreshold minimum map size to merge in parallel, or 0 to always merge sequentially
+     * @param mergedNodes incremented once per merged node
+     * @return Merged Document instance
+     */
+    public static final Document merge(Document document1, Document document2, int parallelThreshold,
+            LongAdder mergedNodes) {
+        return mergeObjects(document1, document2,
+                new MergeContext(parallelThreshold, mergedNodes, TimingUtil.current()));
+    }
+
     /**
      * Generic merge of two objects of the same type.
      *
@@ -77,8 +129,12 @@ public class MergeUtil {
      * @param <T> Type parameter
      * @return Merged object
      */
-    @SuppressWarnings({ "rawtypes" })
     public static <T extends Node> T mergeObjects(T object1, T object2) {
+        return mergeObjects(object1, object2, new MergeContext(SEQUENTIAL, null, null));
+    }
+
+    @SuppressWarnings({ "rawtypes" })
+    private static <T extends Node> T mergeObjects(T object1, T object2, MergeContext context) {
         if (object1 == null && object2 != null) {
             return object2;
         }
@@ -95,53 +151,103 @@ public class MergeUtil {
             return object2;
         }
 
+        if (context.mergedNodes != null) {
+            context.mergedNodes.increment();
+        }
+
         // Copy all public fields (may not be bean properties)
         try {
-            Field[] fields = object1.getClass().getFields();
-            for (Field field : fields) {
-                if (Modifier.isPublic(field.getModifiers()) && !EXCLUDED_FIELDS.contains(field.getName())) {
-                    Object fieldVal1 = field.get(object1);
-                    Object fieldVal2 = field.get(object2);
-                    if (fieldVal2 == null) {
-                        continue;
-                    }
-                    if (fieldVal2 instanceof Node) {
-                        Node node2 = (Node) fieldVal2;
-                        node2._ownerDocument = object1.ownerDocument();
-                        node2._parent = object1;
-                        Node newValue = mergeObjects((Node) fieldVal1, (Node) fieldVal2);
-                        field.set(object1, newValue);
-                    } else if (fieldVal2 instanceof Map) {
-                        Map values1 = (Map) fieldVal1;
-                        Map values2 = (Map) fieldVal2;
-                        Map newValues = mergeMaps(values1, values2, object1);
-                        field.set(object1, newValues);
-                    } else if (fieldVal2 instanceof List) {
-                        List values1 = (List) fieldVal1;
-                        List values2 = (List) fieldVal2;
-                        List newValues = mergeLists(values1, values2, object1);
-                        field.set(object1, newValues);
-                    } else {
-                        field.set(object1, fieldVal2);
+            for (FieldAccessor field : MERGE_PLANS.get(object1.getClass()).fields) {
+                Object fieldVal1 = field.get(object1);
+                Object fieldVal2 = field.get(object2);
+                if (fieldVal2 == null) {
+                    continue;
+                }
+                if (fieldVal2 instanceof Node) {
+                    Node node2 = (Node) fieldVal2;
+                    node2._ownerDocument = object1.ownerDocument();
+                    node2._parent = object1;
+                    Node newValue = mergeObjects((Node) fieldVal1, node2, context);
+                    if (newValue == node2) {
+                        adopt(node2, object1);
                     }
+                    field.set(object1, newValue);
+                } else if (fieldVal2 instanceof Map) {
+                    Map values1 = (Map) fieldVal1;
+                    Map values2 = (Map) fieldVal2;
+                    Map newValues = mergeMaps(values1, values2, object1, context);
+                    field.set(object1, newValues);
+                } else if (fieldVal2 instanceof List) {
+                    List values1 = (List) fieldVal1;
+                    List values2 = (List) fieldVal2;
+                    List newValues = mergeLists(values1, values2, object1, context);
+                    field.set(object1, newValues);
+                } else {
+                    field.set(object1, fieldVal2);
                 }
             }
-        } catch (SecurityException | IllegalArgumentException | IllegalAccessException e) {
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
             LOG.error("Failed to merge two data model nodes.", e);
             throw new RuntimeException(e);
         }
         return object1;
     }
 
+    /**
+     * Makes a node of the second document, taken over as it is rather than merged, a child of the
+     * given parent. The node and all of its descendants then belong to the document of the parent.
+     *
+     * @param node
+     * @param parent
+     */
+    private static void adopt(Node node, Node parent) {
+        node._parent = parent;
+        try {
+            setOwnerDocument(node, parent.ownerDocument());
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            LOG.error("Failed to adopt a data model node.", e);
+            throw new RuntimeException(e);
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static void setOwnerDocument(Node node, Document owner) throws Throwable {
+        node._ownerDocument = owner;
+        for (FieldAccessor field : MERGE_PLANS.get(node.getClass()).children) {
+            Object value = field.get(node);
+            if (value instanceof Node) {
+                setOwnerDocument((Node) value, owner);
+            } else if (value instanceof Map) {
+                for (Object entry : ((Map) value).values()) {
+                    if (entry instanceof Node) {
+                        setOwnerDocument((Node) entry, owner);
+                    }
+                }
+            } else if (value instanceof List) {
+                for (Object element : (List) value) {
+                    if (element instanceof Node) {
+                        setOwnerDocument((Node) element, owner);
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Merges two Maps. Any values missing from Map1 but present in Map2 will be added. If a value
      * is present in both maps, it will be overridden or merged.
      *
      * @param values1
      * @param values2
+     * @param parent
+     * @param context
      */
     @SuppressWarnings({ "rawtypes", "unchecked" })
-    private static Map mergeMaps(Map values1, Map values2, Node parent) {
+    private static Map mergeMaps(Map values1, Map values2, Node parent, MergeContext context) {
         if (values1 == null && values2 == null) {
             return null;
         }
@@ -149,11 +255,23 @@ public class MergeUtil {
             return values1;
         }
         if (values1 == null && values2 != null) {
+            for (Object value : values2.values()) {
+                if (value instanceof Node) {
+                    adopt((Node) value, parent);
+                }
+            }
             return values2;
         }
 
+        Map<Object, Node> merged = null;
+        if (context.parallelThreshold > 0 && values2.size() >= context.parallelThreshold) {
+            merged = mergeMapEntriesInParallel(values1, values2, parent, context);
+        }
+
         for (Object key : values2.keySet()) {
-            if (values1.containsKey(key)) {
+            if (merged != null && merged.containsKey(key)) {
+                values1.put(key, merged.get(key));
+            } else if (values1.containsKey(key)) {
                 Object pval1 = values1.get(key);
                 Object pval2 = values2.get(key);
                 if (pval1 instanceof Map) {
@@ -163,15 +281,18 @@ public class MergeUtil {
                 } else if (pval1 instanceof Node) {
                     ((Node) pval2)._ownerDocument = parent.ownerDocument();
                     ((Node) pval2)._parent = parent;
-                    values1.put(key, mergeObjects((Node) pval1, (Node) pval2));
+                    Node newValue = mergeObjects((Node) pval1, (Node) pval2, context);
+                    if (newValue == pval2) {
+                        adopt(newValue, parent);
+                    }
+                    values1.put(key, newValue);
                 } else {
                     values1.put(key, pval2);
                 }
             } else {
                 Object pval2 = values2.get(key);
                 if (pval2 instanceof Node) {
-                    ((Node) pval2)._ownerDocument = parent.ownerDocument();
-                    ((Node) pval2)._parent = parent;
+                    adopt((Node) pval2, parent);
                 }
                 values1.put(key, pval2);
             }
@@ -180,15 +301,54 @@ public class MergeUtil {
         return values1;
     }
 
+    /**
+     * Merges the node values found under the same key in both maps. Each such pair is an
+     * independent subtree, so the pairs are merged concurrently with fork/join. The maps
+     * themselves are not modified; the caller stores the returned values in key order.
+     *
+     * @param values1
+     * @param values2
+     * @param parent
+     * @param context
+     */
+    @SuppressWarnings("rawtypes")
+    private static Map<Object, Node> mergeMapEntriesInParallel(Map values1, Map values2, Node parent,
+            MergeContext context) {
+        List<Object> keys = new ArrayList<>();
+        for (Object key : values2.keySet()) {
+            if (values1.get(key) instanceof Node) {
+                keys.add(key);
+            }
+        }
+        if (keys.isEmpty()) {
+            return null;
+        }
+        Node[] results = new Node[keys.size()];
+        MergeEntriesTask task = new MergeEntriesTask(keys, values1, values2, parent, results, 0, keys.size(),
+                context);
+        if (ForkJoinTask.inForkJoinPool()) {
+            task.invoke();
+        } else {
+            ForkJoinPool.commonPool().invoke(task);
+        }
+        Map<Object, Node> merged = new HashMap<>();
+        for (int i = 0; i < results.length; i++) {
+            merged.put(keys.get(i), results[i]);
+        }
+        return merged;
+    }
+
     /**
      * Merges two Lists. Any values missing from List1 but present in List2 will be added. Depending on
      * the type of list, further processing and de-duping may be required.
      *
      * @param values1
      * @param values2
+     * @param parent
+     * @param context
      */
     @SuppressWarnings({ "rawtypes", "unchecked" })
-    private static List mergeLists(List values1, List values2, Node parent) {
+    private static List mergeLists(List values1, List values2, Node parent, MergeContext context) {
         if (values1 == null && values2 == null) {
             return null;
         }
@@ -196,9 +356,15 @@ public class MergeUtil {
             return values1;
         }
         if (values1 == null && values2 != null) {
+            values2.forEach(value -> {
+                if (value instanceof Node) {
+                    adopt((Node) value, parent);
+                }
+            });
             return values2;
         }
 
+        // The nodes merged into an existing node are dropped, only the appended ones are adopted
         values2.forEach(value -> {
             if (value instanceof Node) {
                 ((Node) value)._ownerDocument = parent.ownerDocument();
@@ -211,11 +377,11 @@ public class MergeUtil {
         }
 
         if (values1.get(0) instanceof Tag) {
-            return mergeTagLists(values1, values2);
+            return mergeTagLists(values1, values2, context);
         }
 
         if (values1.get(0) instanceof Server) {
-            return mergeServerLists(values1, values2);
+            return mergeServerLists(values1, values2, context);
         }
 
         if (values1.get(0) instanceof SecurityRequirement) {
@@ -223,9 +389,14 @@ public class MergeUtil {
         }
 
         if (values1.get(0) instanceof Parameter) {
-            return mergeParameterLists(values1, values2);
+            return mergeParameterLists(values1, values2, context);
         }
 
+        for (Object value : values2) {
+            if (value instanceof Node) {
+                adopt((Node) value, parent);
+            }
+        }
         values1.addAll(values2);
         return values1;
     }
@@ -253,22 +424,8 @@ public class MergeUtil {
      * @param values1
      * @param values2
      */
-    private static List<Tag> mergeTagLists(List<Tag> values1, List<Tag> values2) {
-        for (Tag value2 : values2) {
-            Tag match = null;
-            for (Tag value1 : values1) {
-                if (value1.name != null && value1.name.equals(value2.name)) {
-                    match = value1;
-                    break;
-                }
-            }
-            if (match == null) {
-                values1.add(value2);
-            } else {
-                mergeObjects(match, value2);
-            }
-        }
-        return values1;
+    private static List<Tag> mergeTagLists(List<Tag> values1, List<Tag> values2, MergeContext context) {
+        return mergeKeyedLists(values1, values2, tag -> tag.name, context);
     }
 
     /**
@@ -278,22 +435,8 @@ public class MergeUtil {
      * @param values1
      * @param values2
      */
-    private static List<Server> mergeServerLists(List<Server> values1, List<Server> values2) {
-        for (Server value2 : values2) {
-            Server match = null;
-            for (Server value1 : values1) {
-                if (value1.url != null && value1.url.equals(value2.url)) {
-                    match = value1;
-                    break;
-                }
-            }
-            if (match == null) {
-                values1.add(value2);
-            } else {
-                mergeObjects(match, value2);
-            }
-        }
-        return values1;
+    private static List<Server> mergeServerLists(List<Server> values1, List<Server> values2, MergeContext context) {
+        return mergeKeyedLists(values1, values2, server -> server.url, context);
     }
 
     /**
@@ -306,10 +449,12 @@ public class MergeUtil {
      */
     private static List<SecurityRequirement> mergeSecurityRequirementLists(List<SecurityRequirement> values1,
             List<SecurityRequirement> values2) {
+        Set<SecurityRequirement> existing = new HashSet<>(values1);
         for (SecurityRequirement value2 : values2) {
-            if (values1.contains(value2)) {
+            if (!existing.add(value2)) {
                 continue;
             }
+            adopt(value2, value2.parent());
             values1.add(value2);
         }
         return values1;
@@ -322,23 +467,181 @@ public class MergeUtil {
      * @param values1
      * @param values2
      */
-    private static List<Parameter> mergeParameterLists(List<Parameter> values1, List<Parameter> values2) {
-        for (Parameter value2 : values2) {
-            Parameter match = null;
-            for (Parameter value1 : values1) {
-                if (value1.name == null || !value1.name.equals(value2.name)) {
-                    continue;
-                }
+    private static List<Parameter> mergeParameterLists(List<Parameter> values1, List<Parameter> values2,
+            MergeContext context) {
+        return mergeKeyedLists(values1, values2, parameter -> parameter.name, context);
+    }
 
-                match = value1;
-                break;
+    /**
+     * Merge two lists of nodes that are unique by a key (a name or url). This will append any
+     * node from values2 whose key doesn't exist in values1, and *merge* any node whose key
+     * matches the first node with that key in values1. Nodes with a null key never match.
+     * A temporary key index keeps this linear in the size of both lists.
+     *
+     * @param values1
+     * @param values2
+     * @param keyFunction
+     * @param context
+     */
+    private static <T extends Node> List<T> mergeKeyedLists(List<T> values1, List<T> values2,
+            Function<T, String> keyFunction, MergeContext context) {
+        Map<String, T> index = new HashMap<>();
+        for (T value1 : values1) {
+            String key = keyFunction.apply(value1);
+            if (key != null) {
+                index.putIfAbsent(key, value1);
             }
+        }
+        for (T value2 : values2) {
+            String key = keyFunction.apply(value2);
+            T match = key == null ? null : index.get(key);
             if (match == null) {
+                adopt(value2, value2.parent());
                 values1.add(value2);
+                if (key != null) {
+                    index.put(key, value2);
+                }
             } else {
-                mergeObjects(match, value2);
+                mergeObjects(match, value2, context);
             }
         }
         return values1;
     }
+
+    /**
+     * Merges a range of the node pairs sharing a key, splitting the range until it is small
+     * enough to merge directly.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final class MergeEntriesTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private static final int LEAF_SIZE = 16;
+
+        private final List<Object> keys;
+        private final Map values1;
+        private final Map values2;
+        private final Node parent;
+        private final Node[] results;
+        private final int from;
+        private final int to;
+        private final MergeContext context;
+
+        private MergeEntriesTask(List<Object> keys, Map values1, Map values2, Node parent, Node[] results, int from,
+                int to, MergeContext context) {
+            this.keys = keys;
+            this.values1 = values1;
+            this.values2 = values2;
+            this.parent = parent;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.context = context;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_SIZE) {
+                if (context.timer == null) {
+                    mergeEntries();
+                } else {
+                    context.timer.worker(this::mergeEntries);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new MergeEntriesTask(keys, values1, values2, parent, results, from, middle, context),
+                    new MergeEntriesTask(keys, values1, values2, parent, results, middle, to, context));
+        }
+
+        private void mergeEntries() {
+            for (int i = from; i < to; i++) {
+                Object key = keys.get(i);
+                Node pval2 = (Node) values2.get(key);
+                pval2._ownerDocument = parent.ownerDocument();
+                pval2._parent = parent;
+                results[i] = mergeObjects((Node) values1.get(key), pval2, context);
+                if (results[i] == pval2) {
+                    adopt(pval2, parent);
+                }
+            }
+        }
+    }
+
+    /**
+     * The settings of a single merge, shared by all the nodes it merges.
+     */
+    private static final class MergeContext {
+        private final int parallelThreshold;
+        private final LongAdder mergedNodes;
+        // Measures the entries merged on the fork/join workers as part of the phase, if any
+        private final TimingUtil.Timer timer;
+
+        private MergeContext(int parallelThreshold, LongAdder mergedNodes, TimingUtil.Timer timer) {
+            this.parallelThreshold = parallelThreshold;
+            this.mergedNodes = mergedNodes;
+            this.timer = timer;
+        }
+    }
+
+    /**
+     * The mergeable fields of a single data model class.
+     */
+    private static final class MergePlan {
+        private final FieldAccessor[] fields;
+        // The fields that may hold child nodes, directly or in a map or list
+        private final FieldAccessor[] children;
+
+        private MergePlan(Class<?> type) {
+            List<FieldAccessor> accessors = new ArrayList<>();
+            List<FieldAccessor> children = new ArrayList<>();
+            for (Field field : type.getFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || EXCLUDED_FIELDS.contains(field.getName())) {
+                    continue;
+                }
+                FieldAccessor accessor = new FieldAccessor(field);
+                accessors.add(accessor);
+                Class<?> fieldType = field.getType();
+                if (!fieldType.isPrimitive() && fieldType != String.class && !Number.class.isAssignableFrom(fieldType)
+                        && fieldType != Boolean.class) {
+                    children.add(accessor);
+                }
+            }
+            this.fields = accessors.toArray(new FieldAccessor[0]);
+            this.children = children.toArray(new FieldAccessor[0]);
+        }
+    }
+
+    /**
+     * Get/set access to a single public field through method handles adapted to {@link Object}
+     * so that they can be invoked exactly.
+     */
+    private static final class FieldAccessor {
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+        private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        private FieldAccessor(Field field) {
+            try {
+                // The field is public but its declaring class may not be
+                field.setAccessible(true);
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                this.getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+                this.setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+            } catch (IllegalAccessException | SecurityException e) {
+                LOG.error("Failed to access data model field " + field, e);
+                throw new RuntimeException(e);
+            }
+        }
+
+        private Object get(Object target) throws Throwable {
+            return (Object) getter.invokeExact(target);
+        }
+
+        private void set(Object target, Object value) throws Throwable {
+            setter.invokeExact(target, value);
+        }
+    }
 }
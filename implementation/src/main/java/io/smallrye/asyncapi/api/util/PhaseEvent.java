@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.api.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * The JFR event recorded for each phase of the production of the AsyncAPI document, see
+ * {@link TimingUtil}.
+ */
+@Name("io.smallrye.asyncapi.Phase")
+@Label("AsyncAPI Phase")
+@Category({ "SmallRye", "AsyncAPI" })
+@Description("A phase of the production of the AsyncAPI document")
+class PhaseEvent extends jdk.jfr.Event {
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Allocated")
+    @Description("Bytes allocated by the thread that ran the phase, or -1 if unknown")
+    @DataAmount
+    long allocatedBytes;
+
+    @Label("Classes Indexed")
+    long classesIndexed;
+
+    @Label("Jars Opened")
+    long jarsOpened;
+
+    @Label("Nodes Merged")
+    long nodesMerged;
+
+    @Label("Channels")
+    long channels;
+
+}
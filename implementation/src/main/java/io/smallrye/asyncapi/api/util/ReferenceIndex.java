@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.api.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.asyncapi.models.AaiMessage;
+import io.apicurio.datamodels.asyncapi.v2.visitors.Aai20AllNodeVisitor;
+import io.apicurio.datamodels.core.models.Document;
+import io.apicurio.datamodels.core.models.IReferenceNode;
+import io.apicurio.datamodels.core.models.Node;
+import io.apicurio.datamodels.core.util.VisitorUtil;
+import io.apicurio.datamodels.core.visitors.TraverserDirection;
+
+/**
+ * An immutable index of the nodes of an AsyncAPI document by JSON pointer, together with the
+ * reverse index of the local references ($ref) between them.
+ *
+ * <p>
+ * Both indexes are built in a single traversal of the document, so that resolving a reference such
+ * as #/components/messages/OrderCreated, or finding every node that references a component, is a
+ * lookup rather than a walk of the document.
+ * </p>
+ *
+ * <p>
+ * Message payloads are kept as plain JSON by the model rather than as schema nodes, so the nodes
+ * within a payload are not indexed. The references they hold are, on behalf of their message.
+ * </p>
+ *
+ * <p>
+ * The index reflects the document as it was when the index was built, and the document must not be
+ * modified afterwards.
+ * </p>
+ */
+public class ReferenceIndex {
+
+    private static final String REF = "$ref";
+    private static final String LOCAL_REF_PREFIX = "#";
+
+    private final Map<String, Node> nodes;
+    private final Map<Node, String> pointers;
+    private final Map<String, List<Node>> referrers;
+
+    /**
+     * Constructor, indexing the given document.
+     *
+     * @param document the document to index
+     */
+    public ReferenceIndex(Document document) {
+        Map<String, Node> nodes = new HashMap<>();
+        Map<Node, String> pointers = new IdentityHashMap<>();
+        Map<String, Set<Node>> referrers = new HashMap<>();
+
+        VisitorUtil.visitTree(document, new Aai20AllNodeVisitor() {
+            @Override
+            protected void visitNode(Node node) {
+                // Some nodes are visited more than once
+                if (pointers.containsKey(node)) {
+                    return;
+                }
+                String pointer = toPointer(Library.createNodePath(node).toSegments());
+                nodes.put(pointer, node);
+                pointers.put(node, pointer);
+
+                if (node instanceof IReferenceNode) {
+                    addReferrer(referrers, ((IReferenceNode) node).getReference(), node);
+                }
+                if (node instanceof AaiMessage && ((AaiMessage) node).payload instanceof JsonNode) {
+                    collectPayloadReferences((JsonNode) ((AaiMessage) node).payload, node, referrers);
+                }
+            }
+        }, TraverserDirection.down);
+
+        Map<String, List<Node>> immutableReferrers = new HashMap<>(referrers.size());
+        for (Map.Entry<String, Set<Node>> entry : referrers.entrySet()) {
+            immutableReferrers.put(entry.getKey(), Collections.unmodifiableList(new ArrayList<>(entry.getValue())));
+        }
+        this.nodes = Collections.unmodifiableMap(nodes);
+        this.pointers = Collections.unmodifiableMap(pointers);
+        this.referrers = Collections.unmodifiableMap(immutableReferrers);
+    }
+
+    /**
+     * Resolves the given local reference. As a URI fragment, the reference may be percent-encoded,
+     * as in #/channels/user~1%7Bid%7D.
+     *
+     * @param ref a local reference, such as #/components/schemas/User
+     * @return the referenced node, or null if the document holds no such node
+     */
+    public Node resolve(String ref) {
+        String pointer = toIndexedPointer(ref);
+        return pointer == null ? null : nodes.get(pointer);
+    }
+
+    /**
+     * Returns the local reference to the given node, for example #/components/schemas/User.
+     *
+     * @param node a node of the indexed document
+     * @return the reference, or null if the node is not part of the indexed document
+     */
+    public String referenceTo(Node node) {
+        String pointer = pointers.get(node);
+        return pointer == null ? null : LOCAL_REF_PREFIX + pointer;
+    }
+
+    /**
+     * Returns the nodes referencing the given node, in the order of the document. A message is
+     * returned for the references held by its payload.
+     *
+     * @param node a node of the indexed document
+     * @return the referencing nodes, empty if there is none
+     */
+    public List<Node> referrers(Node node) {
+        String pointer = pointers.get(node);
+        return pointer == null ? Collections.emptyList() : referrers.getOrDefault(pointer, Collections.emptyList());
+    }
+
+    /**
+     * Returns the nodes holding the given local reference, in the order of the document, whether the
+     * reference resolves or not. A message is returned for the references held by its payload.
+     *
+     * @param ref a local reference, such as #/components/schemas/User
+     * @return the referencing nodes, empty if there is none
+     */
+    public List<Node> referrers(String ref) {
+        String pointer = toIndexedPointer(ref);
+        return pointer == null ? Collections.emptyList() : referrers.getOrDefault(pointer, Collections.emptyList());
+    }
+
+    private static void collectPayloadReferences(JsonNode json, Node message, Map<String, Set<Node>> referrers) {
+        if (json.isObject()) {
+            for (Iterator<Map.Entry<String, JsonNode>> fields = json.fields(); fields.hasNext();) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (REF.equals(field.getKey()) && field.getValue().isTextual()) {
+                    addReferrer(referrers, field.getValue().textValue(), message);
+                } else {
+                    collectPayloadReferences(field.getValue(), message, referrers);
+                }
+            }
+        } else if (json.isArray()) {
+            for (JsonNode child : json) {
+                collectPayloadReferences(child, message, referrers);
+            }
+        }
+    }
+
+    private static void addReferrer(Map<String, Set<Node>> referrers, String ref, Node node) {
+        String pointer = toIndexedPointer(ref);
+        if (pointer != null) {
+            // Nodes do not override equals(), so the set keeps each node once, in the order of the document
+            referrers.computeIfAbsent(pointer, p -> new LinkedHashSet<>()).add(node);
+        }
+    }
+
+    /**
+     * Returns the JSON pointer of the given local reference, or null if it is not a local one. An
+     * empty pointer designates the document itself. The reference is a URI fragment, so characters
+     * such as { and } may be percent-encoded in it (#/channels/user%7Bid%7D), and are decoded.
+     */
+    private static String toIndexedPointer(String ref) {
+        if (ref == null || !ref.startsWith(LOCAL_REF_PREFIX)) {
+            return null;
+        }
+        String pointer = ref.substring(LOCAL_REF_PREFIX.length());
+        return pointer.indexOf('%') < 0 ? pointer : percentDecode(pointer);
+    }
+
+    /**
+     * Decodes the percent-encoded UTF-8 bytes of the given URI fragment. Unlike a form decoder,
+     * a + is kept as is. A malformed escape is kept as is too.
+     */
+    private static String percentDecode(String fragment) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(fragment.length());
+        int i = 0;
+        while (i < fragment.length()) {
+            int high = i + 2 < fragment.length() ? Character.digit(fragment.charAt(i + 1), 16) : -1;
+            int low = i + 2 < fragment.length() ? Character.digit(fragment.charAt(i + 2), 16) : -1;
+            if (fragment.charAt(i) == '%' && high >= 0 && low >= 0) {
+                bytes.write((high << 4) | low);
+                i += 3;
+            } else {
+                int codePoint = fragment.codePointAt(i);
+                byte[] encoded = new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8);
+                bytes.write(encoded, 0, encoded.length);
+                i += Character.charCount(codePoint);
+            }
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the JSON pointer made of the given path segments.
+     */
+    private static String toPointer(List<String> segments) {
+        StringBuilder pointer = new StringBuilder();
+        for (String segment : segments) {
+            pointer.append('/').append(segment.replace("~", "~0").replace("/", "~1"));
+        }
+        return pointer.toString();
+    }
+
+}
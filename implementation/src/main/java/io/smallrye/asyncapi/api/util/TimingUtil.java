@@ -0,0 +1,329 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.api.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+
+import io.apicurio.datamodels.asyncapi.v2.models.Aai20Document;
+import io.apicurio.datamodels.core.models.Document;
+import io.smallrye.asyncapi.api.AsyncApiPhase;
+import io.smallrye.asyncapi.api.AsyncApiPhaseCounter;
+import io.smallrye.asyncapi.api.AsyncApiPhaseListener;
+
+/**
+ * Measures the phases of the production of the AsyncAPI document, and reports them to the
+ * registered {@link AsyncApiPhaseListener}s and as JFR events.
+ *
+ * Phases are only measured when a listener is registered or JFR is recording the event, so the
+ * measurements cost nothing otherwise.
+ *
+ * The allocations of a phase are measured per thread: the thread that started the phase, and the
+ * workers it hands parts of the phase to through {@link Timer#worker(Runnable)}.
+ */
+public class TimingUtil {
+    private static final Logger LOG = Logger.getLogger(TimingUtil.class);
+
+    private static final List<AsyncApiPhaseListener> LISTENERS = new CopyOnWriteArrayList<>(loadListeners());
+    private static final boolean JFR_AVAILABLE = isJfrAvailable();
+
+    private static final Timer DISABLED = new Timer(null, null);
+    // The phase measured on each thread, either started by the thread or run by it as a worker
+    private static final ThreadLocal<Timer> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Constructor.
+     */
+    private TimingUtil() {
+    }
+
+    /**
+     * Registers a listener, in addition to the ones discovered with the {@link ServiceLoader}.
+     *
+     * @param listener the listener
+     */
+    public static void addListener(AsyncApiPhaseListener listener) {
+        LISTENERS.add(listener);
+    }
+
+    /**
+     * Unregisters a listener.
+     *
+     * @param listener the listener
+     */
+    public static void removeListener(AsyncApiPhaseListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    /**
+     * Starts measuring the given phase on the current thread. The returned timer must be stopped
+     * on the same thread, when the phase completes.
+     *
+     * @param phase the phase
+     * @return the timer of the phase
+     */
+    public static Timer start(AsyncApiPhase phase) {
+        Object event = JFR_AVAILABLE ? Jfr.begin() : null;
+        if (event == null && LISTENERS.isEmpty()) {
+            return DISABLED;
+        }
+        return new Timer(phase, event);
+    }
+
+    /**
+     * Returns the phase measured on the current thread, so that the work it forks can be measured
+     * as part of it, see {@link Timer#worker(Runnable)}.
+     *
+     * @return the timer of the phase, or null if no phase is measured on the current thread
+     */
+    public static Timer current() {
+        return CURRENT.get();
+    }
+
+    private static void restore(Timer previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * The measurements of a single phase.
+     */
+    public static final class Timer {
+        private final AsyncApiPhase phase;
+        private final Object event;
+        private final long startNanos;
+        private final long startAllocated;
+        private final LongAdder workerAllocated;
+        private final Timer previous;
+        private final Map<AsyncApiPhaseCounter, LongAdder> counters;
+
+        private Timer(AsyncApiPhase phase, Object event) {
+            this.phase = phase;
+            this.event = event;
+            if (phase == null) {
+                this.startNanos = 0;
+                this.startAllocated = 0;
+                this.workerAllocated = null;
+                this.previous = null;
+                this.counters = null;
+            } else {
+                this.counters = new EnumMap<>(AsyncApiPhaseCounter.class);
+                for (AsyncApiPhaseCounter counter : AsyncApiPhaseCounter.values()) {
+                    counters.put(counter, new LongAdder());
+                }
+                this.workerAllocated = new LongAdder();
+                this.previous = CURRENT.get();
+                CURRENT.set(this);
+                this.startAllocated = allocatedBytes();
+                this.startNanos = System.nanoTime();
+            }
+        }
+
+        /**
+         * @return true if the phase is measured, in which case counting is worth the effort
+         */
+        public boolean isEnabled() {
+            return phase != null;
+        }
+
+        /**
+         * Adds to a counter of the phase. May be called from any thread.
+         *
+         * @param counter the counter
+         * @param amount the amount to add
+         */
+        public void count(AsyncApiPhaseCounter counter, long amount) {
+            if (counters != null) {
+                counters.get(counter).add(amount);
+            }
+        }
+
+        /**
+         * Runs part of the phase on the current thread, on behalf of the thread that started the
+         * phase, and adds what it allocates to the phase. Work run by the thread that started the
+         * phase, or nested in other work of the phase, is already measured and just run.
+         *
+         * @param work the part of the phase
+         */
+        public void worker(Runnable work) {
+            Timer current = CURRENT.get();
+            if (phase == null || current == this) {
+                work.run();
+                return;
+            }
+            CURRENT.set(this);
+            long start = allocatedBytes();
+            try {
+                work.run();
+            } finally {
+                if (start >= 0) {
+                    workerAllocated.add(allocatedBytes() - start);
+                }
+                restore(current);
+            }
+        }
+
+        /**
+         * Counts the channels of the given model, if any.
+         *
+         * @param model the model produced by the phase, may be null
+         */
+        public void countChannels(Document model) {
+            if (counters != null && model instanceof Aai20Document && ((Aai20Document) model).channels != null) {
+                count(AsyncApiPhaseCounter.CHANNELS, ((Aai20Document) model).channels.size());
+            }
+        }
+
+        /**
+         * @param counter the counter
+         * @return the adder backing the given counter, or null if the phase is not measured
+         */
+        public LongAdder counter(AsyncApiPhaseCounter counter) {
+            return counters == null ? null : counters.get(counter);
+        }
+
+        /**
+         * Completes the phase and reports it. Must be called on the thread that started the phase.
+         */
+        public void stop() {
+            if (phase == null) {
+                return;
+            }
+            long durationNanos = System.nanoTime() - startNanos;
+            long allocated = startAllocated < 0 ? -1 : allocatedBytes() - startAllocated + workerAllocated.sum();
+            restore(previous);
+            Map<AsyncApiPhaseCounter, Long> values = new EnumMap<>(AsyncApiPhaseCounter.class);
+            for (Map.Entry<AsyncApiPhaseCounter, LongAdder> entry : counters.entrySet()) {
+                values.put(entry.getKey(), entry.getValue().sum());
+            }
+            if (event != null) {
+                Jfr.commit(event, phase, allocated, values);
+            }
+            values = Collections.unmodifiableMap(values);
+            for (AsyncApiPhaseListener listener : LISTENERS) {
+                try {
+                    listener.phaseCompleted(phase, durationNanos, allocated, values);
+                } catch (RuntimeException e) {
+                    LOG.warn("AsyncAPI phase listener " + listener + " failed.", e);
+                }
+            }
+        }
+    }
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean allocations = Allocations.BEAN;
+        if (allocations == null) {
+            return -1;
+        }
+        return allocations.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static List<AsyncApiPhaseListener> loadListeners() {
+        List<AsyncApiPhaseListener> listeners = new ArrayList<>();
+        try {
+            for (AsyncApiPhaseListener listener : ServiceLoader.load(AsyncApiPhaseListener.class,
+                    TimingUtil.class.getClassLoader())) {
+                listeners.add(listener);
+            }
+        } catch (ServiceConfigurationError e) {
+            LOG.warn("Unable to load the AsyncAPI phase listeners.", e);
+        }
+        return listeners;
+    }
+
+    private static boolean isJfrAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, TimingUtil.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Holds the thread management bean, so that the management support is only initialized when a
+     * phase is measured.
+     */
+    private static final class Allocations {
+        private static final com.sun.management.ThreadMXBean BEAN = allocationsBean();
+
+        private static com.sun.management.ThreadMXBean allocationsBean() {
+            try {
+                ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+                if (bean instanceof com.sun.management.ThreadMXBean) {
+                    com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) bean;
+                    if (allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled()) {
+                        return allocations;
+                    }
+                }
+            } catch (LinkageError | RuntimeException e) {
+                LOG.debug("Thread allocations cannot be measured.", e);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Keeps the JFR types out of {@link TimingUtil}, so that it loads on JVMs without JFR.
+     */
+    private static final class Jfr {
+
+        private static Object begin() {
+            // The first event initializes JFR, which takes longer than most phases, so no event is
+            // created until a recording has been started
+            if (!jdk.jfr.FlightRecorder.isInitialized()) {
+                return null;
+            }
+            PhaseEvent event = new PhaseEvent();
+            if (!event.isEnabled()) {
+                return null;
+            }
+            event.begin();
+            return event;
+        }
+
+        private static void commit(Object event, AsyncApiPhase phase, long allocatedBytes,
+                Map<AsyncApiPhaseCounter, Long> counters) {
+            PhaseEvent phaseEvent = (PhaseEvent) event;
+            phaseEvent.end();
+            if (phaseEvent.shouldCommit()) {
+                phaseEvent.phase = phase.name();
+                phaseEvent.allocatedBytes = allocatedBytes;
+                phaseEvent.classesIndexed = counters.get(AsyncApiPhaseCounter.CLASSES_INDEXED);
+                phaseEvent.jarsOpened = counters.get(AsyncApiPhaseCounter.JARS_OPENED);
+                phaseEvent.nodesMerged = counters.get(AsyncApiPhaseCounter.NODES_MERGED);
+                phaseEvent.channels = counters.get(AsyncApiPhaseCounter.CHANNELS);
+                phaseEvent.commit();
+            }
+        }
+    }
+
+}
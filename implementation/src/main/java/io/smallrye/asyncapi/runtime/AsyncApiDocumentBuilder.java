@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.runtime;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.jandex.IndexView;
+import org.jboss.logging.Logger;
+
+import io.apicurio.datamodels.core.models.Document;
+import io.smallrye.asyncapi.api.AsyncApiConfig;
+import io.smallrye.asyncapi.api.AsyncApiDocument;
+
+/**
+ * Initializes an {@link AsyncApiDocument} from the sources of an app, producing the models of the
+ * independent sources concurrently.
+ *
+ * <p>
+ * The model reader, the static file and the annotations do not depend on each other until they are
+ * merged, so the ones that are configured are produced at the same time: the annotations are
+ * scanned on the calling thread while the others run on virtual threads (JDK 21+) or else on a
+ * small pool of daemon threads. The models are then handed to the document, which merges them in
+ * the usual order (model reader, static file, annotations), whatever order they completed in.
+ * </p>
+ */
+public class AsyncApiDocumentBuilder {
+    private static final Logger LOG = Logger.getLogger(AsyncApiDocumentBuilder.class);
+
+    private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = virtualThreadExecutorFactory();
+
+    private final AsyncApiDocument document;
+
+    /**
+     * Constructor, initializing {@link AsyncApiDocument#INSTANCE}.
+     */
+    public AsyncApiDocumentBuilder() {
+        this(AsyncApiDocument.INSTANCE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param document the AsyncApiDocument to initialize
+     */
+    public AsyncApiDocumentBuilder(AsyncApiDocument document) {
+        this.document = document;
+    }
+
+    /**
+     * Produces the models of all sources of the app and initializes the document with them. Note
+     * that this method does NOT close the static file. The caller is responsible for that.
+     *
+     * @param config AsyncApiConfig
+     * @param index IndexView of the deployment
+     * @param staticFile the static file packaged in the app, may be null
+     * @param loader ClassLoader used to load the model reader, filter and schema registry
+     * @param archiveName name of the deployment, may be null
+     */
+    public void initialize(AsyncApiConfig config, IndexView index, AsyncApiStaticFile staticFile, ClassLoader loader,
+            String archiveName) {
+        List<Callable<Document>> tasks = new ArrayList<>(2);
+        int readerTask = -1;
+        int staticFileTask = -1;
+        if (config.modelReader() != null) {
+            readerTask = tasks.size();
+            tasks.add(() -> AsyncApiProcessor.modelFromReader(config, loader));
+        }
+        if (staticFile != null) {
+            staticFileTask = tasks.size();
+            tasks.add(() -> AsyncApiProcessor.modelFromStaticFile(staticFile));
+        }
+        Callable<Document> annotationsTask = () -> AsyncApiProcessor.modelFromAnnotations(config, index, loader);
+
+        List<Document> models;
+        if (tasks.isEmpty()) {
+            // Nothing to overlap the scan with
+            models = runSequentially(List.of(annotationsTask));
+        } else {
+            models = runConcurrently(tasks, annotationsTask, loader);
+        }
+
+        document.config(config);
+        document.modelFromReader(readerTask < 0 ? null : models.get(readerTask));
+        document.modelFromStaticFile(staticFileTask < 0 ? null : models.get(staticFileTask));
+        document.modelFromAnnotations(models.get(models.size() - 1));
+        document.filters(AsyncApiProcessor.getFilters(config, loader));
+        document.archiveName(archiveName);
+        document.initialize();
+    }
+
+    private static List<Document> runSequentially(List<Callable<Document>> tasks) {
+        List<Document> models = new ArrayList<>(tasks.size());
+        for (Callable<Document> task : tasks) {
+            try {
+                models.add(task.call());
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return models;
+    }
+
+    /**
+     * Runs the given tasks in the background while the last one runs on the calling thread, and
+     * returns all results in the order of the tasks, the last one included.
+     */
+    private static List<Document> runConcurrently(List<Callable<Document>> tasks, Callable<Document> last,
+            ClassLoader loader) {
+        ExecutorService executor = newExecutor(tasks.size());
+        List<Future<Document>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (Callable<Document> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    Thread thread = Thread.currentThread();
+                    ClassLoader previous = thread.getContextClassLoader();
+                    thread.setContextClassLoader(loader);
+                    try {
+                        return task.call();
+                    } finally {
+                        thread.setContextClassLoader(previous);
+                    }
+                }));
+            }
+            Document lastModel = runSequentially(List.of(last)).get(0);
+
+            List<Document> models = new ArrayList<>(tasks.size() + 1);
+            for (Future<Document> future : futures) {
+                models.add(future.get());
+            }
+            models.add(lastModel);
+            return models;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ExecutorService newExecutor(int threads) {
+        if (NEW_VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                LOG.debug("Unable to create a virtual thread executor, using platform threads.", e);
+            }
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "asyncapi-builder-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns Executors.newVirtualThreadPerTaskExecutor() when running on JDK 21+, or else null.
+     */
+    private static Method virtualThreadExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+}
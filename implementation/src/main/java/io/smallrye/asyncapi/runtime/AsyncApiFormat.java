@@ -22,7 +22,11 @@ package io.smallrye.asyncapi.runtime;
 public enum AsyncApiFormat {
 
     JSON("application/json"),
-    YAML("application/yaml");
+    YAML("application/yaml"),
+    /**
+     * The compact binary encoding of {@link io.smallrye.asyncapi.runtime.io.AsyncApiBinaryCodec}.
+     */
+    BINARY("application/octet-stream");
 
     private final String mimeType;
 
@@ -16,14 +16,26 @@
 
 package io.smallrye.asyncapi.runtime;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
 import org.jboss.jandex.IndexView;
 
-import io.apicurio.datamodels.Library;
 import io.apicurio.datamodels.core.models.Document;
 import io.smallrye.asyncapi.api.AsyncApiConfig;
-import io.smallrye.asyncapi.api.util.IOUtil;
+import io.smallrye.asyncapi.api.AsyncApiConstants;
+import io.smallrye.asyncapi.api.AsyncApiDocument;
+import io.smallrye.asyncapi.api.AsyncApiPhase;
+import io.smallrye.asyncapi.api.util.TimingUtil;
+import io.smallrye.asyncapi.runtime.io.AsyncApiParser;
+import io.smallrye.asyncapi.runtime.scanner.AsyncApiAnnotationScanner;
 import io.smallrye.asyncapi.spec.AAIFilter;
 import io.smallrye.asyncapi.spec.AAIModelReader;
+import io.smallrye.asyncapi.spec.AAISchemaRegistry;
 
 /**
  * Provides some core archive processing functionality.
@@ -44,12 +56,45 @@ public class AsyncApiProcessor {
         if (staticFile == null) {
             return null;
         }
-        String jsonContent = IOUtil.toString(staticFile.getContent());
-        if (staticFile.getFormat() == AsyncApiFormat.YAML) {
-            // TODO support YAML for static file reading
-            throw new RuntimeException("YAML not yet supported");
+        TimingUtil.Timer timer = TimingUtil.start(AsyncApiPhase.STATIC_FILE);
+        try {
+            Document model = AsyncApiParser.parse(staticFile.getContent(), staticFile.getFormat());
+            timer.countChannels(model);
+            return model;
+        } finally {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Load the AsyncAPI document generated at build time, if the given class loader provides one (see
+     * {@link AsyncApiConstants#GENERATED_DOCUMENT_JSON}). Returns its content by format, ready to be passed
+     * to {@link AsyncApiDocument#initialize(Map)}, or null if there is no generated document.
+     *
+     * @param loader ClassLoader
+     * @return the generated document content by format, or null
+     */
+    public static Map<AsyncApiFormat, byte[]> generatedDocument(ClassLoader loader) {
+        Map<AsyncApiFormat, byte[]> generated = new EnumMap<>(AsyncApiFormat.class);
+        addGeneratedContent(loader, AsyncApiConstants.GENERATED_DOCUMENT_JSON, AsyncApiFormat.JSON, generated);
+        if (generated.isEmpty()) {
+            return null;
+        }
+        addGeneratedContent(loader, AsyncApiConstants.GENERATED_DOCUMENT_YAML, AsyncApiFormat.YAML, generated);
+        addGeneratedContent(loader, AsyncApiConstants.GENERATED_DOCUMENT_BINARY, AsyncApiFormat.BINARY, generated);
+        return generated;
+    }
+
+    private static void addGeneratedContent(ClassLoader loader, String path, AsyncApiFormat format,
+            Map<AsyncApiFormat, byte[]> generated) {
+        // Archive paths start with a slash, resource names do not
+        try (InputStream content = loader.getResourceAsStream(path.substring(1))) {
+            if (content != null) {
+                generated.put(format, content.readAllBytes());
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
         }
-        return Library.readDocumentFromJSONString(jsonContent);
     }
 
     /**
@@ -62,14 +107,33 @@ public class AsyncApiProcessor {
      * @return Document generated from annotations
      */
     public static Document modelFromAnnotations(AsyncApiConfig config, IndexView index) {
+        return modelFromAnnotations(config, index, Thread.currentThread().getContextClassLoader());
+    }
+
+    /**
+     * Create an {@link Document} model by scanning the deployment for relevant annotations, using the
+     * {@link AAISchemaRegistry} configured by the app (if any) from the given class loader. If scanning
+     * is disabled, this method returns null.
+     *
+     * @param config AsyncApiConfig
+     * @param index IndexView of Archive
+     * @param loader ClassLoader
+     * @return Document generated from annotations
+     */
+    public static Document modelFromAnnotations(AsyncApiConfig config, IndexView index, ClassLoader loader) {
         if (config.scanDisable()) {
             return null;
         }
 
-        // TODO implement annotation scanning!
-        //AsyncApiAnnotationScanner scanner = new AsyncApiAnnotationScanner(config, index);
-        //return scanner.scan();
-        return null;
+        TimingUtil.Timer timer = TimingUtil.start(AsyncApiPhase.ANNOTATIONS);
+        try {
+            AsyncApiAnnotationScanner scanner = new AsyncApiAnnotationScanner(config, index, getSchemaRegistry(config, loader));
+            Document model = scanner.scan();
+            timer.countChannels(model);
+            return model;
+        } finally {
+            timer.stop();
+        }
     }
 
     /**
@@ -86,27 +150,72 @@ public class AsyncApiProcessor {
         if (readerClassName == null) {
             return null;
         }
+        TimingUtil.Timer timer = TimingUtil.start(AsyncApiPhase.MODEL_READER);
         try {
             Class<?> c = loader.loadClass(readerClassName);
             AAIModelReader reader = (AAIModelReader) c.newInstance();
-            return (Document) reader.buildModel();
+            Document model = (Document) reader.buildModel();
+            timer.countChannels(model);
+            return model;
+        } catch (ClassNotFoundException | InstantiationException | IllegalAccessException e) {
+            throw new RuntimeException(e);
+        } finally {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Instantiate the {@link AAISchemaRegistry} configured by the app.
+     *
+     * @param config AsyncApiConfig
+     * @param loader ClassLoader
+     * @return AAISchemaRegistry instance retrieved from loader
+     */
+    public static AAISchemaRegistry getSchemaRegistry(AsyncApiConfig config, ClassLoader loader) {
+        String registryClassName = config.customSchemaRegistryClass();
+        if (registryClassName == null) {
+            return null;
+        }
+        try {
+            Class<?> c = loader.loadClass(registryClassName);
+            return (AAISchemaRegistry) c.newInstance();
         } catch (ClassNotFoundException | InstantiationException | IllegalAccessException e) {
             throw new RuntimeException(e);
         }
     }
 
     /**
-     * Instantiate the {@link AAIFilter} configured by the app.
+     * Instantiate the {@link AAIFilter} configured by the app. When several filters are
+     * configured, only the first one is returned, see {@link #getFilters(AsyncApiConfig, ClassLoader)}.
      *
      * @param config AsyncApiConfig
      * @param loader ClassLoader
      * @return AAIFilter instance retrieved from loader
      */
     public static AAIFilter getFilter(AsyncApiConfig config, ClassLoader loader) {
-        String filterClassName = config.filter();
-        if (filterClassName == null) {
+        List<String> filterClassNames = config.filters();
+        if (filterClassNames.isEmpty()) {
             return null;
         }
+        return newFilter(filterClassNames.get(0), loader);
+    }
+
+    /**
+     * Instantiate all the {@link AAIFilter}s configured by the app, in the configured order.
+     *
+     * @param config AsyncApiConfig
+     * @param loader ClassLoader
+     * @return AAIFilter instances retrieved from loader, may be empty
+     */
+    public static List<AAIFilter> getFilters(AsyncApiConfig config, ClassLoader loader) {
+        List<AAIFilter> filters = new ArrayList<>();
+        for (String filterClassName : config.filters()) {
+            filters.add(newFilter(filterClassName, loader));
+        }
+        return filters;
+    }
+
+    private static AAIFilter newFilter(String filterClassName, ClassLoader loader) {
         try {
             Class<?> c = loader.loadClass(filterClassName);
             return (AAIFilter) c.newInstance();
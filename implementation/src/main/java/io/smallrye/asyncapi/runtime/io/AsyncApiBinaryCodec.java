@@ -0,0 +1,352 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.runtime.io;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * A compact binary encoding of an AsyncAPI document node tree, meant to be read back much faster
+ * than JSON or YAML text.
+ *
+ * <p>
+ * The encoding starts with a magic number and a version, followed by a table of every distinct
+ * string (property names and string values) of the document, and then by the root node. Each
+ * node is a one byte tag followed by its value. Strings are referred to by their index in the
+ * table, so each distinct string is decoded only once, and shared by all nodes using it. Arrays
+ * and objects are prefixed by their length in bytes and their number of entries. Integers are
+ * written as variable length (zigzag) numbers.
+ * </p>
+ *
+ * <p>
+ * Decoding works directly on a {@link ByteBuffer}, so the content can be read in a single read or
+ * from a memory mapped file.
+ * </p>
+ */
+public class AsyncApiBinaryCodec {
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private static final byte[] MAGIC = { 'A', 'A', 'I', 'B' };
+    private static final byte VERSION = 1;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_TRUE = 1;
+    private static final byte TAG_FALSE = 2;
+    private static final byte TAG_INTEGER = 3;
+    private static final byte TAG_DOUBLE = 4;
+    private static final byte TAG_STRING = 5;
+    private static final byte TAG_BIG_INTEGER = 6;
+    private static final byte TAG_BIG_DECIMAL = 7;
+    private static final byte TAG_ARRAY = 8;
+    private static final byte TAG_OBJECT = 9;
+
+    /**
+     * Constructor.
+     */
+    private AsyncApiBinaryCodec() {
+    }
+
+    /**
+     * Encodes the given node tree.
+     *
+     * @param root the root node of the document
+     * @return the encoded content
+     */
+    public static byte[] encode(JsonNode root) {
+        Encoder encoder = new Encoder();
+        int rootSize = encoder.measure(root);
+
+        List<byte[]> strings = new ArrayList<>(encoder.strings.size());
+        int tableSize = varIntSize(encoder.strings.size());
+        for (String string : encoder.strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            strings.add(bytes);
+            tableSize += varIntSize(bytes.length) + bytes.length;
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(MAGIC.length + 1 + tableSize + rootSize);
+        out.put(MAGIC);
+        out.put(VERSION);
+        putVarInt(out, strings.size());
+        for (byte[] bytes : strings) {
+            putVarInt(out, bytes.length);
+            out.put(bytes);
+        }
+        encoder.write(out, root);
+        return out.array();
+    }
+
+    /**
+     * Decodes a node tree from the given buffer, starting at its current position.
+     *
+     * @param in the encoded content
+     * @return the root node of the document
+     * @throws IllegalArgumentException if the content is not a valid encoded document
+     */
+    public static JsonNode decode(ByteBuffer in) {
+        try {
+            for (byte b : MAGIC) {
+                if (in.get() != b) {
+                    throw new IllegalArgumentException("Not a binary AsyncAPI document");
+                }
+            }
+            byte version = in.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported binary AsyncAPI document version: " + version);
+            }
+            String[] strings = new String[getVarInt(in)];
+            for (int i = 0; i < strings.length; i++) {
+                int length = getVarInt(in);
+                strings[i] = decodeString(in, length);
+            }
+            return read(in, strings);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated binary AsyncAPI document", e);
+        }
+    }
+
+    private static String decodeString(ByteBuffer in, int length) {
+        if (in.hasArray()) {
+            int offset = in.arrayOffset() + in.position();
+            in.position(in.position() + length);
+            return new String(in.array(), offset, length, StandardCharsets.UTF_8);
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static JsonNode read(ByteBuffer in, String[] strings) {
+        byte tag = in.get();
+        switch (tag) {
+            case TAG_NULL:
+                return NODES.nullNode();
+            case TAG_TRUE:
+                return NODES.booleanNode(true);
+            case TAG_FALSE:
+                return NODES.booleanNode(false);
+            case TAG_INTEGER:
+                long value = unZigZag(getVarLong(in));
+                if (value == (int) value) {
+                    return NODES.numberNode((int) value);
+                }
+                return NODES.numberNode(value);
+            case TAG_DOUBLE:
+                return NODES.numberNode(in.getDouble());
+            case TAG_STRING:
+                return NODES.textNode(strings[getVarInt(in)]);
+            case TAG_BIG_INTEGER:
+                return NODES.numberNode(new BigInteger(strings[getVarInt(in)]));
+            case TAG_BIG_DECIMAL:
+                return NODES.numberNode(new BigDecimal(strings[getVarInt(in)]));
+            case TAG_ARRAY: {
+                getVarInt(in); // byte length, only needed to skip the node
+                int count = getVarInt(in);
+                ArrayNode array = NODES.arrayNode(count);
+                for (int i = 0; i < count; i++) {
+                    array.add(read(in, strings));
+                }
+                return array;
+            }
+            case TAG_OBJECT: {
+                getVarInt(in); // byte length, only needed to skip the node
+                int count = getVarInt(in);
+                ObjectNode object = NODES.objectNode();
+                for (int i = 0; i < count; i++) {
+                    String name = strings[getVarInt(in)];
+                    object.set(name, read(in, strings));
+                }
+                return object;
+            }
+            default:
+                throw new IllegalArgumentException("Invalid node tag in binary AsyncAPI document: " + tag);
+        }
+    }
+
+    /**
+     * Encodes a node tree in two passes: the first collects the strings and computes the size of
+     * every array and object, the second writes the nodes into a buffer of exactly the right size.
+     */
+    private static class Encoder {
+
+        private final Map<String, Integer> strings = new LinkedHashMap<>();
+        private final Map<JsonNode, Integer> contentSizes = new IdentityHashMap<>();
+
+        /**
+         * Returns the encoded size of the given node, including its tag.
+         */
+        int measure(JsonNode node) {
+            switch (node.getNodeType()) {
+                case NULL:
+                case BOOLEAN:
+                case MISSING:
+                    return 1;
+                case NUMBER:
+                    if (node.isIntegralNumber() && node.canConvertToLong()) {
+                        return 1 + varLongSize(zigZag(node.longValue()));
+                    }
+                    if (node.isFloatingPointNumber() && !node.isBigDecimal()) {
+                        return 1 + Double.BYTES;
+                    }
+                    return 1 + stringRefSize(node.asText());
+                case ARRAY: {
+                    int size = varIntSize(node.size());
+                    for (JsonNode child : node) {
+                        size += measure(child);
+                    }
+                    contentSizes.put(node, size);
+                    return 1 + varIntSize(size) + size;
+                }
+                case OBJECT: {
+                    int size = varIntSize(node.size());
+                    for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext();) {
+                        Map.Entry<String, JsonNode> field = fields.next();
+                        size += stringRefSize(field.getKey()) + measure(field.getValue());
+                    }
+                    contentSizes.put(node, size);
+                    return 1 + varIntSize(size) + size;
+                }
+                default:
+                    return 1 + stringRefSize(node.asText());
+            }
+        }
+
+        void write(ByteBuffer out, JsonNode node) {
+            switch (node.getNodeType()) {
+                case NULL:
+                case MISSING:
+                    out.put(TAG_NULL);
+                    break;
+                case BOOLEAN:
+                    out.put(node.booleanValue() ? TAG_TRUE : TAG_FALSE);
+                    break;
+                case NUMBER:
+                    if (node.isIntegralNumber() && node.canConvertToLong()) {
+                        out.put(TAG_INTEGER);
+                        putVarLong(out, zigZag(node.longValue()));
+                    } else if (node.isFloatingPointNumber() && !node.isBigDecimal()) {
+                        out.put(TAG_DOUBLE);
+                        out.putDouble(node.doubleValue());
+                    } else {
+                        out.put(node.isBigDecimal() ? TAG_BIG_DECIMAL : TAG_BIG_INTEGER);
+                        putVarInt(out, strings.get(node.asText()));
+                    }
+                    break;
+                case ARRAY:
+                    out.put(TAG_ARRAY);
+                    putVarInt(out, contentSizes.get(node));
+                    putVarInt(out, node.size());
+                    for (JsonNode child : node) {
+                        write(out, child);
+                    }
+                    break;
+                case OBJECT:
+                    out.put(TAG_OBJECT);
+                    putVarInt(out, contentSizes.get(node));
+                    putVarInt(out, node.size());
+                    for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext();) {
+                        Map.Entry<String, JsonNode> field = fields.next();
+                        putVarInt(out, strings.get(field.getKey()));
+                        write(out, field.getValue());
+                    }
+                    break;
+                default:
+                    out.put(TAG_STRING);
+                    putVarInt(out, strings.get(node.asText()));
+                    break;
+            }
+        }
+
+        private int stringRefSize(String string) {
+            Integer index = strings.get(string);
+            if (index == null) {
+                index = strings.size();
+                strings.put(string, index);
+            }
+            return varIntSize(index);
+        }
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static int varIntSize(int value) {
+        return varLongSize(value & 0xFFFFFFFFL);
+    }
+
+    private static int varLongSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private static void putVarInt(ByteBuffer out, int value) {
+        putVarLong(out, value & 0xFFFFFFFFL);
+    }
+
+    private static void putVarLong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static int getVarInt(ByteBuffer in) {
+        long value = getVarLong(in);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid length in binary AsyncAPI document");
+        }
+        return (int) value;
+    }
+
+    private static long getVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Invalid number in binary AsyncAPI document");
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.runtime.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.core.models.Document;
+import io.smallrye.asyncapi.runtime.AsyncApiFormat;
+
+/**
+ * Parses AsyncAPI documents straight from a stream. The content is tokenized incrementally
+ * and turned into a node tree which is then read into the apicurio data model, without first
+ * copying the whole document into a String.
+ */
+public class AsyncApiParser {
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper()
+            .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+    /**
+     * Constructor.
+     */
+    private AsyncApiParser() {
+    }
+
+    /**
+     * Parses a document in the given format from the given stream. The stream is not closed.
+     *
+     * @param content the document content
+     * @param format the format of the content
+     * @return Document
+     */
+    public static Document parse(InputStream content, AsyncApiFormat format) {
+        switch (format) {
+            case JSON:
+                return parseJson(content);
+            case YAML:
+                return parseYaml(content);
+            case BINARY:
+                return parseBinary(content);
+            default:
+                throw new IllegalArgumentException("Unsupported format: " + format);
+        }
+    }
+
+    /**
+     * Parses a JSON document from the given stream. The stream is not closed.
+     *
+     * @param content the JSON content
+     * @return Document
+     */
+    public static Document parseJson(InputStream content) {
+        try {
+            return toDocument(JSON_MAPPER.readTree(content));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Parses a YAML document from the given stream. The stream is not closed.
+     *
+     * @param content the YAML content
+     * @return Document
+     */
+    public static Document parseYaml(InputStream content) {
+        try {
+            return toDocument(YamlMapper.INSTANCE.readTree(content));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Parses a binary document (see {@link AsyncApiBinaryCodec}) from the given stream. The content is
+     * read in one go. The stream is not closed.
+     *
+     * @param content the binary content
+     * @return Document
+     */
+    public static Document parseBinary(InputStream content) {
+        try {
+            return parseBinary(ByteBuffer.wrap(content.readAllBytes()));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Parses a binary document (see {@link AsyncApiBinaryCodec}) from the given buffer, which may
+     * for example be a memory mapping of a file.
+     *
+     * @param content the binary content
+     * @return Document
+     */
+    public static Document parseBinary(ByteBuffer content) {
+        return toDocument(AsyncApiBinaryCodec.decode(content));
+    }
+
+    /**
+     * Parses the node tree of a document in the given format from the given stream, without
+     * reading it into the data model yet. The stream is not closed.
+     *
+     * @param content the document content
+     * @param format the format of the content
+     * @return JsonNode
+     */
+    public static JsonNode parseTree(InputStream content, AsyncApiFormat format) {
+        ObjectMapper mapper;
+        switch (format) {
+            case JSON:
+                mapper = JSON_MAPPER;
+                break;
+            case YAML:
+                mapper = YamlMapper.INSTANCE;
+                break;
+            case BINARY:
+                try {
+                    return AsyncApiBinaryCodec.decode(ByteBuffer.wrap(content.readAllBytes()));
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            default:
+                throw new IllegalArgumentException("Unsupported format: " + format);
+        }
+        try {
+            return mapper.readTree(content);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Reads a node tree produced by {@link #parseTree(InputStream, AsyncApiFormat)} into the data
+     * model. The tree is left untouched, so it can be read again.
+     *
+     * @param tree the document node tree
+     * @return Document
+     */
+    public static Document readTree(JsonNode tree) {
+        return toDocument(tree == null ? null : tree.deepCopy());
+    }
+
+    private static Document toDocument(JsonNode tree) {
+        if (tree == null || !tree.isObject()) {
+            throw new IllegalArgumentException("AsyncAPI document must be an object");
+        }
+        return Library.readDocument(tree);
+    }
+
+    /**
+     * Holds the YAML mapper, so that YAML support is only initialized when a YAML document is first
+     * parsed, and not when loading a JSON or binary document at startup.
+     */
+    private static final class YamlMapper {
+        static final ObjectMapper INSTANCE = new ObjectMapper(new YAMLFactory())
+                .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+    }
+
+}
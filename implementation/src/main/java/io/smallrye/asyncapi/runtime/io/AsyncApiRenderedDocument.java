@@ -0,0 +1,255 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.runtime.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import io.apicurio.datamodels.core.models.Document;
+import io.smallrye.asyncapi.runtime.AsyncApiFormat;
+
+/**
+ * An immutable, pre-rendered representation of a final AsyncAPI document in a single
+ * {@link AsyncApiFormat}. The content is kept as UTF-8 bytes, so that it can be served repeatedly
+ * without serializing the model again. The gzip and deflate compressed variants and the strong
+ * ETag of each encoding are computed when first asked for, and then kept.
+ */
+public final class AsyncApiRenderedDocument {
+
+    /**
+     * The content codings available for a rendered document.
+     */
+    public enum Encoding {
+
+        IDENTITY("identity"),
+        GZIP("gzip"),
+        DEFLATE("deflate");
+
+        private final String token;
+
+        Encoding(String token) {
+            this.token = token;
+        }
+
+        /**
+         * @return the token used for this coding in Content-Encoding/Accept-Encoding headers
+         */
+        public String getToken() {
+            return token;
+        }
+
+        /**
+         * Picks the preferred encoding allowed by the given Accept-Encoding header value. Gzip is
+         * preferred over deflate; the identity encoding is returned when neither is acceptable.
+         *
+         * @param acceptEncoding value of the Accept-Encoding header, may be null
+         * @return the encoding to use
+         */
+        public static Encoding fromAcceptEncoding(String acceptEncoding) {
+            if (acceptEncoding == null || acceptEncoding.isEmpty()) {
+                return IDENTITY;
+            }
+            boolean gzip = false;
+            boolean deflate = false;
+            for (String coding : acceptEncoding.split(",")) {
+                String[] parts = coding.split(";");
+                String name = parts[0].trim().toLowerCase(Locale.ROOT);
+                if (parts.length > 1 && isZeroQuality(parts[1])) {
+                    continue;
+                }
+                if (GZIP.token.equals(name) || "*".equals(name)) {
+                    gzip = true;
+                } else if (DEFLATE.token.equals(name)) {
+                    deflate = true;
+                }
+            }
+            if (gzip) {
+                return GZIP;
+            }
+            return deflate ? DEFLATE : IDENTITY;
+        }
+
+        private static boolean isZeroQuality(String param) {
+            String p = param.trim();
+            if (!p.startsWith("q=")) {
+                return false;
+            }
+            try {
+                return Double.parseDouble(p.substring(2)) == 0d;
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+    }
+
+    private final AsyncApiFormat format;
+    // Computed on first use. Racing callers may compute a value twice, the first one set is kept
+    private final AtomicReferenceArray<byte[]> content = new AtomicReferenceArray<>(Encoding.values().length);
+    private final AtomicReferenceArray<String> etags = new AtomicReferenceArray<>(Encoding.values().length);
+
+    /**
+     * Constructor.
+     *
+     * @param format the format of the content
+     * @param bytes the uncompressed UTF-8 content, ownership is transferred to this instance
+     */
+    public AsyncApiRenderedDocument(AsyncApiFormat format, byte[] bytes) {
+        this.format = format;
+        content.set(Encoding.IDENTITY.ordinal(), bytes);
+    }
+
+    /**
+     * Renders the given document in the given format.
+     *
+     * @param document the final document
+     * @param format the output format
+     * @return rendered document
+     */
+    public static AsyncApiRenderedDocument render(Document document, AsyncApiFormat format) {
+        return new AsyncApiRenderedDocument(format, AsyncApiSerializer.serialize(document, format));
+    }
+
+    /**
+     * @return the format
+     */
+    public AsyncApiFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * @param encoding the content coding
+     * @return the number of bytes in the given encoding
+     */
+    public int length(Encoding encoding) {
+        return content(encoding).length;
+    }
+
+    /**
+     * @param encoding the content coding
+     * @return the strong (quoted) ETag of the content in the given encoding
+     */
+    public String getETag(Encoding encoding) {
+        String etag = etags.get(encoding.ordinal());
+        if (etag == null) {
+            // The tag of a compressed variant is derived from the content, not the compressed bytes
+            String hash = hash(content.get(Encoding.IDENTITY.ordinal()));
+            etag = '"' + (encoding == Encoding.IDENTITY ? hash : hash + "-" + encoding.getToken()) + '"';
+            etags.compareAndSet(encoding.ordinal(), null, etag);
+        }
+        return etag;
+    }
+
+    /**
+     * Returns true if the given If-None-Match header value matches the ETag of the content in the
+     * given encoding, in which case a "304 Not Modified" response can be sent.
+     *
+     * @param ifNoneMatch value of the If-None-Match header, may be null
+     * @param encoding the content coding
+     * @return true if the client already has the current content
+     */
+    public boolean matches(String ifNoneMatch, Encoding encoding) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String etag = getETag(encoding);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || etag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes the content in the given encoding to the given stream. The stream is not closed.
+     *
+     * @param encoding the content coding
+     * @param out the target stream
+     * @throws IOException if the content could not be written
+     */
+    public void writeTo(Encoding encoding, OutputStream out) throws IOException {
+        out.write(content(encoding));
+    }
+
+    /**
+     * @return a copy of the uncompressed UTF-8 content
+     */
+    public byte[] toByteArray() {
+        return content.get(Encoding.IDENTITY.ordinal()).clone();
+    }
+
+    /**
+     * Returns the content in the given encoding, compressing it on first use.
+     */
+    private byte[] content(Encoding encoding) {
+        byte[] bytes = content.get(encoding.ordinal());
+        if (bytes == null) {
+            byte[] identity = content.get(Encoding.IDENTITY.ordinal());
+            bytes = encoding == Encoding.GZIP ? gzip(identity) : deflate(identity);
+            if (!content.compareAndSet(encoding.ordinal(), null, bytes)) {
+                bytes = content.get(encoding.ordinal());
+            }
+        }
+        return bytes;
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (DeflaterOutputStream deflate = new DeflaterOutputStream(out)) {
+            deflate.write(bytes);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            StringBuilder builder = new StringBuilder(32);
+            for (int i = 0; i < 16; i++) {
+                builder.append(Character.forDigit((digest[i] >> 4) & 0xF, 16));
+                builder.append(Character.forDigit(digest[i] & 0xF, 16));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.runtime.io;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.core.models.Document;
+import io.smallrye.asyncapi.runtime.AsyncApiFormat;
+
+/**
+ * Serializes an AsyncAPI data model into one of the supported {@link AsyncApiFormat}s.
+ */
+public class AsyncApiSerializer {
+
+    /**
+     * Constructor.
+     */
+    private AsyncApiSerializer() {
+    }
+
+    /**
+     * Serializes the given document into the given format and returns the resulting bytes, UTF-8
+     * encoded for the text formats.
+     *
+     * @param document Document to serialize
+     * @param format the output format
+     * @return the serialized content
+     */
+    public static byte[] serialize(Document document, AsyncApiFormat format) {
+        switch (format) {
+            case JSON:
+                return Library.writeDocumentToJSONString(document).getBytes(StandardCharsets.UTF_8);
+            case YAML:
+                try {
+                    return YamlMapper.INSTANCE.writeValueAsBytes(Library.writeNode(document));
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            case BINARY:
+                return AsyncApiBinaryCodec.encode((JsonNode) Library.writeNode(document));
+            default:
+                throw new IllegalArgumentException("Unsupported format: " + format);
+        }
+    }
+
+    /**
+     * Holds the YAML mapper, so that YAML support is only initialized when a document is first
+     * serialized as YAML.
+     */
+    private static final class YamlMapper {
+        static final ObjectMapper INSTANCE = new ObjectMapper(
+                new YAMLFactory().disable(YAMLGenerator.Feature.WRITE_DOC_START_MARKER));
+    }
+
+}
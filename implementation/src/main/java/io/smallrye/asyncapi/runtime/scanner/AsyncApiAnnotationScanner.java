@@ -16,27 +16,105 @@
 
 package io.smallrye.asyncapi.runtime.scanner;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.asyncapi.models.AaiChannelItem;
+import io.apicurio.datamodels.asyncapi.models.AaiMessage;
+import io.apicurio.datamodels.asyncapi.models.AaiOperation;
+import io.apicurio.datamodels.asyncapi.models.AaiSchema;
+import io.apicurio.datamodels.asyncapi.v2.models.Aai20Document;
+import io.apicurio.datamodels.asyncapi.v2.models.Aai20Message;
+import io.apicurio.datamodels.asyncapi.v2.models.Aai20Operation;
 import io.apicurio.datamodels.core.models.Document;
 import io.smallrye.asyncapi.api.AsyncApiConfig;
+import io.smallrye.asyncapi.api.AsyncApiConstants;
+import io.smallrye.asyncapi.spec.AAISchemaRegistry;
+import io.smallrye.asyncapi.spec.annotations.Channel;
+import io.smallrye.asyncapi.spec.annotations.Message;
+import io.smallrye.asyncapi.spec.annotations.Publish;
+import io.smallrye.asyncapi.spec.annotations.Subscribe;
 
 /**
  * Scans a deployment (using the archive and jandex annotation index) for relevant annotations. These
  * annotations, if found, are used to generate a valid AsyncAPI model.
  *
+ * The scan works from the index alone, without loading or reflecting on any application class. It
+ * makes a single pass over the {@link Channel} annotations in the index, so its cost depends on the
+ * number of annotated methods rather than on the size of the deployment.
+ *
+ * A scanner can also be kept around while the deployment changes (for example in dev mode) and be
+ * asked to {@link #rescan(IndexView, Collection)} it with the names of the classes that changed.
+ * It then only regenerates the channels declared by those classes, or whose payload schemas were
+ * built from them, and reuses everything else from the previous scan.
+ *
  * @author eric.wittmann@gmail.com
  */
 public class AsyncApiAnnotationScanner {
 
     private static Logger LOG = Logger.getLogger(AsyncApiAnnotationScanner.class);
 
+    static final DotName DOTNAME_CHANNEL = DotName.createSimple(Channel.class.getName());
+    static final DotName DOTNAME_PUBLISH = DotName.createSimple(Publish.class.getName());
+    static final DotName DOTNAME_SUBSCRIBE = DotName.createSimple(Subscribe.class.getName());
+    static final DotName DOTNAME_VOID = DotName.createSimple(Void.class.getName());
+
+    // The asynchronous wrappers around a payload, any other generic type is a payload of its own
+    private static final Set<DotName> PAYLOAD_WRAPPERS = new HashSet<>();
+
+    static {
+        for (String name : new String[] { "java.util.concurrent.CompletionStage",
+                "java.util.concurrent.CompletableFuture", "java.util.Optional",
+                "org.eclipse.microprofile.reactive.messaging.Message", "org.reactivestreams.Publisher",
+                "io.smallrye.mutiny.Multi", "io.smallrye.mutiny.Uni" }) {
+            PAYLOAD_WRAPPERS.add(DotName.createSimple(name));
+        }
+    }
+
+    private static final String PROP_VALUE = "value";
+    private static final String PROP_DESCRIPTION = "description";
+    private static final String PROP_OPERATION_ID = "operationId";
+    private static final String PROP_SUMMARY = "summary";
+    private static final String PROP_MESSAGE = "message";
+    private static final String PROP_NAME = "name";
+    private static final String PROP_TITLE = "title";
+    private static final String PROP_CONTENT_TYPE = "contentType";
+    private static final String PROP_PAYLOAD = "payload";
+
     private final AsyncApiConfig config;
-    private final IndexView index;
+    private final AAISchemaRegistry schemaRegistry;
+    private IndexView index;
 
     private Document document;
 
+    // Kept between rescans only
+    private SchemaFactory schemas;
+    private Map<DotName, List<AnnotationInstance>> channelsByClass;
+    private Map<String, Set<DotName>> classesByChannel;
+    private Map<String, ChannelResult> channelResults;
+
     /**
      * Constructor.
      *
@@ -44,8 +122,20 @@ public class AsyncApiAnnotationScanner {
      * @param index IndexView of deployment
      */
     public AsyncApiAnnotationScanner(AsyncApiConfig config, IndexView index) {
+        this(config, index, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param config AsyncApiConfig instance
+     * @param index IndexView of deployment
+     * @param schemaRegistry AAISchemaRegistry providing well-known schemas, may be null
+     */
+    public AsyncApiAnnotationScanner(AsyncApiConfig config, IndexView index, AAISchemaRegistry schemaRegistry) {
         this.config = config;
         this.index = index;
+        this.schemaRegistry = schemaRegistry;
     }
 
     /**
@@ -56,7 +146,352 @@ public class AsyncApiAnnotationScanner {
      */
     public Document scan() {
         LOG.debug("Scanning deployment for Async Annotations.");
-        // TODO implement this method
+
+        // Channels are collected by name first so that the output does not depend on index order
+        Map<String, ChannelMethods> channels = new TreeMap<>();
+        for (AnnotationInstance channel : index.getAnnotations(DOTNAME_CHANNEL)) {
+            String name = channelName(channel);
+            if (name == null) {
+                continue;
+            }
+            ChannelMethods methods = channels.computeIfAbsent(name, k -> new ChannelMethods());
+            methods.add(channel, channel.target().asMethod());
+        }
+
+        Aai20Document aai = newDocument();
+        SchemaFactory schemas = new SchemaFactory(index, config.schemaReferencesEnable(), schemaRegistry);
+        for (Map.Entry<String, ChannelMethods> entry : channels.entrySet()) {
+            aai.addChannelItem(createChannelItem(aai, entry.getKey(), entry.getValue(), schemas));
+        }
+        addComponentSchemas(aai, schemas.getComponentSchemas());
+        document = aai;
         return document;
     }
+
+    /**
+     * Scans a new version of the deployment, given the names of the classes that were added, changed
+     * or removed since the previous call. Only the channels that are declared by one of those classes,
+     * or that depend on one of them through their payload schemas, are generated again. The others
+     * are copied from the previous result.
+     *
+     * The first call, or a call without changed classes, scans the whole deployment and remembers
+     * what each channel was generated from.
+     *
+     * @param index IndexView of the new version of the deployment
+     * @param changedClasses the names of the changed classes, or null if unknown
+     * @return Document generated from scanning annotations
+     */
+    public Document rescan(IndexView index, Collection<DotName> changedClasses) {
+        this.index = index;
+        Set<String> affected = new TreeSet<>();
+        if (channelResults == null || changedClasses == null) {
+            LOG.debug("Scanning deployment for Async Annotations.");
+            schemas = new SchemaFactory(index, config.schemaReferencesEnable(), schemaRegistry);
+            channelsByClass = new HashMap<>();
+            classesByChannel = new HashMap<>();
+            channelResults = new TreeMap<>();
+            for (AnnotationInstance channel : index.getAnnotations(DOTNAME_CHANNEL)) {
+                addContribution(channel);
+            }
+            affected.addAll(classesByChannel.keySet());
+        } else {
+            LOG.debugv("Rescanning {0} changed classes for Async Annotations.", changedClasses.size());
+            for (DotName className : changedClasses) {
+                affected.addAll(removeContributions(className));
+                ClassInfo classInfo = index.getClassByName(className);
+                if (classInfo != null) {
+                    for (AnnotationInstance channel : classInfo.annotations(DOTNAME_CHANNEL)) {
+                        String name = addContribution(channel);
+                        if (name != null) {
+                            affected.add(name);
+                        }
+                    }
+                }
+            }
+            for (Map.Entry<String, ChannelResult> entry : channelResults.entrySet()) {
+                if (!Collections.disjoint(entry.getValue().dependencies, changedClasses)) {
+                    affected.add(entry.getKey());
+                }
+            }
+            schemas.update(index, changedClasses);
+        }
+
+        Aai20Document scratch = newDocument();
+        for (String name : affected) {
+            channelResults.remove(name);
+            Set<DotName> classes = classesByChannel.get(name);
+            if (classes == null) {
+                continue;
+            }
+            ChannelMethods methods = new ChannelMethods();
+            for (DotName className : classes) {
+                for (AnnotationInstance channel : channelsByClass.get(className)) {
+                    if (name.equals(channelName(channel))) {
+                        methods.add(channel, channel.target().asMethod());
+                    }
+                }
+            }
+            AaiChannelItem channelItem;
+            Set<DotName> dependencies;
+            schemas.startRecording();
+            try {
+                channelItem = createChannelItem(scratch, name, methods, schemas);
+            } finally {
+                dependencies = schemas.stopRecording();
+            }
+            dependencies.addAll(classes);
+            channelResults.put(name, new ChannelResult((ObjectNode) Library.writeNode(channelItem), dependencies));
+        }
+
+        Aai20Document aai = newDocument();
+        Set<String> referenced = new HashSet<>();
+        for (Map.Entry<String, ChannelResult> entry : channelResults.entrySet()) {
+            AaiChannelItem channelItem = aai.createChannelItem(entry.getKey());
+            Library.readNode(entry.getValue().json.deepCopy(), channelItem);
+            aai.addChannelItem(channelItem);
+            collectReferences(entry.getValue().json, schemas.getComponentSchemas(), referenced);
+        }
+        // Component schemas that are no longer referenced by any channel are left out
+        Map<String, ObjectNode> componentSchemas = new TreeMap<>(schemas.getComponentSchemas());
+        componentSchemas.keySet().retainAll(referenced);
+        addComponentSchemas(aai, componentSchemas);
+        document = aai;
+        return document;
+    }
+
+    private static Aai20Document newDocument() {
+        Aai20Document aai = new Aai20Document();
+        aai.asyncapi = AsyncApiConstants.ASYNC_API_VERSION;
+        return aai;
+    }
+
+    /**
+     * Creates the channel item of the given channel, with the operations of the given methods.
+     */
+    private AaiChannelItem createChannelItem(Aai20Document aai, String name, ChannelMethods methods,
+            SchemaFactory schemas) {
+        AaiChannelItem channelItem = aai.createChannelItem(name);
+        channelItem.description = methods.description;
+        if (methods.publish != null) {
+            channelItem.publish = createOperation(channelItem, "publish", methods.publish, methods.publishMethod,
+                    schemas);
+        }
+        if (methods.subscribe != null) {
+            channelItem.subscribe = createOperation(channelItem, "subscribe", methods.subscribe,
+                    methods.subscribeMethod, schemas);
+        }
+        return channelItem;
+    }
+
+    private static void addComponentSchemas(Aai20Document aai, Map<String, ObjectNode> componentSchemas) {
+        if (componentSchemas.isEmpty()) {
+            return;
+        }
+        aai.components = aai.createComponents();
+        for (Map.Entry<String, ObjectNode> entry : componentSchemas.entrySet()) {
+            AaiSchema schema = aai.components.createSchemaDefinition(entry.getKey());
+            Library.readNode(entry.getValue().deepCopy(), schema);
+            aai.components.addSchemaDefinition(entry.getKey(), schema);
+        }
+    }
+
+    /**
+     * Remembers the given channel annotation as a contribution of its declaring class and returns
+     * the name of its channel, or null if it does not declare one.
+     */
+    private String addContribution(AnnotationInstance channel) {
+        String name = channelName(channel);
+        if (name == null) {
+            return null;
+        }
+        DotName className = channel.target().asMethod().declaringClass().name();
+        channelsByClass.computeIfAbsent(className, k -> new ArrayList<>()).add(channel);
+        classesByChannel.computeIfAbsent(name, k -> new HashSet<>()).add(className);
+        return name;
+    }
+
+    /**
+     * Forgets the channel annotations of the given class and returns the names of their channels.
+     */
+    private Set<String> removeContributions(DotName className) {
+        List<AnnotationInstance> channels = channelsByClass.remove(className);
+        if (channels == null) {
+            return Collections.emptySet();
+        }
+        Set<String> names = new HashSet<>();
+        for (AnnotationInstance channel : channels) {
+            String name = channelName(channel);
+            // The class may declare several methods of the same channel
+            if (names.add(name)) {
+                Set<DotName> classes = classesByChannel.get(name);
+                classes.remove(className);
+                if (classes.isEmpty()) {
+                    classesByChannel.remove(name);
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Adds the names of the component schemas referenced from the given node, directly or through
+     * other component schemas, to the given set.
+     */
+    private static void collectReferences(JsonNode node, Map<String, ObjectNode> componentSchemas,
+            Set<String> referenced) {
+        JsonNode ref = node.get("$ref");
+        if (ref != null && ref.isTextual() && ref.asText().startsWith(SchemaFactory.COMPONENT_SCHEMA_REF_PREFIX)) {
+            String name = ref.asText().substring(SchemaFactory.COMPONENT_SCHEMA_REF_PREFIX.length());
+            ObjectNode schema = componentSchemas.get(name);
+            if (referenced.add(name) && schema != null) {
+                collectReferences(schema, componentSchemas, referenced);
+            }
+        }
+        for (JsonNode child : node) {
+            if (child.isContainerNode()) {
+                collectReferences(child, componentSchemas, referenced);
+            }
+        }
+    }
+
+    /**
+     * Returns the name of the channel declared by the given {@link Channel} annotation, or null if
+     * it is not placed on a method or has no name.
+     */
+    private static String channelName(AnnotationInstance channel) {
+        if (channel.target() == null || channel.target().kind() != AnnotationTarget.Kind.METHOD) {
+            return null;
+        }
+        return stringValue(channel, PROP_VALUE);
+    }
+
+    /**
+     * Creates the operation described by the given {@link Publish} or {@link Subscribe} annotation.
+     */
+    private AaiOperation createOperation(AaiChannelItem channelItem, String operationType, AnnotationInstance annotation,
+            MethodInfo method, SchemaFactory schemas) {
+        AaiOperation operation = new Aai20Operation(channelItem, operationType);
+        operation.operationId = stringValue(annotation, PROP_OPERATION_ID);
+        operation.summary = stringValue(annotation, PROP_SUMMARY);
+        operation.description = stringValue(annotation, PROP_DESCRIPTION);
+
+        AnnotationValue messageValue = annotation.value(PROP_MESSAGE);
+        AnnotationInstance message = messageValue == null ? null : messageValue.asNested();
+        AaiMessage aaiMessage = new Aai20Message(operation);
+        if (message != null) {
+            aaiMessage.name = stringValue(message, PROP_NAME);
+            aaiMessage.title = stringValue(message, PROP_TITLE);
+            aaiMessage.summary = stringValue(message, PROP_SUMMARY);
+            aaiMessage.description = stringValue(message, PROP_DESCRIPTION);
+            aaiMessage.contentType = stringValue(message, PROP_CONTENT_TYPE);
+        }
+        Type payloadType = payloadType(message, method, "publish".equals(operationType));
+        if (payloadType != null) {
+            aaiMessage.payload = schemas.schemaFor(payloadType);
+        }
+        operation.message = aaiMessage;
+        return operation;
+    }
+
+    /**
+     * Returns the payload type of a message: the type given by the {@link Message} annotation, or
+     * else the type the method receives (publish) or sends (subscribe), without the asynchronous
+     * wrappers (such as a message or a future) around it. Other generic types are kept as they are.
+     */
+    private static Type payloadType(AnnotationInstance message, MethodInfo method, boolean publish) {
+        AnnotationValue payload = message == null ? null : message.value(PROP_PAYLOAD);
+        if (payload != null && !DOTNAME_VOID.equals(payload.asClass().name())) {
+            return payload.asClass();
+        }
+        Type type;
+        if (publish) {
+            type = method.parametersCount() > 0 ? method.parameterType(0) : null;
+        } else {
+            type = method.returnType();
+        }
+        while (type != null && type.kind() == Type.Kind.PARAMETERIZED_TYPE
+                && type.asParameterizedType().arguments().size() == 1 && PAYLOAD_WRAPPERS.contains(type.name())) {
+            type = type.asParameterizedType().arguments().get(0);
+        }
+        if (type == null || type.kind() == Type.Kind.VOID || DOTNAME_VOID.equals(type.name())) {
+            return null;
+        }
+        return type;
+    }
+
+    /**
+     * Returns the value of the given string annotation property, or null if it is not set or empty.
+     */
+    private static String stringValue(AnnotationInstance annotation, String property) {
+        AnnotationValue value = annotation.value(property);
+        if (value == null || value.asString().isEmpty()) {
+            return null;
+        }
+        return value.asString();
+    }
+
+    /**
+     * A channel generated by a previous scan, together with the names of the classes it was
+     * generated from.
+     */
+    private static class ChannelResult {
+
+        private final ObjectNode json;
+        private final Set<DotName> dependencies;
+
+        ChannelResult(ObjectNode json, Set<DotName> dependencies) {
+            this.json = json;
+            this.dependencies = dependencies;
+        }
+    }
+
+    /**
+     * The methods contributing the operations of a single channel. When more than one method
+     * declares the same operation, the one with the lowest class and method name wins, so the
+     * result does not depend on the order of the index.
+     */
+    private static class ChannelMethods {
+
+        private String description;
+        private String descriptionKey;
+        private AnnotationInstance publish;
+        private MethodInfo publishMethod;
+        private String publishKey;
+        private AnnotationInstance subscribe;
+        private MethodInfo subscribeMethod;
+        private String subscribeKey;
+
+        void add(AnnotationInstance channel, MethodInfo method) {
+            String key = method.declaringClass().name().toString() + "#" + method.name();
+            String channelDescription = stringValue(channel, PROP_DESCRIPTION);
+            if (channelDescription != null && (descriptionKey == null || key.compareTo(descriptionKey) < 0)) {
+                description = channelDescription;
+                descriptionKey = key;
+            }
+            AnnotationInstance publishAnnotation = method.declaredAnnotation(DOTNAME_PUBLISH);
+            if (publishAnnotation != null) {
+                if (publishKey != null) {
+                    LOG.warnv("Publish operation of channel {0} is declared by both {1} and {2}",
+                            stringValue(channel, PROP_VALUE), key, publishKey);
+                }
+                if (publishKey == null || key.compareTo(publishKey) < 0) {
+                    publish = publishAnnotation;
+                    publishMethod = method;
+                    publishKey = key;
+                }
+            }
+            AnnotationInstance subscribeAnnotation = method.declaredAnnotation(DOTNAME_SUBSCRIBE);
+            if (subscribeAnnotation != null) {
+                if (subscribeKey != null) {
+                    LOG.warnv("Subscribe operation of channel {0} is declared by both {1} and {2}",
+                            stringValue(channel, PROP_VALUE), key, subscribeKey);
+                }
+                if (subscribeKey == null || key.compareTo(subscribeKey) < 0) {
+                    subscribe = subscribeAnnotation;
+                    subscribeMethod = method;
+                    subscribeKey = key;
+                }
+            }
+        }
+    }
 }
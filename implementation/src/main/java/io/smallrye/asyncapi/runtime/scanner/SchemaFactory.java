@@ -0,0 +1,518 @@
+/*
+ * Copyright 2026 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.runtime.scanner;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import org.jboss.jandex.ArrayType;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.asyncapi.models.AaiSchema;
+import io.apicurio.datamodels.asyncapi.v2.models.Aai20Document;
+import io.smallrye.asyncapi.spec.AAISchemaRegistry;
+
+/**
+ * Creates JSON schemas for Java types, using only the information found in the jandex index. No
+ * classes are loaded. Well-known JDK types are mapped to their JSON schema type and format,
+ * collections and maps become arrays and objects, enums become string enumerations, and other
+ * classes become objects with a property per instance field.
+ *
+ * The schema of each indexed class is generated once per factory. When schema references are
+ * enabled, it is registered as a component schema under the simple name of the class, and every
+ * use of the class becomes a "$ref" to that component instead of an inline copy.
+ *
+ * An {@link AAISchemaRegistry} may supply the schemas of well-known types. It is consulted once
+ * per type, before any schema is generated for it.
+ *
+ * The factory also keeps track of the classes each generated schema was built from, so that a
+ * factory can be kept across scans of a changing index and only forget the schemas of the
+ * classes that changed (see {@link #update(IndexView, Collection)}).
+ */
+public class SchemaFactory {
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private static final DotName OBJECT = DotName.createSimple("java.lang.Object");
+    private static final DotName OPTIONAL = DotName.createSimple("java.util.Optional");
+
+    private static final Map<DotName, String[]> WELL_KNOWN_TYPES = new HashMap<>();
+    private static final Set<DotName> COLLECTION_TYPES = new HashSet<>();
+    private static final Set<DotName> MAP_TYPES = new HashSet<>();
+
+    static {
+        wellKnown("string", null, String.class, Character.class, StringBuilder.class, CharSequence.class);
+        wellKnown("boolean", null, Boolean.class);
+        wellKnown("integer", "int32", Byte.class, Short.class, Integer.class);
+        wellKnown("integer", "int64", Long.class);
+        wellKnown("integer", null, java.math.BigInteger.class);
+        wellKnown("number", "float", Float.class);
+        wellKnown("number", "double", Double.class);
+        wellKnown("number", null, java.math.BigDecimal.class, Number.class);
+        wellKnown("string", "uuid", java.util.UUID.class);
+        wellKnown("string", "uri", java.net.URI.class, java.net.URL.class);
+        wellKnown("string", "date", java.time.LocalDate.class);
+        wellKnown("string", "date-time", java.time.Instant.class, java.time.LocalDateTime.class,
+                java.time.OffsetDateTime.class, java.time.ZonedDateTime.class, java.util.Date.class);
+        wellKnown("string", "time", java.time.LocalTime.class, java.time.OffsetTime.class);
+        wellKnown("string", "duration", java.time.Duration.class);
+
+        for (Class<?> c : new Class<?>[] { Iterable.class, java.util.Collection.class, java.util.List.class,
+                java.util.Set.class, java.util.SortedSet.class, java.util.Queue.class, java.util.Deque.class,
+                java.util.ArrayList.class, java.util.LinkedList.class, java.util.HashSet.class,
+                java.util.LinkedHashSet.class, java.util.TreeSet.class }) {
+            COLLECTION_TYPES.add(DotName.createSimple(c.getName()));
+        }
+        for (Class<?> c : new Class<?>[] { Map.class, java.util.SortedMap.class, HashMap.class,
+                java.util.LinkedHashMap.class, java.util.TreeMap.class }) {
+            MAP_TYPES.add(DotName.createSimple(c.getName()));
+        }
+    }
+
+    private static void wellKnown(String type, String format, Class<?>... classes) {
+        for (Class<?> c : classes) {
+            WELL_KNOWN_TYPES.put(DotName.createSimple(c.getName()), new String[] { type, format });
+        }
+    }
+
+    static final String COMPONENT_SCHEMA_REF_PREFIX = "#/components/schemas/";
+    private static final ObjectNode NOT_REGISTERED = NODES.objectNode();
+
+    private IndexView index;
+    private final boolean useReferences;
+    private final Set<DotName> inProgress = new HashSet<>();
+    private final Map<DotName, ObjectNode> classSchemas = new HashMap<>();
+    private final Map<DotName, String> schemaNames = new HashMap<>();
+    private final Map<String, ObjectNode> componentSchemas = new TreeMap<>();
+    private final AAISchemaRegistry registry;
+    private final Map<DotName, ObjectNode> registeredSchemas = new HashMap<>();
+    private final Aai20Document registryDocument = new Aai20Document();
+    private final Map<DotName, Set<DotName>> dependencies = new HashMap<>();
+    private final Deque<Set<DotName>> recordings = new ArrayDeque<>();
+    private int truncations;
+
+    /**
+     * Constructor.
+     *
+     * @param index IndexView of deployment
+     */
+    public SchemaFactory(IndexView index) {
+        this(index, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param index IndexView of deployment
+     * @param useReferences true to emit indexed classes as component schema references
+     */
+    public SchemaFactory(IndexView index, boolean useReferences) {
+        this(index, useReferences, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param index IndexView of deployment
+     * @param useReferences true to emit indexed classes as component schema references
+     * @param registry the registry of well-known schemas, may be null
+     */
+    public SchemaFactory(IndexView index, boolean useReferences, AAISchemaRegistry registry) {
+        this.index = index;
+        this.useReferences = useReferences;
+        this.registry = registry;
+    }
+
+    /**
+     * Returns the component schemas referenced by the schemas created so far, keyed by name.
+     * Always empty unless schema references are enabled.
+     *
+     * @return component schemas
+     */
+    public Map<String, ObjectNode> getComponentSchemas() {
+        return Collections.unmodifiableMap(componentSchemas);
+    }
+
+    /**
+     * Starts recording the classes that the schemas created from now on depend on. Recordings
+     * may be nested.
+     */
+    void startRecording() {
+        recordings.push(new HashSet<>());
+    }
+
+    /**
+     * Stops the innermost recording and returns the classes recorded since it was started.
+     *
+     * @return the names of the classes the schemas created meanwhile depend on
+     */
+    Set<DotName> stopRecording() {
+        return recordings.pop();
+    }
+
+    /**
+     * Points the factory to a new version of the index. The schemas generated from any of the
+     * given classes, directly or through one of their fields or supertypes, are forgotten and
+     * will be generated again from the new index when next asked for. All others are kept.
+     *
+     * @param index the new IndexView
+     * @param changedClasses the names of the classes that were added, changed or removed
+     */
+    void update(IndexView index, Collection<DotName> changedClasses) {
+        this.index = index;
+        Set<DotName> stale = new HashSet<>(changedClasses);
+        for (Map.Entry<DotName, Set<DotName>> entry : dependencies.entrySet()) {
+            if (!Collections.disjoint(entry.getValue(), changedClasses)) {
+                stale.add(entry.getKey());
+            }
+        }
+        for (DotName name : stale) {
+            dependencies.remove(name);
+            classSchemas.remove(name);
+            registeredSchemas.remove(name);
+            String schemaName = schemaNames.remove(name);
+            if (schemaName != null) {
+                componentSchemas.remove(schemaName);
+            }
+        }
+    }
+
+    /**
+     * Creates the JSON schema of the given type. Returns null for void.
+     *
+     * @param type the Java type
+     * @return schema
+     */
+    public ObjectNode schemaFor(Type type) {
+        switch (type.kind()) {
+            case VOID:
+                return null;
+            case PRIMITIVE:
+                return primitiveSchema(type.asPrimitiveType());
+            case ARRAY:
+                return arraySchema(type.asArrayType());
+            case PARAMETERIZED_TYPE:
+                return parameterizedSchema(type.name(), type.asParameterizedType().arguments());
+            case CLASS:
+                return classSchema(type.name());
+            case WILDCARD_TYPE:
+                return schemaFor(type.asWildcardType().extendsBound());
+            default:
+                // Type variables and unresolved types carry no usable information
+                return typeSchema("object", null);
+        }
+    }
+
+    private ObjectNode primitiveSchema(PrimitiveType type) {
+        switch (type.primitive()) {
+            case BOOLEAN:
+                return typeSchema("boolean", null);
+            case BYTE:
+            case SHORT:
+            case INT:
+                return typeSchema("integer", "int32");
+            case LONG:
+                return typeSchema("integer", "int64");
+            case FLOAT:
+                return typeSchema("number", "float");
+            case DOUBLE:
+                return typeSchema("number", "double");
+            default:
+                return typeSchema("string", null);
+        }
+    }
+
+    private ObjectNode arraySchema(ArrayType type) {
+        Type component = type.dimensions() > 1 ? ArrayType.create(type.component(), type.dimensions() - 1)
+                : type.component();
+        if (component.kind() == Type.Kind.PRIMITIVE
+                && component.asPrimitiveType().primitive() == PrimitiveType.Primitive.BYTE) {
+            return typeSchema("string", "byte");
+        }
+        ObjectNode schema = typeSchema("array", null);
+        schema.set("items", schemaFor(component));
+        return schema;
+    }
+
+    private ObjectNode parameterizedSchema(DotName name, List<Type> arguments) {
+        if (COLLECTION_TYPES.contains(name) && arguments.size() == 1) {
+            ObjectNode schema = typeSchema("array", null);
+            schema.set("items", schemaFor(arguments.get(0)));
+            return schema;
+        }
+        if (MAP_TYPES.contains(name) && arguments.size() == 2) {
+            ObjectNode schema = typeSchema("object", null);
+            schema.set("additionalProperties", schemaFor(arguments.get(1)));
+            return schema;
+        }
+        if (OPTIONAL.equals(name) && arguments.size() == 1) {
+            return schemaFor(arguments.get(0));
+        }
+        return classSchema(name);
+    }
+
+    private ObjectNode classSchema(DotName name) {
+        record(name);
+        ObjectNode registered = registeredSchema(name);
+        if (registered != null) {
+            if (useReferences && !registered.has("$ref")) {
+                return componentReference(name, registered::deepCopy);
+            }
+            return registered.deepCopy();
+        }
+        String[] wellKnown = WELL_KNOWN_TYPES.get(name);
+        if (wellKnown != null) {
+            return typeSchema(wellKnown[0], wellKnown[1]);
+        }
+        if (COLLECTION_TYPES.contains(name)) {
+            return typeSchema("array", null);
+        }
+        ClassInfo classInfo = index.getClassByName(name);
+        if (classInfo == null || OBJECT.equals(name) || MAP_TYPES.contains(name)) {
+            return typeSchema("object", null);
+        }
+        return indexedClassSchema(classInfo);
+    }
+
+    /**
+     * Returns the schema of a class found in the index, either as a reference to its
+     * component schema or as an inline copy. Either way the class is only introspected once.
+     */
+    private ObjectNode indexedClassSchema(ClassInfo classInfo) {
+        DotName name = classInfo.name();
+        if (useReferences) {
+            return componentReference(name, () -> objectSchema(classInfo));
+        }
+
+        ObjectNode schema = classSchemas.get(name);
+        if (schema != null) {
+            recordDependencies(name);
+            return schema.deepCopy();
+        }
+        if (!inProgress.add(name)) {
+            // A type that (indirectly) contains itself, stop here
+            truncations++;
+            return typeSchema("object", null);
+        }
+        int truncationsBefore = truncations;
+        Set<DotName> used;
+        startRecording();
+        try {
+            schema = objectSchema(classInfo);
+        } finally {
+            used = stopRecording();
+            inProgress.remove(name);
+        }
+        // A schema cut short by a cycle is only valid where it was generated
+        if (truncations == truncationsBefore) {
+            classSchemas.put(name, schema);
+            dependencies.computeIfAbsent(name, k -> new HashSet<>()).addAll(used);
+            return schema.deepCopy();
+        }
+        return schema;
+    }
+
+    /**
+     * Returns a reference to the component schema of the given type, registering the schema from
+     * the given generator the first time the type is seen.
+     */
+    private ObjectNode componentReference(DotName name, Supplier<ObjectNode> generator) {
+        String schemaName = schemaNames.get(name);
+        if (schemaName == null) {
+            schemaName = schemaName(name);
+            // Register the name before generating, so that a type containing itself refers to itself
+            schemaNames.put(name, schemaName);
+            componentSchemas.put(schemaName, NODES.objectNode());
+            startRecording();
+            try {
+                componentSchemas.put(schemaName, generator.get());
+            } finally {
+                dependencies.computeIfAbsent(name, k -> new HashSet<>()).addAll(stopRecording());
+            }
+        } else {
+            recordDependencies(name);
+        }
+        ObjectNode reference = NODES.objectNode();
+        reference.put("$ref", COMPONENT_SCHEMA_REF_PREFIX + schemaName);
+        return reference;
+    }
+
+    /**
+     * Returns the schema the registry provides for the given type, or null. The registry is only
+     * asked once per type, and its answer (including none) is kept for the rest of the scan.
+     */
+    private ObjectNode registeredSchema(DotName name) {
+        if (registry == null) {
+            return null;
+        }
+        ObjectNode schema = registeredSchemas.get(name);
+        if (schema == null) {
+            Set<String> superTypeNames = superTypeNames(name);
+            AaiSchema found = registry.lookup(name.toString(), superTypeNames);
+            schema = found == null ? NOT_REGISTERED : toJson(found);
+            registeredSchemas.put(name, schema);
+            Set<DotName> used = dependencies.computeIfAbsent(name, k -> new HashSet<>());
+            for (String superTypeName : superTypeNames) {
+                used.add(DotName.createSimple(superTypeName));
+            }
+        }
+        recordDependencies(name);
+        return schema == NOT_REGISTERED ? null : schema;
+    }
+
+    private ObjectNode toJson(AaiSchema schema) {
+        // The writer needs the schema to be attached to a document to pick the right format
+        if (schema._ownerDocument == null) {
+            schema._ownerDocument = registryDocument;
+        }
+        if (schema._parent == null) {
+            schema._parent = schema._ownerDocument;
+        }
+        return (ObjectNode) Library.writeNode(schema);
+    }
+
+    /**
+     * Returns the names of all superclasses and interfaces of the given type that can be found by
+     * walking the index.
+     */
+    private Set<String> superTypeNames(DotName name) {
+        Set<String> names = new LinkedHashSet<>();
+        Deque<DotName> pending = new ArrayDeque<>();
+        pending.add(name);
+        while (!pending.isEmpty()) {
+            ClassInfo classInfo = index.getClassByName(pending.poll());
+            if (classInfo == null) {
+                continue;
+            }
+            DotName superName = classInfo.superName();
+            if (superName != null && !OBJECT.equals(superName) && names.add(superName.toString())) {
+                pending.add(superName);
+            }
+            for (DotName interfaceName : classInfo.interfaceNames()) {
+                if (names.add(interfaceName.toString())) {
+                    pending.add(interfaceName);
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Records the given class in every active recording.
+     */
+    private void record(DotName name) {
+        for (Set<DotName> recording : recordings) {
+            recording.add(name);
+        }
+    }
+
+    /**
+     * Records the classes a previously generated schema of the given class depends on in every
+     * active recording.
+     */
+    private void recordDependencies(DotName name) {
+        Set<DotName> used = dependencies.get(name);
+        if (used != null) {
+            for (Set<DotName> recording : recordings) {
+                recording.addAll(used);
+            }
+        }
+    }
+
+    private ObjectNode objectSchema(ClassInfo classInfo) {
+        if (classInfo.isEnum()) {
+            ObjectNode schema = typeSchema("string", null);
+            ArrayNode values = schema.putArray("enum");
+            for (FieldInfo constant : classInfo.enumConstants()) {
+                values.add(constant.name());
+            }
+            return schema;
+        }
+        ObjectNode schema = typeSchema("object", null);
+        ObjectNode properties = NODES.objectNode();
+        addProperties(classInfo, properties);
+        if (properties.size() > 0) {
+            schema.set("properties", properties);
+        }
+        return schema;
+    }
+
+    /**
+     * Returns the component name of the given class: its simple name, or its full name when the
+     * simple name is already used by another class.
+     */
+    private String schemaName(DotName name) {
+        String simpleName = name.withoutPackagePrefix().replace('$', '.');
+        if (!componentSchemas.containsKey(simpleName)) {
+            return simpleName;
+        }
+        return name.toString().replace('$', '.');
+    }
+
+    /**
+     * Adds a property for every instance field of the given class and its indexed superclasses.
+     * Superclass properties come first.
+     */
+    private void addProperties(ClassInfo classInfo, ObjectNode properties) {
+        DotName superName = classInfo.superName();
+        if (superName != null && !OBJECT.equals(superName)) {
+            record(superName);
+            ClassInfo superClass = index.getClassByName(superName);
+            if (superClass != null) {
+                addProperties(superClass, properties);
+            }
+        }
+        for (FieldInfo field : classInfo.unsortedFields()) {
+            int flags = field.flags();
+            if (Modifier.isStatic(flags) || Modifier.isTransient(flags) || field.isSynthetic()) {
+                continue;
+            }
+            properties.set(field.name(), schemaFor(field.type()));
+        }
+    }
+
+    private static ObjectNode typeSchema(String type, String format) {
+        ObjectNode schema = NODES.objectNode();
+        schema.put("type", type);
+        if (format != null) {
+            schema.put("format", format);
+        }
+        return schema;
+    }
+
+}
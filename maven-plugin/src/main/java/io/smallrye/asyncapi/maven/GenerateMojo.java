@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+import org.jboss.jandex.IndexView;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.FileAsset;
+import org.jboss.shrinkwrap.api.importer.ExplodedImporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+
+import io.smallrye.asyncapi.api.AsyncApiConfig;
+import io.smallrye.asyncapi.api.AsyncApiConstants;
+import io.smallrye.asyncapi.api.AsyncApiDocument;
+import io.smallrye.asyncapi.api.util.ArchiveUtil;
+import io.smallrye.asyncapi.runtime.AsyncApiDocumentBuilder;
+import io.smallrye.asyncapi.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.runtime.AsyncApiProcessor;
+import io.smallrye.asyncapi.runtime.AsyncApiStaticFile;
+import io.smallrye.asyncapi.runtime.io.AsyncApiRenderedDocument;
+
+/**
+ * Generates the final AsyncAPI document of an app while it is built, so that nothing has to be
+ * scanned, merged or filtered when the app starts.
+ *
+ * The classes and resources that make up the artifact are processed exactly like a deployment is
+ * at runtime: indexed, scanned for annotations, merged with the static file and the model reader
+ * output, and filtered. The result is written in JSON, YAML and binary form next to the classes, as
+ * {@link AsyncApiConstants#GENERATED_DOCUMENT_JSON}, {@link AsyncApiConstants#GENERATED_DOCUMENT_YAML}
+ * and {@link AsyncApiConstants#GENERATED_DOCUMENT_BINARY}, and thus packaged with them. At runtime the document is picked up by
+ * {@link ArchiveUtil#archiveToGeneratedDocument} or {@link AsyncApiProcessor#generatedDocument} and
+ * served as is.
+ *
+ * Note that the configuration is read when the app is built, so configuration that only exists at
+ * runtime (for example server URLs from the environment) is not part of the generated document.
+ */
+@Mojo(name = "generate", defaultPhase = LifecyclePhase.PROCESS_CLASSES, requiresDependencyResolution = ResolutionScope.RUNTIME, threadSafe = true)
+public class GenerateMojo extends AbstractMojo {
+
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    private MavenProject project;
+
+    /**
+     * The directory holding the classes and resources of the artifact. The generated document is
+     * written into its META-INF directory.
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+    private File classesDirectory;
+
+    /**
+     * Also index the runtime dependencies of the project, subject to the
+     * mp.asyncapi.extensions.scan-dependencies.* configuration.
+     */
+    @Parameter(property = "asyncapi.includeDependencies", defaultValue = "false")
+    private boolean includeDependencies;
+
+    /**
+     * Skip the generation of the document.
+     */
+    @Parameter(property = "asyncapi.skip", defaultValue = "false")
+    private boolean skip;
+
+    /**
+     * @see org.apache.maven.plugin.Mojo#execute()
+     */
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (skip) {
+            getLog().info("Skipping AsyncAPI document generation");
+            return;
+        }
+        if (!classesDirectory.isDirectory()) {
+            getLog().info("No classes found in " + classesDirectory + ", skipping AsyncAPI document generation");
+            return;
+        }
+
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class, project.getBuild().getFinalName() + ".jar");
+        archive.as(ExplodedImporter.class).importDirectory(classesDirectory);
+        // Leftovers from a previous build must not be mistaken for a static file or generated document
+        archive.delete(AsyncApiConstants.GENERATED_DOCUMENT_JSON);
+        archive.delete(AsyncApiConstants.GENERATED_DOCUMENT_YAML);
+        archive.delete(AsyncApiConstants.GENERATED_DOCUMENT_BINARY);
+        if (includeDependencies) {
+            for (Artifact artifact : project.getArtifacts()) {
+                File file = artifact.getFile();
+                if (file != null && file.getName().endsWith(AsyncApiConstants.JAR_SUFFIX)) {
+                    archive.add(new FileAsset(file), "/lib/" + file.getName());
+                }
+            }
+        }
+
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(classpath(), getClass().getClassLoader())) {
+            thread.setContextClassLoader(loader);
+            // The document holder is shared by every execution of this plugin in the build
+            synchronized (AsyncApiDocument.INSTANCE) {
+                try {
+                    generate(archive, loader);
+                    write(AsyncApiConstants.GENERATED_DOCUMENT_JSON, AsyncApiFormat.JSON);
+                    write(AsyncApiConstants.GENERATED_DOCUMENT_YAML, AsyncApiFormat.YAML);
+                    write(AsyncApiConstants.GENERATED_DOCUMENT_BINARY, AsyncApiFormat.BINARY);
+                } finally {
+                    AsyncApiDocument.INSTANCE.reset();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new MojoExecutionException("Unable to generate the AsyncAPI document", e);
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+
+    /**
+     * Runs all phases of the document initialization against the given archive.
+     */
+    private void generate(JavaArchive archive, ClassLoader loader) throws IOException {
+        AsyncApiConfig config = ArchiveUtil.archiveToConfig(archive);
+        IndexView index = ArchiveUtil.archiveToIndex(config, archive);
+
+        AsyncApiDocument.INSTANCE.reset();
+        try (AsyncApiStaticFile staticFile = ArchiveUtil.archiveToStaticFile(archive)) {
+            new AsyncApiDocumentBuilder().initialize(config, index, staticFile, loader, project.getArtifactId());
+        }
+    }
+
+    private void write(String path, AsyncApiFormat format) throws IOException {
+        File file = new File(classesDirectory, path.substring(1));
+        Files.createDirectories(file.getParentFile().toPath());
+        try (OutputStream out = Files.newOutputStream(file.toPath())) {
+            AsyncApiDocument.INSTANCE.getRendered(format).writeTo(AsyncApiRenderedDocument.Encoding.IDENTITY, out);
+        }
+        getLog().info("Generated AsyncAPI document " + file);
+    }
+
+    /**
+     * Returns the runtime classpath of the project, used to load the model reader, filter and
+     * schema registry of the app.
+     */
+    private URL[] classpath() throws MojoExecutionException {
+        try {
+            List<URL> urls = new ArrayList<>();
+            for (String element : project.getRuntimeClasspathElements()) {
+                urls.add(new File(element).toURI().toURL());
+            }
+            return urls.toArray(new URL[0]);
+        } catch (DependencyResolutionRequiredException | MalformedURLException e) {
+            throw new MojoExecutionException("Unable to resolve the runtime classpath", e);
+        }
+    }
+
+}
@@ -0,0 +1,199 @@
+/**
+ * Copyright 2026 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.maven;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.maven.project.MavenProject;
+import org.jboss.jandex.IndexView;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.exporter.ExplodedExporter;
+import org.jboss.shrinkwrap.api.importer.ExplodedImporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.asyncapi.models.AaiDocument;
+import io.smallrye.asyncapi.api.AsyncApiConfig;
+import io.smallrye.asyncapi.api.AsyncApiConstants;
+import io.smallrye.asyncapi.api.AsyncApiDocument;
+import io.smallrye.asyncapi.api.util.ArchiveUtil;
+import io.smallrye.asyncapi.apps.annotations.UserEvents;
+import io.smallrye.asyncapi.runtime.AsyncApiDocumentBuilder;
+import io.smallrye.asyncapi.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.runtime.AsyncApiProcessor;
+import io.smallrye.asyncapi.runtime.AsyncApiStaticFile;
+
+/**
+ * Runs the {@link GenerateMojo} against the classes directory of a sample app, and reads the
+ * generated document back the way the runtime does.
+ */
+public class GenerateMojoTest {
+
+    private static final String STATIC_FILE = "{\"asyncapi\": \"2.0.0\", \"info\": {\"title\": \"Users\", \"version\": \"1.0.0\"},"
+            + " \"servers\": {\"prod\": {\"url\": \"broker.example.com\", \"protocol\": \"kafka\"}}}";
+
+    private Path dir;
+    private File classes;
+
+    @Before
+    public void setUp() {
+        AsyncApiDocument.INSTANCE.reset();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        AsyncApiDocument.INSTANCE.reset();
+        if (dir != null) {
+            try (Stream<Path> files = Files.walk(dir)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testGeneratedDocumentReadByRuntime() throws Exception {
+        exportClasses();
+        String expected = runtimeBuild();
+
+        mojo(false).execute();
+
+        for (String path : new String[] { AsyncApiConstants.GENERATED_DOCUMENT_JSON,
+                AsyncApiConstants.GENERATED_DOCUMENT_YAML, AsyncApiConstants.GENERATED_DOCUMENT_BINARY }) {
+            Assert.assertTrue(path, new File(classes, path.substring(1)).isFile());
+        }
+
+        // Packaged with the classes, and picked up from the class path of the app
+        Map<AsyncApiFormat, byte[]> generated;
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { classes.toURI().toURL() }, null)) {
+            generated = AsyncApiProcessor.generatedDocument(loader);
+        }
+        Assert.assertNotNull(generated);
+        Assert.assertEquals(AsyncApiFormat.values().length, generated.size());
+        Assert.assertEquals(expected, new String(generated.get(AsyncApiFormat.JSON), StandardCharsets.UTF_8));
+
+        // Or from the archive of the app
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class, "app.jar");
+        archive.as(ExplodedImporter.class).importDirectory(classes);
+        AsyncApiDocument.INSTANCE.initialize(ArchiveUtil.archiveToGeneratedDocument(archive));
+        AaiDocument model = (AaiDocument) AsyncApiDocument.INSTANCE.get();
+        Assert.assertEquals("Users", model.info.title);
+        Assert.assertTrue(model.servers.containsKey("prod"));
+        Assert.assertTrue(model.channels.containsKey("user/signedup"));
+        Assert.assertTrue(model.channels.containsKey("user/deleted"));
+        Assert.assertEquals(expected, Library.writeDocumentToJSONString(model));
+        Assert.assertEquals(expected,
+                new String(AsyncApiDocument.INSTANCE.getRendered(AsyncApiFormat.JSON).toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testPreviousOutputIgnored() throws Exception {
+        exportClasses();
+        mojo(false).execute();
+        byte[] first = Files.readAllBytes(classes.toPath().resolve(AsyncApiConstants.GENERATED_DOCUMENT_JSON.substring(1)));
+
+        // A generated document left in the classes directory is neither scanned nor merged again
+        mojo(false).execute();
+        Assert.assertArrayEquals(first,
+                Files.readAllBytes(classes.toPath().resolve(AsyncApiConstants.GENERATED_DOCUMENT_JSON.substring(1))));
+    }
+
+    @Test
+    public void testSkip() throws Exception {
+        exportClasses();
+        mojo(true).execute();
+        Assert.assertFalse(new File(classes, AsyncApiConstants.GENERATED_DOCUMENT_JSON.substring(1)).exists());
+    }
+
+    @Test
+    public void testMissingClassesDirectory() throws Exception {
+        dir = Files.createTempDirectory("asyncapi-generate");
+        classes = dir.resolve("classes").toFile();
+        mojo(false).execute();
+        Assert.assertFalse(classes.exists());
+    }
+
+    /**
+     * Exports the classes and static file of the sample app into a classes directory, as compiled
+     * by the build.
+     */
+    private void exportClasses() throws Exception {
+        dir = Files.createTempDirectory("asyncapi-generate");
+        JavaArchive app = ShrinkWrap.create(JavaArchive.class, "classes")
+                .addPackage(UserEvents.class.getPackage())
+                .addAsManifestResource(new StringAsset(STATIC_FILE), "asyncapi.json");
+        classes = app.as(ExplodedExporter.class).exportExploded(dir.toFile());
+    }
+
+    /**
+     * Builds the document of the sample app at runtime, as JSON.
+     */
+    private String runtimeBuild() throws Exception {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class, "app.jar");
+        archive.as(ExplodedImporter.class).importDirectory(classes);
+        AsyncApiConfig config = ArchiveUtil.archiveToConfig(archive);
+        IndexView index = ArchiveUtil.archiveToIndex(config, archive);
+        try (AsyncApiStaticFile staticFile = ArchiveUtil.archiveToStaticFile(archive)) {
+            new AsyncApiDocumentBuilder().initialize(config, index, staticFile, getClass().getClassLoader(), "app");
+        }
+        try {
+            return new String(AsyncApiDocument.INSTANCE.getRendered(AsyncApiFormat.JSON).toByteArray(),
+                    StandardCharsets.UTF_8);
+        } finally {
+            AsyncApiDocument.INSTANCE.reset();
+        }
+    }
+
+    private GenerateMojo mojo(boolean skip) throws Exception {
+        MavenProject project = new MavenProject();
+        project.setGroupId("io.smallrye.test");
+        project.setArtifactId("app");
+        project.setVersion("1.0.0");
+        project.getBuild().setFinalName("app-1.0.0");
+        project.getBuild().setOutputDirectory(classes.getAbsolutePath());
+
+        GenerateMojo mojo = new GenerateMojo();
+        set(mojo, "project", project);
+        set(mojo, "classesDirectory", classes);
+        set(mojo, "includeDependencies", false);
+        set(mojo, "skip", skip);
+        return mojo;
+    }
+
+    private static void set(GenerateMojo mojo, String name, Object value) throws Exception {
+        Field field = GenerateMojo.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(mojo, value);
+    }
+
+}
@@ -16,6 +16,11 @@
 
 package io.smallrye.asyncapi.spec;
 
+import io.apicurio.datamodels.asyncapi.models.AaiChannelItem;
+import io.apicurio.datamodels.asyncapi.models.AaiMessage;
+import io.apicurio.datamodels.asyncapi.models.AaiOperation;
+import io.apicurio.datamodels.asyncapi.models.AaiSchema;
+import io.apicurio.datamodels.asyncapi.models.AaiServer;
 import io.apicurio.datamodels.core.models.Document;
 
 /**
@@ -24,16 +29,97 @@ import io.apicurio.datamodels.core.models.Document;
  * and is typically used to suppress parts of the document that should not be included. Usually this
  * is either a result of security concerns or anachronistic annotation scanning.
  *
+ * <p>
+ * The filter is called for each channel, operation, message, schema and server of the document,
+ * parents first, in a single traversal shared by all filters. Each of these methods returns the node
+ * given to it to keep it, another node to replace it, or null to remove it from the document (the
+ * children of a removed node are not visited). Finally {@link #filterDocument(Document)} is called
+ * with the whole document. All methods do nothing by default.
+ * </p>
+ *
+ * <p>
+ * Several filters may be configured, they are applied in the configured order: each node is handed
+ * to the first filter, then what it returned to the second one, and so on. A filter that declares
+ * itself stateless (see {@link #isStateless()}) may be called concurrently for different channels,
+ * component schemas and component messages.
+ * </p>
+ *
  * @author eric.wittmann@gmail.com
  */
 public interface AAIFilter {
 
+    /**
+     * Allows filtering of a single channel of the document.
+     *
+     * @param channel the channel
+     * @return the channel to keep, a replacement, or null to remove it
+     */
+    default AaiChannelItem filterChannel(AaiChannelItem channel) {
+        return channel;
+    }
+
+    /**
+     * Allows filtering of a single operation (subscribe or publish) of a channel.
+     *
+     * @param operation the operation
+     * @return the operation to keep, a replacement, or null to remove it
+     */
+    default AaiOperation filterOperation(AaiOperation operation) {
+        return operation;
+    }
+
+    /**
+     * Allows filtering of a single message, either of an operation (including the messages of a
+     * oneOf) or of the components of the document.
+     *
+     * @param message the message
+     * @return the message to keep, a replacement, or null to remove it
+     */
+    default AaiMessage filterMessage(AaiMessage message) {
+        return message;
+    }
+
+    /**
+     * Allows filtering of a single schema, either the payload of a message, a schema of the
+     * components of the document, or a schema nested in one of those (properties, items, allOf,
+     * oneOf, anyOf, not and additionalProperties).
+     *
+     * @param schema the schema
+     * @return the schema to keep, a replacement, or null to remove it
+     */
+    default AaiSchema filterSchema(AaiSchema schema) {
+        return schema;
+    }
+
+    /**
+     * Allows filtering of a single server of the document.
+     *
+     * @param server the server
+     * @return the server to keep, a replacement, or null to remove it
+     */
+    default AaiServer filterServer(AaiServer server) {
+        return server;
+    }
+
+    /**
+     * Tells whether this filter is stateless, that is whether its node-level methods only depend on
+     * the node given to them, and may thus be called concurrently for independent parts of the
+     * document. Defaults to false.
+     *
+     * @return true if the node-level methods of this filter may be called concurrently
+     */
+    default boolean isStateless() {
+        return false;
+    }
+
     /**
      * Allows filtering of the entire document. This will be called after all other phases are complete and
-     * combined (model reader, static file, annotation scanning).
+     * combined (model reader, static file, annotation scanning), and after the nodes of the document have
+     * been filtered.
      *
      * @param document
      */
-    public void filterDocument(Document document);
+    default void filterDocument(Document document) {
+    }
 
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.spec;
+
+import java.util.Set;
+
+import io.apicurio.datamodels.asyncapi.models.AaiSchema;
+
+/**
+ * This interface allows application developers to provide the schemas of well-known types (for
+ * example Avro or Protobuf generated classes, or types from the JDK) instead of having them
+ * generated from their fields during annotation scanning.
+ */
+public interface AAISchemaRegistry {
+
+    /**
+     * Returns the schema to use for the given type, or null to have the schema generated. The
+     * returned schema may be complete, or carry only a "$ref" to an external schema. This method
+     * is called at most once per type and scan.
+     *
+     * @param typeName the fully qualified name of the type
+     * @param superTypeNames the fully qualified names of the known superclasses and interfaces of
+     *        the type, which is empty if the type is not part of the scanned deployment
+     * @return the schema of the type, or null
+     */
+    AaiSchema lookup(String typeName, Set<String> superTypeNames);
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.spec.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Describes the channel a method produces messages to or consumes messages from. The operation
+ * itself is described by a {@link Publish} or {@link Subscribe} annotation on the same method.
+ * Several methods may name the same channel, each contributing one of its operations.
+ */
+@Target({ ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Channel {
+
+    /**
+     * The name of the channel, relative to the servers of the document.
+     *
+     * @return the channel name
+     **/
+    String value();
+
+    /**
+     * A description of the channel.
+     *
+     * @return the channel description
+     **/
+    String description() default "";
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.spec.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Describes the message of a {@link Publish} or {@link Subscribe} operation.
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Message {
+
+    /**
+     * A machine-friendly name for the message.
+     *
+     * @return the message name
+     **/
+    String name() default "";
+
+    /**
+     * A human-friendly title for the message.
+     *
+     * @return the message title
+     **/
+    String title() default "";
+
+    /**
+     * A short summary of what the message is about.
+     *
+     * @return the message summary
+     **/
+    String summary() default "";
+
+    /**
+     * A verbose explanation of the message.
+     *
+     * @return the message description
+     **/
+    String description() default "";
+
+    /**
+     * The content type to use when encoding/decoding the message's payload.
+     *
+     * @return the content type
+     **/
+    String contentType() default "";
+
+    /**
+     * The type of the message payload. Defaults to the type derived from the annotated method.
+     *
+     * @return the payload type
+     **/
+    Class<?> payload() default Void.class;
+
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.spec.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Describes the subscribe operation of the {@link Channel} named on the same method, that is
+ * the messages that clients may subscribe to on the channel, and so the messages
+ * the annotated method sends.
+ */
+@Target({ ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Subscribe {
+
+    /**
+     * Unique string used to identify the operation.
+     *
+     * @return the operation id
+     **/
+    String operationId() default "";
+
+    /**
+     * A short summary of what the operation is about.
+     *
+     * @return the operation summary
+     **/
+    String summary() default "";
+
+    /**
+     * A verbose explanation of the operation.
+     *
+     * @return the operation description
+     **/
+    String description() default "";
+
+    /**
+     * The message of the operation. When no payload type is given, the payload is derived from
+     * the return type of the annotated method.
+     *
+     * @return the operation message
+     **/
+    Message message() default @Message;
+
+}
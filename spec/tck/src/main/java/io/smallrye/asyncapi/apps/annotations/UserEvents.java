@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.apps.annotations;
+
+import java.util.concurrent.CompletionStage;
+
+import io.smallrye.asyncapi.spec.annotations.Channel;
+import io.smallrye.asyncapi.spec.annotations.Message;
+import io.smallrye.asyncapi.spec.annotations.Publish;
+import io.smallrye.asyncapi.spec.annotations.Subscribe;
+
+/**
+ * An annotated messaging bean used in the annotations app TCK test.
+ */
+public class UserEvents {
+
+    @Channel(value = "user/signedup", description = "Events about users signing up.")
+    @Subscribe(operationId = "onUserSignedUp", summary = "Inform about a new user signing up.", message = @Message(name = "UserSignedUp", contentType = "application/json"))
+    public CompletionStage<UserSignedUp> userSignedUp() {
+        return null;
+    }
+
+    @Channel("user/signedup")
+    @Publish(operationId = "signUpUser", message = @Message(name = "SignUpUser"))
+    public void signUpUser(UserSignedUp user) {
+    }
+
+    @Channel("user/deleted")
+    @Subscribe(operationId = "onUserDeleted", message = @Message(name = "UserDeleted", title = "User deleted", payload = String.class))
+    public void userDeleted() {
+    }
+
+}
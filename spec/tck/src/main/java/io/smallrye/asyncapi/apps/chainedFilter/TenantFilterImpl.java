@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.apps.chainedFilter;
+
+import io.apicurio.datamodels.asyncapi.models.AaiChannelItem;
+import io.smallrye.asyncapi.spec.AAIFilter;
+
+/**
+ * The second of the stateless filters used in the chained filter app TCK test.
+ */
+public class TenantFilterImpl implements AAIFilter {
+
+    /**
+     * @see io.smallrye.asyncapi.spec.AAIFilter#filterChannel(io.apicurio.datamodels.asyncapi.models.AaiChannelItem)
+     */
+    @Override
+    public AaiChannelItem filterChannel(AaiChannelItem channel) {
+        channel.description = channel.description == null ? "[tenant]" : channel.description + " [tenant]";
+        return channel;
+    }
+
+    /**
+     * @see io.smallrye.asyncapi.spec.AAIFilter#isStateless()
+     */
+    @Override
+    public boolean isStateless() {
+        return true;
+    }
+
+}
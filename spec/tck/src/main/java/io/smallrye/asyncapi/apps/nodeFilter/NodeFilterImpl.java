@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.apps.nodeFilter;
+
+import io.apicurio.datamodels.asyncapi.models.AaiChannelItem;
+import io.apicurio.datamodels.asyncapi.models.AaiMessage;
+import io.apicurio.datamodels.asyncapi.models.AaiOperation;
+import io.apicurio.datamodels.asyncapi.models.AaiSchema;
+import io.smallrye.asyncapi.spec.AAIFilter;
+
+/**
+ * A node-level filter implementation used in the node filter app TCK test.
+ */
+public class NodeFilterImpl implements AAIFilter {
+
+    /**
+     * @see io.smallrye.asyncapi.spec.AAIFilter#filterChannel(io.apicurio.datamodels.asyncapi.models.AaiChannelItem)
+     */
+    @Override
+    public AaiChannelItem filterChannel(AaiChannelItem channel) {
+        return "user/deleted".equals(channel.getName()) ? null : channel;
+    }
+
+    /**
+     * @see io.smallrye.asyncapi.spec.AAIFilter#filterOperation(io.apicurio.datamodels.asyncapi.models.AaiOperation)
+     */
+    @Override
+    public AaiOperation filterOperation(AaiOperation operation) {
+        return "signUpUser".equals(operation.operationId) ? null : operation;
+    }
+
+    /**
+     * @see io.smallrye.asyncapi.spec.AAIFilter#filterMessage(io.apicurio.datamodels.asyncapi.models.AaiMessage)
+     */
+    @Override
+    public AaiMessage filterMessage(AaiMessage message) {
+        message.summary = "Filtered " + message.name;
+        return message;
+    }
+
+    /**
+     * @see io.smallrye.asyncapi.spec.AAIFilter#filterSchema(io.apicurio.datamodels.asyncapi.models.AaiSchema)
+     */
+    @Override
+    public AaiSchema filterSchema(AaiSchema schema) {
+        return "date-time".equals(schema.format) ? null : schema;
+    }
+
+}
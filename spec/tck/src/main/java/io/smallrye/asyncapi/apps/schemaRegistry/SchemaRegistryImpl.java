@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Red Hat
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.smallrye.asyncapi.apps.schemaRegistry;
+
+import java.util.Set;
+
+import io.apicurio.datamodels.asyncapi.models.AaiSchema;
+import io.apicurio.datamodels.asyncapi.v2.models.Aai20Schema;
+import io.smallrye.asyncapi.spec.AAISchemaRegistry;
+
+/**
+ * A schema registry implementation used in the schema registry app TCK test.
+ */
+public class SchemaRegistryImpl implements AAISchemaRegistry {
+
+    /**
+     * @see io.smallrye.asyncapi.spec.AAISchemaRegistry#lookup(java.lang.String, java.util.Set)
+     */
+    @Override
+    public AaiSchema lookup(String typeName, Set<String> superTypeNames) {
+        if ("java.time.Instant".equals(typeName)) {
+            Aai20Schema schema = new Aai20Schema();
+            schema.type = "integer";
+            schema.format = "int64";
+            schema.description = "Milliseconds since the epoch.";
+            return schema;
+        }
+        if (superTypeNames.contains("java.lang.Enum")) {
+            Aai20Schema schema = new Aai20Schema();
+            schema.$ref = "https://example.com/schemas/" + typeName.substring(typeName.lastIndexOf('.') + 1) + ".json";
+            return schema;
+        }
+        return null;
+    }
+
+}
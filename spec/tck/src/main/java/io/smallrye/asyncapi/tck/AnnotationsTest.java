@@ -0,0 +1,84 @@
+/**
+ * Copyright 2026 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.tck;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+public class AnnotationsTest extends AppTestBase {
+    @Deployment(name = "annotations")
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "annotations.war")
+                .addPackages(true, "io.smallrye.asyncapi.apps.annotations");
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testVersion(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("asyncapi", startsWith("2.0."));
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testChannels(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("channels.keySet()", contains("user/deleted", "user/signedup"));
+        vr.body("channels.'user/signedup'.description", equalTo("Events about users signing up."));
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testOperations(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("channels.'user/signedup'.subscribe.operationId", equalTo("onUserSignedUp"));
+        vr.body("channels.'user/signedup'.subscribe.summary", equalTo("Inform about a new user signing up."));
+        vr.body("channels.'user/signedup'.subscribe.message.name", equalTo("UserSignedUp"));
+        vr.body("channels.'user/signedup'.subscribe.message.contentType", equalTo("application/json"));
+        vr.body("channels.'user/signedup'.publish.operationId", equalTo("signUpUser"));
+        vr.body("channels.'user/signedup'.publish.message.name", equalTo("SignUpUser"));
+        vr.body("channels.'user/deleted'.subscribe.operationId", equalTo("onUserDeleted"));
+        vr.body("channels.'user/deleted'.publish", nullValue());
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testPayloads(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        String payload = "channels.'user/signedup'.subscribe.message.payload";
+        vr.body(payload + ".type", equalTo("object"));
+        vr.body(payload + ".properties.keySet()",
+                contains("displayName", "email", "age", "roles", "status", "signedUpAt"));
+        vr.body(payload + ".properties.age.type", equalTo("integer"));
+        vr.body(payload + ".properties.age.format", equalTo("int32"));
+        vr.body(payload + ".properties.roles.items.type", equalTo("string"));
+        vr.body(payload + ".properties.status.enum", contains("ACTIVE", "PENDING"));
+        vr.body(payload + ".properties.signedUpAt.format", equalTo("date-time"));
+        vr.body("channels.'user/signedup'.publish.message.payload.properties.email.type", equalTo("string"));
+        vr.body("channels.'user/deleted'.subscribe.message.payload.type", equalTo("string"));
+    }
+}
@@ -0,0 +1,55 @@
+/**
+ * Copyright 2026 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.tck;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+public class ChainedFilterTest extends AppTestBase {
+    @Deployment(name = "chainedFilter")
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "chainedFilter.war")
+                .addPackages(true, "io.smallrye.asyncapi.apps.annotations")
+                .addPackages(true, "io.smallrye.asyncapi.apps.chainedFilter")
+                .addAsManifestResource("chainedFilter.properties", "microprofile-config.properties");
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testChannels(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("channels.keySet()", contains("user/deleted", "user/signedup"));
+        vr.body("channels.'user/signedup'.description", equalTo("Events about users signing up. [redacted] [tenant]"));
+        vr.body("channels.'user/deleted'.description", equalTo("[redacted] [tenant]"));
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testPayloads(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        String payload = "channels.'user/signedup'.subscribe.message.payload";
+        vr.body(payload + ".properties.keySet()", contains("displayName", "age", "roles", "status", "signedUpAt"));
+    }
+}
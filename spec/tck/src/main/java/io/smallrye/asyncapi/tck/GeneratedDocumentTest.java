@@ -0,0 +1,61 @@
+/**
+ * Copyright 2026 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.tck;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+/**
+ * This test covers Async API documents that were generated when the app was built, and packaged as
+ * META-INF/asyncapi-generated.json. It verifies that the /asyncapi endpoint returns the generated
+ * document as is, without scanning the annotated classes of the app again.
+ */
+public class GeneratedDocumentTest extends AppTestBase {
+
+    @Deployment(name = "generated")
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "generated.war")
+                .addPackages(true, "io.smallrye.asyncapi.apps.annotations")
+                .addAsManifestResource("generated.json", "asyncapi-generated.json");
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testGeneratedDocument(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+
+        vr.body("info.title", equalTo("Generated At Build Time"));
+        vr.body("info.version", equalTo("2.1.0"));
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testChannels(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+
+        vr.body("channels.keySet()", contains("user/signedup"));
+        vr.body("channels.'user/signedup'.description", equalTo("Generated from the annotations when the app was built."));
+    }
+}
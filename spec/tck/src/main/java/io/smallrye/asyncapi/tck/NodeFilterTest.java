@@ -0,0 +1,88 @@
+/**
+ * Copyright 2026 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.tck;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+public class NodeFilterTest extends AppTestBase {
+    @Deployment(name = "nodeFilter")
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "nodeFilter.war")
+                .addPackages(true, "io.smallrye.asyncapi.apps.annotations")
+                .addPackages(true, "io.smallrye.asyncapi.apps.nodeFilter")
+                .addAsManifestResource("nodeFilter.json", "asyncapi.json")
+                .addAsManifestResource("nodeFilter.properties", "microprofile-config.properties");
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testChannels(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("channels.keySet()", containsInAnyOrder("sensor/reading", "sensor/status", "user/signedup"));
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testOperations(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("channels.'user/signedup'.subscribe.operationId", equalTo("onUserSignedUp"));
+        vr.body("channels.'user/signedup'.subscribe.message.summary", equalTo("Filtered UserSignedUp"));
+        vr.body("channels.'user/signedup'.publish", nullValue());
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testPayloads(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        String payload = "channels.'user/signedup'.subscribe.message.payload";
+        vr.body(payload + ".properties.keySet()", contains("displayName", "email", "age", "roles", "status"));
+        vr.body(payload + ".properties.age.format", equalTo("int32"));
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testChangedPayloadKeepsOtherKeywords(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        String payload = "channels.'sensor/reading'.subscribe.message.payload";
+        vr.body(payload + ".properties.keySet()", contains("value", "unit"));
+        vr.body(payload + ".'$id'", equalTo("https://example.com/schemas/sensor-reading"));
+        vr.body(payload + ".properties.value.exclusiveMaximum", equalTo(10));
+        vr.body(payload + ".properties.unit.const", equalTo("celsius"));
+        vr.body(payload + ".patternProperties.'^x-'.type", equalTo("string"));
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testUnchangedPayloadKeptAsIs(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        String payload = "channels.'sensor/status'.subscribe.message.payload";
+        vr.body(payload + ".properties.code.exclusiveMinimum", equalTo(0));
+        vr.body(payload + ".properties.code.exclusiveMaximum", equalTo(600));
+        vr.body(payload + ".dependentRequired.code", contains("message"));
+    }
+}
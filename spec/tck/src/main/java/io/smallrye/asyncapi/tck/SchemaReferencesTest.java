@@ -0,0 +1,60 @@
+/**
+ * Copyright 2026 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.tck;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+public class SchemaReferencesTest extends AppTestBase {
+    @Deployment(name = "schemaReferences")
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "schemaReferences.war")
+                .addPackages(true, "io.smallrye.asyncapi.apps.annotations")
+                .addAsManifestResource("schemaReferences.properties", "microprofile-config.properties");
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testPayloadReferences(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("channels.'user/signedup'.subscribe.message.payload.'$ref'",
+                equalTo("#/components/schemas/UserSignedUp"));
+        vr.body("channels.'user/signedup'.publish.message.payload.'$ref'",
+                equalTo("#/components/schemas/UserSignedUp"));
+        vr.body("channels.'user/deleted'.subscribe.message.payload.type", equalTo("string"));
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testComponentSchemas(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        vr.body("components.schemas.keySet()", contains("UserSignedUp", "UserStatus"));
+        vr.body("components.schemas.UserSignedUp.type", equalTo("object"));
+        vr.body("components.schemas.UserSignedUp.properties.email.type", equalTo("string"));
+        vr.body("components.schemas.UserSignedUp.properties.status.'$ref'",
+                equalTo("#/components/schemas/UserStatus"));
+        vr.body("components.schemas.UserStatus.enum", contains("ACTIVE", "PENDING"));
+    }
+}
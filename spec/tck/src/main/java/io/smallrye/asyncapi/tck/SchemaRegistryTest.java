@@ -0,0 +1,49 @@
+/**
+ * Copyright 2026 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.tck;
+
+import static org.hamcrest.Matchers.equalTo;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.testng.annotations.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+public class SchemaRegistryTest extends AppTestBase {
+    @Deployment(name = "schemaRegistry")
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class, "schemaRegistry.war")
+                .addPackages(true, "io.smallrye.asyncapi.apps.annotations")
+                .addPackages(true, "io.smallrye.asyncapi.apps.schemaRegistry")
+                .addAsManifestResource("schemaRegistry.properties", "microprofile-config.properties");
+    }
+
+    @RunAsClient
+    @Test(dataProvider = "formatProvider")
+    public void testRegisteredSchemas(String type) {
+        ValidatableResponse vr = callEndpoint(type);
+        String properties = "channels.'user/signedup'.subscribe.message.payload.properties";
+        vr.body(properties + ".signedUpAt.type", equalTo("integer"));
+        vr.body(properties + ".signedUpAt.format", equalTo("int64"));
+        vr.body(properties + ".signedUpAt.description", equalTo("Milliseconds since the epoch."));
+        vr.body(properties + ".status.'$ref'", equalTo("https://example.com/schemas/UserStatus.json"));
+        vr.body(properties + ".email.type", equalTo("string"));
+    }
+}
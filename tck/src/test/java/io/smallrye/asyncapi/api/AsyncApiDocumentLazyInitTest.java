@@ -0,0 +1,195 @@
+/**
+ * Copyright 2026 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.jandex.IndexView;
+import org.jboss.shrinkwrap.api.Archive;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.asyncapi.v2.models.Aai20Document;
+import io.apicurio.datamodels.core.models.Document;
+import io.smallrye.asyncapi.api.util.ArchiveUtil;
+import io.smallrye.asyncapi.api.util.TimingUtil;
+import io.smallrye.asyncapi.runtime.AsyncApiDocumentBuilder;
+import io.smallrye.asyncapi.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.runtime.AsyncApiStaticFile;
+import io.smallrye.asyncapi.spec.AAIFilter;
+import io.smallrye.asyncapi.tck.LazyInitTest;
+import io.smallrye.asyncapi.tck.MergeTest;
+
+/**
+ * Tests the lazy init and release model modes of the {@link AsyncApiDocument}, using the lazy init
+ * TCK app.
+ */
+public class AsyncApiDocumentLazyInitTest {
+
+    private final List<AsyncApiPhase> phases = Collections.synchronizedList(new ArrayList<>());
+    private final AsyncApiPhaseListener listener = new AsyncApiPhaseListener() {
+        @Override
+        public void phaseCompleted(AsyncApiPhase phase, long durationNanos, long allocatedBytes,
+                Map<AsyncApiPhaseCounter, Long> counters) {
+            phases.add(phase);
+        }
+    };
+
+    @Before
+    public void setUp() {
+        AsyncApiDocument.INSTANCE.reset();
+        TimingUtil.addListener(listener);
+    }
+
+    @After
+    public void tearDown() {
+        TimingUtil.removeListener(listener);
+        AsyncApiDocument.INSTANCE.reset();
+    }
+
+    @Test
+    public void testNothingBuiltBeforeFirstGet() throws Exception {
+        initialize(LazyInitTest.createDeployment());
+        Assert.assertTrue(AsyncApiDocument.INSTANCE.isSet());
+        Assert.assertFalse(AsyncApiDocument.INSTANCE.isInitialized());
+        Assert.assertFalse(phases.contains(AsyncApiPhase.MERGE_STATIC_FILE));
+        Assert.assertFalse(phases.contains(AsyncApiPhase.SERVERS));
+
+        Assert.assertNotNull(AsyncApiDocument.INSTANCE.get());
+        Assert.assertTrue(AsyncApiDocument.INSTANCE.isInitialized());
+        Assert.assertEquals(1, Collections.frequency(phases, AsyncApiPhase.MERGE_STATIC_FILE));
+        Assert.assertEquals(1, Collections.frequency(phases, AsyncApiPhase.SERVERS));
+    }
+
+    @Test
+    public void testBuiltOnceWhenCallersRace() throws Exception {
+        initialize(LazyInitTest.createDeployment());
+
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Document>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(new Callable<Document>() {
+                    @Override
+                    public Document call() throws Exception {
+                        start.await();
+                        return AsyncApiDocument.INSTANCE.get();
+                    }
+                }));
+            }
+            start.countDown();
+            Document first = results.get(0).get();
+            for (Future<Document> result : results) {
+                Assert.assertSame(first, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(1, Collections.frequency(phases, AsyncApiPhase.SERVERS));
+    }
+
+    @Test
+    public void testReleasedModelReadBack() throws Exception {
+        initialize(MergeTest.createDeployment());
+        String expected = Library.writeDocumentToJSONString(AsyncApiDocument.INSTANCE.get());
+        AsyncApiDocument.INSTANCE.reset();
+
+        // Same app, with the lazy init and release model modes
+        initialize(LazyInitTest.createDeployment());
+        String rendered = new String(AsyncApiDocument.INSTANCE.getRendered(AsyncApiFormat.JSON).toByteArray(),
+                "UTF-8");
+        Document model = AsyncApiDocument.INSTANCE.get();
+        Assert.assertEquals(expected, Library.writeDocumentToJSONString(model));
+        Assert.assertEquals(Library.writeDocumentToJSONString(Library.readDocumentFromJSONString(rendered)),
+                Library.writeDocumentToJSONString(model));
+        Assert.assertSame(model, AsyncApiDocument.INSTANCE.get());
+    }
+
+    @Test
+    public void testReleasedModelRenderedOnFirstUse() throws Exception {
+        initialize(MergeTest.createDeployment());
+        String yaml = new String(AsyncApiDocument.INSTANCE.getRendered(AsyncApiFormat.YAML).toByteArray(), "UTF-8");
+        AsyncApiDocument.INSTANCE.reset();
+
+        // Only JSON is rendered up front, YAML is rendered from the released model when asked for
+        initialize(LazyInitTest.createDeployment());
+        AsyncApiDocument.INSTANCE.getRendered(AsyncApiFormat.JSON);
+        Assert.assertEquals(yaml,
+                new String(AsyncApiDocument.INSTANCE.getRendered(AsyncApiFormat.YAML).toByteArray(), "UTF-8"));
+        Assert.assertSame(AsyncApiDocument.INSTANCE.getRendered(AsyncApiFormat.YAML),
+                AsyncApiDocument.INSTANCE.getRendered(AsyncApiFormat.YAML));
+        Assert.assertSame(AsyncApiDocument.INSTANCE.getRendered(AsyncApiFormat.BINARY),
+                AsyncApiDocument.INSTANCE.getRendered(AsyncApiFormat.BINARY));
+    }
+
+    @Test
+    public void testFailureNotRetried() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        AAIFilter failing = new AAIFilter() {
+            @Override
+            public void filterDocument(Document document) {
+                calls.incrementAndGet();
+                throw new IllegalArgumentException("Broken filter");
+            }
+        };
+        Aai20Document annotations = new Aai20Document();
+        annotations.asyncapi = AsyncApiConstants.ASYNC_API_VERSION;
+        Archive<?> archive = LazyInitTest.createDeployment();
+        AsyncApiDocument.INSTANCE.config(ArchiveUtil.archiveToConfig(archive));
+        AsyncApiDocument.INSTANCE.modelFromAnnotations(annotations);
+        AsyncApiDocument.INSTANCE.filter(failing);
+        AsyncApiDocument.INSTANCE.initialize();
+
+        try {
+            AsyncApiDocument.INSTANCE.get();
+            Assert.fail("The filter failure must be reported");
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals("Broken filter", e.getMessage());
+        }
+        try {
+            AsyncApiDocument.INSTANCE.getRendered(AsyncApiFormat.JSON);
+            Assert.fail("The filter failure must be reported again");
+        } catch (IllegalStateException e) {
+            Assert.assertEquals("Broken filter", e.getCause().getMessage());
+        }
+        Assert.assertEquals(1, calls.get());
+    }
+
+    private static void initialize(Archive<?> archive) throws Exception {
+        AsyncApiConfig config = ArchiveUtil.archiveToConfig(archive);
+        IndexView index = ArchiveUtil.archiveToIndex(config, archive);
+        try (AsyncApiStaticFile staticFile = ArchiveUtil.archiveToStaticFile(archive)) {
+            new AsyncApiDocumentBuilder().initialize(config, index, staticFile,
+                    Thread.currentThread().getContextClassLoader(), null);
+        }
+    }
+
+}
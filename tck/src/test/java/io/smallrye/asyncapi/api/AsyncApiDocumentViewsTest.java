@@ -0,0 +1,262 @@
+/**
+ * Copyright 2026 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.jandex.IndexView;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.asyncapi.models.AaiChannelItem;
+import io.apicurio.datamodels.asyncapi.models.AaiDocument;
+import io.apicurio.datamodels.asyncapi.models.AaiSchema;
+import io.apicurio.datamodels.core.models.Document;
+import io.smallrye.asyncapi.api.util.ArchiveUtil;
+import io.smallrye.asyncapi.runtime.AsyncApiDocumentBuilder;
+import io.smallrye.asyncapi.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.runtime.AsyncApiStaticFile;
+import io.smallrye.asyncapi.spec.AAIFilter;
+
+/**
+ * Tests the filtered views of the {@link AsyncApiDocument}: what they share with the final model,
+ * and how they are cached.
+ */
+public class AsyncApiDocumentViewsTest {
+
+    private static final String DOCUMENT = "{\"asyncapi\": \"2.0.0\","
+            + " \"info\": {\"title\": \"Accounts\", \"version\": \"1.0.0\"},"
+            + " \"servers\": {\"prod\": {\"url\": \"broker.example.com\", \"protocol\": \"kafka\"}},"
+            + " \"channels\": {"
+            + "   \"account/opened\": {\"description\": \"Accounts opened.\","
+            + "     \"subscribe\": {\"operationId\": \"onAccountOpened\", \"message\": {\"$ref\": \"#/components/messages/AccountOpened\"}}},"
+            + "   \"account/closed\": {\"description\": \"Accounts closed.\","
+            + "     \"subscribe\": {\"operationId\": \"onAccountClosed\", \"message\": {\"payload\": {\"type\": \"string\"}}}}},"
+            + " \"components\": {"
+            + "   \"schemas\": {\"Account\": {\"type\": \"object\", \"properties\": {\"id\": {\"type\": \"string\"}, \"iban\": {\"type\": \"string\"}}},"
+            + "     \"Money\": {\"type\": \"number\"}},"
+            + "   \"messages\": {\"AccountOpened\": {\"name\": \"AccountOpened\", \"payload\": {\"$ref\": \"#/components/schemas/Account\"}}}}}";
+
+    private final AtomicInteger filterCalls = new AtomicInteger();
+
+    @Before
+    public void setUp() throws Exception {
+        AsyncApiDocument.INSTANCE.reset();
+        initialize(2);
+    }
+
+    @After
+    public void tearDown() {
+        AsyncApiDocument.INSTANCE.reset();
+    }
+
+    @Test
+    public void testViewSharesUnchangedNodes() {
+        AaiDocument base = (AaiDocument) AsyncApiDocument.INSTANCE.get();
+        String before = Library.writeDocumentToJSONString(base);
+
+        AaiDocument view = (AaiDocument) AsyncApiDocument.INSTANCE.get("internal", describe("account/closed"));
+
+        AaiChannelItem closed = view.channels.get("account/closed");
+        Assert.assertEquals("Filtered", closed.description);
+        Assert.assertNotSame(base.channels.get("account/closed"), closed);
+        Assert.assertSame(view, closed.ownerDocument());
+        Assert.assertSame(closed, closed.subscribe.parent());
+        Assert.assertSame(view, closed.subscribe.ownerDocument());
+
+        // Left unchanged by the filter, so shared with the final model, which owns them
+        Assert.assertSame(base.channels.get("account/opened"), view.channels.get("account/opened"));
+        Assert.assertSame(base, view.channels.get("account/opened").ownerDocument());
+        Assert.assertSame(base.servers.get("prod"), view.servers.get("prod"));
+        Assert.assertSame(base.info, view.info);
+        // Not visited at all, since no filter handles schemas
+        Assert.assertSame(base.components.schemas.get("Account"), view.components.schemas.get("Account"));
+        Assert.assertSame(view, view.components.parent());
+
+        Assert.assertEquals(before, Library.writeDocumentToJSONString(base));
+        Assert.assertEquals("Accounts closed.", base.channels.get("account/closed").description);
+    }
+
+    @Test
+    public void testViewRemovesAndReplacesNodes() {
+        AaiDocument base = (AaiDocument) AsyncApiDocument.INSTANCE.get();
+        AAIFilter filter = new AAIFilter() {
+            @Override
+            public AaiChannelItem filterChannel(AaiChannelItem channel) {
+                return "account/opened".equals(channel.getName()) ? null : channel;
+            }
+
+            @Override
+            public AaiSchema filterSchema(AaiSchema schema) {
+                if (schema.properties != null) {
+                    schema.properties.remove("iban");
+                }
+                return schema;
+            }
+        };
+
+        AaiDocument view = (AaiDocument) AsyncApiDocument.INSTANCE.get("public", Collections.singletonList(filter));
+
+        Assert.assertFalse(view.channels.containsKey("account/opened"));
+        Assert.assertTrue(base.channels.containsKey("account/opened"));
+        Assert.assertFalse(view.components.schemas.get("Account").properties.containsKey("iban"));
+        Assert.assertTrue(base.components.schemas.get("Account").properties.containsKey("iban"));
+        Assert.assertSame(base.components.schemas.get("Money"), view.components.schemas.get("Money"));
+        Assert.assertSame(base.components.messages.get("AccountOpened"), view.components.messages.get("AccountOpened"));
+    }
+
+    @Test
+    public void testViewWithDocumentFilter() {
+        AaiDocument base = (AaiDocument) AsyncApiDocument.INSTANCE.get();
+        AAIFilter filter = new AAIFilter() {
+            @Override
+            public void filterDocument(Document document) {
+                document.info.title = "Accounts (internal)";
+            }
+        };
+
+        Document view = AsyncApiDocument.INSTANCE.get("internal", Collections.singletonList(filter));
+
+        Assert.assertEquals("Accounts (internal)", view.info.title);
+        Assert.assertEquals("Accounts", base.info.title);
+    }
+
+    @Test
+    public void testRenderedView() throws Exception {
+        List<AAIFilter> filters = describe("account/opened");
+        String rendered = new String(
+                AsyncApiDocument.INSTANCE.getRendered(AsyncApiFormat.JSON, "internal", filters).toByteArray(),
+                StandardCharsets.UTF_8);
+
+        Assert.assertEquals(Library.writeDocumentToJSONString(AsyncApiDocument.INSTANCE.get("internal", filters)),
+                Library.writeDocumentToJSONString(Library.readDocumentFromJSONString(rendered)));
+        Assert.assertTrue(rendered.contains("Filtered"));
+        Assert.assertSame(AsyncApiDocument.INSTANCE.getRendered(AsyncApiFormat.JSON, "internal", filters),
+                AsyncApiDocument.INSTANCE.getRendered(AsyncApiFormat.JSON, "internal", filters));
+        Assert.assertSame(AsyncApiDocument.INSTANCE.getRendered(AsyncApiFormat.JSON),
+                AsyncApiDocument.INSTANCE.getRendered(AsyncApiFormat.JSON, "internal", null));
+    }
+
+    @Test
+    public void testViewsCachedPerVariant() {
+        List<AAIFilter> filters = describe("account/opened");
+        Document view = AsyncApiDocument.INSTANCE.get("internal", filters);
+        Assert.assertSame(view, AsyncApiDocument.INSTANCE.get("internal", filters));
+        Assert.assertEquals(1, filterCalls.get());
+
+        Assert.assertNotSame(view, AsyncApiDocument.INSTANCE.get("public", filters));
+        Assert.assertEquals(2, filterCalls.get());
+    }
+
+    @Test
+    public void testViewsCachedPerFilterClasses() {
+        List<AAIFilter> filters = describe("account/opened");
+        Document view = AsyncApiDocument.INSTANCE.get("internal", filters);
+        AAIFilter retitle = new AAIFilter() {
+            @Override
+            public void filterDocument(Document document) {
+                document.info.title = "Accounts (internal)";
+            }
+        };
+
+        // Same variant, other filters: not the view cached for the first ones
+        Document retitled = AsyncApiDocument.INSTANCE.get("internal", Collections.singletonList(retitle));
+        Assert.assertNotSame(view, retitled);
+        Assert.assertEquals("Accounts (internal)", retitled.info.title);
+        Assert.assertEquals("Accounts opened.", ((AaiDocument) retitled).channels.get("account/opened").description);
+        Assert.assertEquals(1, filterCalls.get());
+
+        // Filters of the same classes share the cached view
+        Assert.assertSame(view, AsyncApiDocument.INSTANCE.get("internal", describe("account/opened")));
+        Assert.assertEquals(1, filterCalls.get());
+
+        Document both = AsyncApiDocument.INSTANCE.get("internal", Arrays.asList(filters.get(0), retitle));
+        Assert.assertNotSame(view, both);
+        Assert.assertNotSame(retitled, both);
+        Assert.assertEquals(2, filterCalls.get());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedViewEvicted() {
+        List<AAIFilter> filters = describe("account/opened");
+        Document a = AsyncApiDocument.INSTANCE.get("a", filters);
+        Document b = AsyncApiDocument.INSTANCE.get("b", filters);
+        Assert.assertSame(a, AsyncApiDocument.INSTANCE.get("a", filters));
+        // The cache holds two views: b is the least recently used one
+        AsyncApiDocument.INSTANCE.get("c", filters);
+        Assert.assertEquals(3, filterCalls.get());
+
+        Assert.assertSame(a, AsyncApiDocument.INSTANCE.get("a", filters));
+        Assert.assertEquals(3, filterCalls.get());
+        Document rederived = AsyncApiDocument.INSTANCE.get("b", filters);
+        Assert.assertNotSame(b, rederived);
+        Assert.assertEquals(4, filterCalls.get());
+        Assert.assertEquals(Library.writeDocumentToJSONString(b), Library.writeDocumentToJSONString(rederived));
+    }
+
+    @Test
+    public void testViewsNotCachedWhenDisabled() throws Exception {
+        AsyncApiDocument.INSTANCE.reset();
+        initialize(0);
+        List<AAIFilter> filters = describe("account/opened");
+        Document first = AsyncApiDocument.INSTANCE.get("a", filters);
+        Document second = AsyncApiDocument.INSTANCE.get("a", filters);
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals(2, filterCalls.get());
+    }
+
+    /**
+     * Returns a filter changing the description of the given channel, and counting the views it
+     * is used for.
+     */
+    private List<AAIFilter> describe(String channelName) {
+        return Collections.singletonList(new AAIFilter() {
+            @Override
+            public AaiChannelItem filterChannel(AaiChannelItem channel) {
+                if (channelName.equals(channel.getName())) {
+                    filterCalls.incrementAndGet();
+                    channel.description = "Filtered";
+                }
+                return channel;
+            }
+        });
+    }
+
+    private static void initialize(int viewsCacheSize) throws Exception {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class, "views.jar")
+                .addAsManifestResource(new StringAsset(DOCUMENT), "asyncapi.json")
+                .addAsManifestResource(new StringAsset(AsyncApiConstants.FILTERED_VIEWS_CACHE_SIZE + "=" + viewsCacheSize),
+                        "microprofile-config.properties");
+        AsyncApiConfig config = ArchiveUtil.archiveToConfig(archive);
+        IndexView index = ArchiveUtil.archiveToIndex(config, archive);
+        try (AsyncApiStaticFile staticFile = ArchiveUtil.archiveToStaticFile(archive)) {
+            new AsyncApiDocumentBuilder().initialize(config, index, staticFile,
+                    Thread.currentThread().getContextClassLoader(), null);
+        }
+    }
+
+}
@@ -0,0 +1,267 @@
+/**
+ * Copyright 2026 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.core.models.Document;
+import io.smallrye.asyncapi.api.util.ArchiveUtil;
+import io.smallrye.asyncapi.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.runtime.AsyncApiStaticFile;
+import io.smallrye.asyncapi.spec.annotations.Channel;
+
+/**
+ * Tests that the {@link AsyncApiIncrementalBuilder} rebuilds the same document as a full build
+ * after each kind of change to the app. The classes of the app are compiled by the test, so that a
+ * class can be changed between two builds.
+ */
+public class AsyncApiIncrementalBuilderTest {
+
+    private static final String PACKAGE = "test.io.smallrye.asyncapi.incremental";
+    private static final String ORDER_EVENTS = PACKAGE + ".OrderEvents";
+    private static final String ORDER_CREATED = PACKAGE + ".OrderCreated";
+    private static final String SHIPMENT_EVENTS = PACKAGE + ".ShipmentEvents";
+
+    private static final String ORDER_EVENTS_V1 = "package " + PACKAGE + ";\n"
+            + "import java.util.concurrent.CompletionStage;\n"
+            + "import io.smallrye.asyncapi.spec.annotations.*;\n"
+            + "public class OrderEvents {\n"
+            + "    @Channel(value = \"orders/created\", description = \"Orders created.\")\n"
+            + "    @Subscribe(operationId = \"onOrderCreated\", message = @Message(name = \"OrderCreated\"))\n"
+            + "    public CompletionStage<OrderCreated> orderCreated() { return null; }\n"
+            + "}\n";
+    private static final String ORDER_EVENTS_V2 = "package " + PACKAGE + ";\n"
+            + "import java.util.concurrent.CompletionStage;\n"
+            + "import io.smallrye.asyncapi.spec.annotations.*;\n"
+            + "public class OrderEvents {\n"
+            + "    @Channel(value = \"orders/created\", description = \"Orders placed by customers.\")\n"
+            + "    @Subscribe(operationId = \"onOrderCreated\", message = @Message(name = \"OrderCreated\"))\n"
+            + "    public CompletionStage<OrderCreated> orderCreated() { return null; }\n"
+            + "    @Channel(\"orders/cancelled\")\n"
+            + "    @Subscribe(operationId = \"onOrderCancelled\", message = @Message(name = \"OrderCancelled\", payload = String.class))\n"
+            + "    public void orderCancelled() { }\n"
+            + "}\n";
+    private static final String ORDER_CREATED_V1 = "package " + PACKAGE + ";\n"
+            + "public class OrderCreated {\n"
+            + "    private String id;\n"
+            + "    private double total;\n"
+            + "}\n";
+    private static final String ORDER_CREATED_V2 = "package " + PACKAGE + ";\n"
+            + "public class OrderCreated {\n"
+            + "    private String id;\n"
+            + "    private long total;\n"
+            + "    private String currency;\n"
+            + "}\n";
+    private static final String SHIPMENT_EVENTS_V1 = "package " + PACKAGE + ";\n"
+            + "import io.smallrye.asyncapi.spec.annotations.*;\n"
+            + "public class ShipmentEvents {\n"
+            + "    @Channel(\"shipments/sent\")\n"
+            + "    @Publish(operationId = \"sendShipment\", message = @Message(name = \"ShipmentSent\"))\n"
+            + "    public void shipmentSent(OrderCreated order) { }\n"
+            + "}\n";
+
+    private static final String STATIC_FILE_V1 = "{\"asyncapi\": \"2.0.0\", \"info\": {\"title\": \"Orders\", \"version\": \"1.0.0\"}}";
+    private static final String STATIC_FILE_V2 = "{\"asyncapi\": \"2.0.0\", \"info\": {\"title\": \"Orders\", \"version\": \"1.1.0\"},"
+            + " \"channels\": {\"orders/audit\": {\"description\": \"Audit trail.\"}}}";
+
+    private AsyncApiConfig config;
+    private Path classes;
+    private Map<String, String> sources;
+    private AsyncApiIncrementalBuilder builder;
+
+    @Before
+    public void setUp() throws Exception {
+        AsyncApiDocument.INSTANCE.reset();
+        config = ArchiveUtil.archiveToConfig(ShrinkWrap.create(JavaArchive.class));
+        classes = Files.createTempDirectory("asyncapi-incremental");
+        sources = new LinkedHashMap<>();
+        sources.put(ORDER_EVENTS, ORDER_EVENTS_V1);
+        sources.put(ORDER_CREATED, ORDER_CREATED_V1);
+        sources.put(SHIPMENT_EVENTS, SHIPMENT_EVENTS_V1);
+        builder = new AsyncApiIncrementalBuilder();
+        rebuild(null, STATIC_FILE_V1);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        AsyncApiDocument.INSTANCE.reset();
+        try (Stream<Path> files = Files.walk(classes)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void testChangedStaticFile() throws Exception {
+        String before = toJson(rebuild(Collections.emptyList(), STATIC_FILE_V1));
+        Document model = rebuild(Collections.emptyList(), STATIC_FILE_V2);
+
+        Assert.assertEquals("1.1.0", model.info.version);
+        Assert.assertNotEquals(before, toJson(model));
+        Assert.assertEquals(fullBuild(STATIC_FILE_V2), toJson(model));
+    }
+
+    @Test
+    public void testChangedChannelClass() throws Exception {
+        sources.put(ORDER_EVENTS, ORDER_EVENTS_V2);
+        String model = toJson(rebuild(Collections.singletonList(ORDER_EVENTS), STATIC_FILE_V1));
+
+        Assert.assertTrue(model.contains("Orders placed by customers."));
+        Assert.assertTrue(model.contains("orders/cancelled"));
+        Assert.assertTrue(model.contains("shipments/sent"));
+        Assert.assertEquals(fullBuild(STATIC_FILE_V1), model);
+    }
+
+    @Test
+    public void testChangedPayloadClass() throws Exception {
+        sources.put(ORDER_CREATED, ORDER_CREATED_V2);
+        String model = toJson(rebuild(Collections.singletonList(ORDER_CREATED), STATIC_FILE_V1));
+
+        // Both channels sending the payload are affected
+        Assert.assertEquals(2, occurrences(model, "\"currency\""));
+        Assert.assertEquals(fullBuild(STATIC_FILE_V1), model);
+    }
+
+    @Test
+    public void testRemovedChannelClass() throws Exception {
+        sources.remove(SHIPMENT_EVENTS);
+        String model = toJson(rebuild(Collections.singletonList(SHIPMENT_EVENTS), STATIC_FILE_V1));
+
+        Assert.assertFalse(model.contains("shipments/sent"));
+        Assert.assertEquals(fullBuild(STATIC_FILE_V1), model);
+    }
+
+    /**
+     * Compiles the current sources and rebuilds the document incrementally.
+     */
+    private Document rebuild(Collection<String> changedClasses, String staticFile) throws IOException {
+        return build(builder, changedClasses, staticFile);
+    }
+
+    /**
+     * Builds the document of the current sources from scratch, as JSON.
+     */
+    private String fullBuild(String staticFile) throws IOException {
+        return toJson(build(new AsyncApiIncrementalBuilder(), null, staticFile));
+    }
+
+    private Document build(AsyncApiIncrementalBuilder builder, Collection<String> changedClasses, String staticFile)
+            throws IOException {
+        IndexView index = compile();
+        try (AsyncApiStaticFile file = new AsyncApiStaticFile(
+                new ByteArrayInputStream(staticFile.getBytes(StandardCharsets.UTF_8)), AsyncApiFormat.JSON)) {
+            return builder.rebuild(config, index, changedClasses, file, getClass().getClassLoader(), null);
+        }
+    }
+
+    /**
+     * Compiles the current sources into a new directory, and indexes the result.
+     */
+    private IndexView compile() throws IOException {
+        Path output = Files.createTempDirectory(classes, "build");
+        List<JavaFileObject> units = new ArrayList<>();
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            units.add(new SourceFile(source.getKey(), source.getValue()));
+        }
+        String classpath = Paths.get(toUri(Channel.class)).toString();
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Boolean compiled = compiler.getTask(null, null, null,
+                Arrays.asList("-classpath", classpath, "-d", output.toString()), null, units).call();
+        Assert.assertTrue("Compilation failed", compiled);
+
+        Indexer indexer = new Indexer();
+        try (Stream<Path> files = Files.walk(output)) {
+            for (Path file : files.filter(f -> f.toString().endsWith(".class")).collect(Collectors.toList())) {
+                try (InputStream in = Files.newInputStream(file)) {
+                    indexer.index(in);
+                }
+            }
+        }
+        return indexer.complete();
+    }
+
+    private static URI toUri(Class<?> type) {
+        try {
+            return type.getProtectionDomain().getCodeSource().getLocation().toURI();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toJson(Document model) {
+        return Library.writeDocumentToJSONString(model);
+    }
+
+    private static int occurrences(String text, String part) {
+        int count = 0;
+        for (int i = text.indexOf(part); i >= 0; i = text.indexOf(part, i + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * A source file held in memory.
+     */
+    private static final class SourceFile extends SimpleJavaFileObject {
+        private final String content;
+
+        private SourceFile(String className, String content) {
+            super(URI.create("string:///" + className.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+
+}
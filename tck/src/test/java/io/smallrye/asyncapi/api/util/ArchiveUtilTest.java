@@ -0,0 +1,153 @@
+/**
+ * Copyright 2026 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.api.util;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.smallrye.asyncapi.api.AsyncApiConfig;
+import io.smallrye.asyncapi.api.AsyncApiConstants;
+
+/**
+ * Tests the indexing of archives by {@link ArchiveUtil}.
+ */
+public class ArchiveUtilTest {
+
+    private static final DotName DUPLICATE = DotName.createSimple("dup.Duplicate");
+    private static final DotName DEPRECATED = DotName.createSimple(Deprecated.class.getName());
+    private static final DotName RUNNABLE = DotName.createSimple(Runnable.class.getName());
+
+    private Path dir;
+
+    @Before
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("asyncapi-archive-util");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void testDuplicateClassesIndexedOnce() throws Exception {
+        // The same class in the archive and in a nested jar, in two versions
+        byte[] first = compile("public class Duplicate implements Runnable {"
+                + " @Deprecated public void first() { } public void run() { } }");
+        byte[] second = compile("public class Duplicate implements Runnable {"
+                + " @Deprecated public void second() { } public void run() { } }");
+        JavaArchive lib = ShrinkWrap.create(JavaArchive.class, "dup.jar")
+                .add(new ByteArrayAsset(second), "dup/Duplicate.class");
+        for (int i = 0; i < 20; i++) {
+            lib.add(new ByteArrayAsset(compile("public class Filler" + i + " { }")), "dup/Filler" + i + ".class");
+        }
+
+        IndexView sequential = index(first, lib, 1);
+        IndexView parallel = index(first, lib, 4);
+
+        for (IndexView index : Arrays.asList(sequential, parallel)) {
+            Assert.assertEquals(21, index.getKnownClasses().size());
+            Assert.assertEquals(1, index.getAnnotations(DEPRECATED).size());
+            Assert.assertEquals(1, index.getKnownDirectImplementors(RUNNABLE).size());
+            ClassInfo duplicate = index.getClassByName(DUPLICATE);
+            Assert.assertSame(duplicate, index.getKnownDirectImplementors(RUNNABLE).iterator().next());
+            Assert.assertSame(duplicate,
+                    index.getAnnotations(DEPRECATED).iterator().next().target().asMethod().declaringClass());
+            Assert.assertEquals(1, duplicate.annotationsMap().get(DEPRECATED).size());
+        }
+        Assert.assertEquals(methods(sequential), methods(parallel));
+        Assert.assertEquals(names(sequential), names(parallel));
+        Assert.assertEquals(annotated(sequential), annotated(parallel));
+    }
+
+    private IndexView index(byte[] duplicate, JavaArchive lib, int parallelism) {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class, "app.jar")
+                .add(new ByteArrayAsset(duplicate), "dup/Duplicate.class")
+                .add(lib, "/lib", ZipExporter.class)
+                .addAsManifestResource(new StringAsset(AsyncApiConstants.SCAN_PARALLELISM + "=" + parallelism),
+                        "microprofile-config.properties");
+        AsyncApiConfig config = ArchiveUtil.archiveToConfig(archive);
+        Assert.assertEquals(parallelism, config.scanParallelism());
+        return ArchiveUtil.archiveToIndex(config, archive);
+    }
+
+    private static List<String> methods(IndexView index) {
+        return index.getClassByName(DUPLICATE).methods().stream().map(MethodInfo::name).sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> names(IndexView index) {
+        return index.getKnownClasses().stream().map(c -> c.name().toString()).sorted().collect(Collectors.toList());
+    }
+
+    private static List<String> annotated(IndexView index) {
+        List<String> targets = index.getAnnotations(DEPRECATED).stream().map(AnnotationInstance::target)
+                .map(Object::toString).collect(Collectors.toList());
+        Collections.sort(targets);
+        return targets;
+    }
+
+    private byte[] compile(String body) throws Exception {
+        String className = body.substring(body.indexOf("class ") + 6, body.indexOf(' ', body.indexOf("class ") + 6));
+        String code = "package dup;\n" + body + "\n";
+        JavaFileObject source = new SimpleJavaFileObject(URI.create("string:///dup/" + className + ".java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+        Path output = Files.createDirectories(dir.resolve(String.valueOf(code.hashCode())));
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Boolean compiled = compiler.getTask(null, null, null, Arrays.asList("-d", output.toString(), "-proc:none"), null,
+                Collections.singletonList(source)).call();
+        Assert.assertTrue(compiled);
+        return Files.readAllBytes(output.resolve("dup").resolve(className + ".class"));
+    }
+
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright 2026 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.api.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.asyncapi.models.AaiDocument;
+import io.apicurio.datamodels.core.models.Document;
+import io.smallrye.asyncapi.api.AsyncApiDocument;
+
+/**
+ * Tests the slices cut out of a document by the {@link ChannelSlicer}.
+ */
+public class ChannelSlicerTest {
+
+    private static final String DOCUMENT = "{\"asyncapi\": \"2.0.0\","
+            + " \"info\": {\"title\": \"Orders\", \"version\": \"1.0.0\"},"
+            + " \"servers\": {\"prod\": {\"url\": \"broker.example.com\", \"protocol\": \"kafka\","
+            + "   \"security\": [{\"token\": []}]}},"
+            + " \"channels\": {"
+            + "   \"order/created\": {\"subscribe\": {\"message\": {\"$ref\": \"#/components/messages/OrderCreated\"}}},"
+            + "   \"order/shipped\": {\"subscribe\": {\"message\": {\"payload\": {\"$ref\": \"#/components/schemas/a~1b\"}}}},"
+            + "   \"order/deleted\": {\"subscribe\": {\"message\": {\"payload\": {\"type\": \"string\"}}}}},"
+            + " \"components\": {"
+            + "   \"schemas\": {"
+            + "     \"Order\": {\"type\": \"object\", \"properties\": {\"total\": {\"$ref\": \"#/components/schemas/Money\"}}},"
+            + "     \"Money\": {\"type\": \"object\", \"properties\": {\"currency\": {\"$ref\": \"#/components/schemas/Currency\"}}},"
+            + "     \"Currency\": {\"type\": \"string\"},"
+            + "     \"a/b\": {\"type\": \"object\", \"properties\": {\"c\": {\"$ref\": \"#/components/schemas/c~0d\"}}},"
+            + "     \"c~d\": {\"type\": \"integer\"},"
+            + "     \"Unused\": {\"type\": \"boolean\"}},"
+            + "   \"messages\": {\"OrderCreated\": {\"payload\": {\"$ref\": \"#/components/schemas/Order\"}}},"
+            + "   \"securitySchemes\": {\"token\": {\"type\": \"httpApiKey\", \"name\": \"token\", \"in\": \"header\"}}}}";
+
+    private Document model;
+
+    @Before
+    public void setUp() {
+        model = Library.readDocumentFromJSONString(DOCUMENT);
+        AsyncApiDocument.INSTANCE.reset();
+    }
+
+    @After
+    public void tearDown() {
+        AsyncApiDocument.INSTANCE.reset();
+    }
+
+    @Test
+    public void testTransitiveClosure() {
+        AaiDocument slice = (AaiDocument) new ChannelSlicer(model).slice(Collections.singletonList("order/created"));
+
+        Assert.assertEquals(Collections.singletonList("order/created"), new ArrayList<>(slice.channels.keySet()));
+        // message -> schema -> schema -> schema
+        Assert.assertEquals(Arrays.asList("OrderCreated"), new ArrayList<>(slice.components.messages.keySet()));
+        Assert.assertEquals(Arrays.asList("Order", "Money", "Currency"),
+                new ArrayList<>(slice.components.schemas.keySet()));
+        Assert.assertTrue(slice.components.securitySchemes.containsKey("token"));
+        Assert.assertEquals("Orders", slice.info.title);
+        Assert.assertTrue(slice.servers.containsKey("prod"));
+    }
+
+    @Test
+    public void testEscapedReferences() {
+        AaiDocument slice = (AaiDocument) new ChannelSlicer(model).slice(Collections.singletonList("order/shipped"));
+
+        Assert.assertEquals(Arrays.asList("a/b", "c~d"), new ArrayList<>(slice.components.schemas.keySet()));
+        Assert.assertTrue(slice.components.messages == null || slice.components.messages.isEmpty());
+    }
+
+    @Test
+    public void testSliceInDocumentOrder() {
+        AaiDocument slice = (AaiDocument) new ChannelSlicer(model)
+                .slice(Arrays.asList("order/deleted", "order/created", "order/deleted"));
+
+        Assert.assertEquals(Arrays.asList("order/created", "order/deleted"), new ArrayList<>(slice.channels.keySet()));
+        Assert.assertFalse(slice.components.schemas.containsKey("Unused"));
+    }
+
+    @Test
+    public void testModelUnchanged() {
+        String before = Library.writeDocumentToJSONString(model);
+        new ChannelSlicer(model).slice(Collections.singletonList("order/created"));
+        Assert.assertEquals(before, Library.writeDocumentToJSONString(model));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownChannel() {
+        new ChannelSlicer(model).slice(Arrays.asList("order/created", "order/unknown"));
+    }
+
+    @Test
+    public void testUnknownChannelOfSlice() {
+        AsyncApiDocument.INSTANCE.set(model);
+        try {
+            AsyncApiDocument.INSTANCE.getSlice(Collections.singletonList("order/unknown"));
+            Assert.fail("Unknown channels must be rejected");
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals("Unknown channel: order/unknown", e.getMessage());
+        }
+        // Nothing was cached for the rejected channels, and known ones can still be sliced
+        Document slice = AsyncApiDocument.INSTANCE.getSlice(Arrays.asList("order/shipped", "order/created"));
+        Assert.assertSame(slice, AsyncApiDocument.INSTANCE.getSlice(Arrays.asList("order/created", "order/shipped")));
+    }
+
+}
@@ -0,0 +1,134 @@
+/**
+ * Copyright 2026 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.api.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the scan include/exclude patterns of the {@link ClassNameMatcher}.
+ */
+public class ClassNameMatcherTest {
+
+    @Test
+    public void testEmpty() {
+        ClassNameMatcher matcher = matcher(set(), set(), set(), set());
+        Assert.assertTrue(matcher.isEmpty());
+        Assert.assertTrue(matcher.accept("/com/acme/Foo.class"));
+        Assert.assertFalse(matcher.accept(null));
+    }
+
+    @Test
+    public void testPackages() {
+        ClassNameMatcher matcher = matcher(set(), set("com.acme"), set(), set());
+        Assert.assertFalse(matcher.isEmpty());
+        Assert.assertTrue(matcher.accept("/com/acme/Foo.class"));
+        // The named package only
+        Assert.assertFalse(matcher.accept("/com/acme/events/Foo.class"));
+        Assert.assertFalse(matcher.accept("/com/Foo.class"));
+        Assert.assertFalse(matcher.accept("/com/acmecorp/Foo.class"));
+        Assert.assertFalse(matcher.accept("/org/acme/Foo.class"));
+    }
+
+    @Test
+    public void testClasses() {
+        ClassNameMatcher matcher = matcher(set("com.acme.Foo", "com.acme.events.*"), set(), set(), set());
+        Assert.assertTrue(matcher.accept("/com/acme/Foo.class"));
+        Assert.assertFalse(matcher.accept("/com/acme/Foo2.class"));
+        Assert.assertFalse(matcher.accept("/com/acme/Fo.class"));
+        Assert.assertTrue(matcher.accept("/com/acme/events/Bar.class"));
+        Assert.assertTrue(matcher.accept("/com/acme/events/Baz.class"));
+        Assert.assertFalse(matcher.accept("/com/acme/events/user/Bar.class"));
+    }
+
+    @Test
+    public void testAnySegment() {
+        ClassNameMatcher matcher = matcher(set(), set("com.*.events"), set(), set());
+        Assert.assertTrue(matcher.accept("/com/acme/events/Foo.class"));
+        Assert.assertTrue(matcher.accept("/com/other/events/Foo.class"));
+        Assert.assertFalse(matcher.accept("/com/events/Foo.class"));
+        Assert.assertFalse(matcher.accept("/com/acme/corp/events/Foo.class"));
+        Assert.assertFalse(matcher.accept("/com/acme/events/user/Foo.class"));
+    }
+
+    @Test
+    public void testSubPackages() {
+        ClassNameMatcher matcher = matcher(set(), set("com.acme.**"), set(), set());
+        Assert.assertTrue(matcher.accept("/com/acme/Foo.class"));
+        Assert.assertTrue(matcher.accept("/com/acme/events/Foo.class"));
+        Assert.assertTrue(matcher.accept("/com/acme/events/user/deep/Foo.class"));
+        Assert.assertFalse(matcher.accept("/com/acmecorp/Foo.class"));
+        Assert.assertFalse(matcher.accept("/com/Foo.class"));
+
+        ClassNameMatcher all = matcher(set(), set("**"), set(), set());
+        Assert.assertTrue(all.accept("/Foo.class"));
+        Assert.assertTrue(all.accept("/org/acme/Foo.class"));
+    }
+
+    @Test
+    public void testExcludesOverrideIncludes() {
+        ClassNameMatcher matcher = matcher(set("com.acme.internal.Visible"), set("com.acme.**"),
+                set("com.acme.Secret"), set("com.acme.internal"));
+        Assert.assertTrue(matcher.accept("/com/acme/Foo.class"));
+        Assert.assertFalse(matcher.accept("/com/acme/Secret.class"));
+        Assert.assertFalse(matcher.accept("/com/acme/internal/Visible.class"));
+        Assert.assertTrue(matcher.accept("/com/acme/internal/more/Foo.class"));
+
+        // Without includes everything not excluded is accepted
+        ClassNameMatcher excludesOnly = matcher(set(), set(), set(), set("com.acme.**"));
+        Assert.assertFalse(excludesOnly.accept("/com/acme/events/Foo.class"));
+        Assert.assertTrue(excludesOnly.accept("/org/acme/Foo.class"));
+    }
+
+    @Test
+    public void testArchivePaths() {
+        ClassNameMatcher matcher = matcher(set(), set("com.acme"), set(), set());
+        Assert.assertTrue(matcher.accept("/WEB-INF/classes/com/acme/Foo.class"));
+        Assert.assertTrue(matcher.accept("com/acme/Foo.class"));
+        Assert.assertTrue(matcher.accept("/com/acme/Foo"));
+        Assert.assertFalse(matcher.accept("/WEB-INF/classes/org/acme/Foo.class"));
+        Assert.assertFalse(matcher.accept("/WEB-INF/lib/com/acme/Foo.class"));
+    }
+
+    @Test
+    public void testDefaultPackage() {
+        ClassNameMatcher matcher = matcher(set(), set(""), set(), set());
+        Assert.assertTrue(matcher.accept("/Foo.class"));
+        Assert.assertTrue(matcher.accept("/WEB-INF/classes/Foo.class"));
+        Assert.assertFalse(matcher.accept("/com/Foo.class"));
+
+        ClassNameMatcher byName = matcher(set("Foo"), set(), set(), set());
+        Assert.assertTrue(byName.accept("/Foo.class"));
+        Assert.assertFalse(byName.accept("/Bar.class"));
+        Assert.assertFalse(byName.accept("/com/Foo.class"));
+    }
+
+    private static ClassNameMatcher matcher(Set<String> classes, Set<String> packages, Set<String> excludeClasses,
+            Set<String> excludePackages) {
+        return new ClassNameMatcher(classes, packages, excludeClasses, excludePackages);
+    }
+
+    private static Set<String> set(String... values) {
+        return values.length == 0 ? Collections.emptySet() : new HashSet<>(Arrays.asList(values));
+    }
+
+}
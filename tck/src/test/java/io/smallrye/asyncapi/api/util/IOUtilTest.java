@@ -0,0 +1,91 @@
+/**
+ * Copyright 2026 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.api.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the decoding of streams by {@link IOUtil}.
+ */
+public class IOUtilTest {
+
+    // 2-byte (e acute, sharp s), 3-byte (euro sign, CJK) and 4-byte (emoji, G clef) UTF-8 sequences
+    private static final String TEXT = "{\"title\": \"Caf\u00e9 gro\u00df \u20ac \u4e2d \ud83d\ude80 \ud834\udd1e\"}";
+
+    @Test
+    public void testMultiByteCharactersReadOneByteAtATime() {
+        byte[] bytes = TEXT.getBytes(StandardCharsets.UTF_8);
+        Assert.assertEquals(TEXT, IOUtil.toString(new OneByteInputStream(bytes)));
+    }
+
+    @Test
+    public void testMultiByteCharactersAcrossBufferBoundaries() {
+        // Shift the characters over every offset, so that each sequence is split by some read
+        for (int padding = 0; padding < 8; padding++) {
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < 4096; i++) {
+                text.append(i % 7 < padding ? "a" : "").append(TEXT);
+            }
+            String expected = text.toString();
+            Assert.assertEquals(expected,
+                    IOUtil.toString(new ByteArrayInputStream(expected.getBytes(StandardCharsets.UTF_8))));
+            Assert.assertEquals(expected, IOUtil.toString(new OneByteInputStream(expected.getBytes(StandardCharsets.UTF_8))));
+        }
+    }
+
+    @Test
+    public void testEmptyAndNull() {
+        Assert.assertEquals("", IOUtil.toString(new OneByteInputStream(new byte[0])));
+        Assert.assertNull(IOUtil.toString(null));
+    }
+
+    /**
+     * Returns at most one byte per read, as some network and decompressing streams do.
+     */
+    private static final class OneByteInputStream extends InputStream {
+        private final byte[] bytes;
+        private int position;
+
+        private OneByteInputStream(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int read() {
+            return position < bytes.length ? bytes[position++] & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            int next = read();
+            if (next < 0) {
+                return -1;
+            }
+            b[off] = (byte) next;
+            return 1;
+        }
+    }
+
+}
@@ -0,0 +1,230 @@
+/**
+ * Copyright 2026 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.api.util;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.FileAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.smallrye.asyncapi.api.AsyncApiConfig;
+import io.smallrye.asyncapi.api.AsyncApiConstants;
+import io.smallrye.asyncapi.api.AsyncApiPhase;
+import io.smallrye.asyncapi.api.AsyncApiPhaseCounter;
+import io.smallrye.asyncapi.api.AsyncApiPhaseListener;
+import io.smallrye.asyncapi.apps.annotations.UserEvents;
+import io.smallrye.asyncapi.apps.annotations.UserSignedUp;
+import io.smallrye.asyncapi.apps.annotations.UserStatus;
+
+/**
+ * Tests the on disk cache of the jandex indexes of the archives, see {@link IndexCacheUtil}.
+ */
+public class IndexCacheUtilTest {
+
+    private final List<Map<AsyncApiPhaseCounter, Long>> indexings = new ArrayList<>();
+    private final AsyncApiPhaseListener listener = new AsyncApiPhaseListener() {
+        @Override
+        public void phaseCompleted(AsyncApiPhase phase, long durationNanos, long allocatedBytes,
+                Map<AsyncApiPhaseCounter, Long> counters) {
+            if (phase == AsyncApiPhase.INDEX) {
+                Map<AsyncApiPhaseCounter, Long> copy = new EnumMap<>(AsyncApiPhaseCounter.class);
+                copy.putAll(counters);
+                indexings.add(copy);
+            }
+        }
+    };
+
+    private Path dir;
+    private Path cacheDir;
+
+    @Before
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("asyncapi-index-cache");
+        cacheDir = dir.resolve("cache");
+        TimingUtil.addListener(listener);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        TimingUtil.removeListener(listener);
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void testWarmStartSkipsIndexing() throws Exception {
+        File jar = exportJar("events.jar", UserEvents.class, UserSignedUp.class, UserStatus.class);
+        Files.setLastModifiedTime(jar.toPath(), FileTime.fromMillis(System.currentTimeMillis() - 3_600_000));
+        JavaArchive archive = app(jar, 0);
+
+        IndexView cold = index(archive);
+        Assert.assertEquals(1L, (long) jarsOpened(0));
+        Assert.assertEquals(1, cacheFiles().size());
+
+        // The key is computed from the metadata of a jar written a while ago: a warm start does not even read it
+        long size = Files.size(jar.toPath());
+        FileTime modified = Files.getLastModifiedTime(jar.toPath());
+        Files.write(jar.toPath(), new byte[(int) size]);
+        Files.setLastModifiedTime(jar.toPath(), modified);
+
+        IndexView warm = index(archive);
+        Assert.assertEquals(0L, (long) jarsOpened(1));
+        Assert.assertEquals(cold.getKnownClasses().size(), warm.getKnownClasses().size());
+        Assert.assertNotNull(warm.getClassByName(DotName.createSimple(UserEvents.class.getName())));
+        Assert.assertEquals(1, cacheFiles().size());
+    }
+
+    @Test
+    public void testChangedJarIndexedAgain() throws Exception {
+        File jar = exportJar("events.jar", UserEvents.class, UserSignedUp.class);
+        JavaArchive archive = app(jar, 0);
+        IndexView before = index(archive);
+        Assert.assertNull(before.getClassByName(DotName.createSimple(UserStatus.class.getName())));
+
+        exportJar("events.jar", UserEvents.class, UserSignedUp.class, UserStatus.class);
+        Files.setLastModifiedTime(jar.toPath(), FileTime.fromMillis(System.currentTimeMillis() + 1000));
+
+        IndexView after = index(archive);
+        Assert.assertEquals(1L, (long) jarsOpened(1));
+        Assert.assertNotNull(after.getClassByName(DotName.createSimple(UserStatus.class.getName())));
+        Assert.assertEquals(2, cacheFiles().size());
+    }
+
+    @Test
+    public void testRecentlyRewrittenJarIndexedAgain() throws Exception {
+        File jar = exportJar("events.jar", UserEvents.class, UserSignedUp.class);
+        JavaArchive archive = app(jar, 0);
+        index(archive);
+
+        // Rewritten within the granularity of the modification time: same size and time stamp
+        long size = Files.size(jar.toPath());
+        FileTime modified = Files.getLastModifiedTime(jar.toPath());
+        byte[] content = Files.readAllBytes(jar.toPath());
+        content[content.length - 1] ^= 1;
+        Files.write(jar.toPath(), content);
+        Files.setLastModifiedTime(jar.toPath(), modified);
+        Assert.assertEquals(size, Files.size(jar.toPath()));
+
+        index(archive);
+        Assert.assertEquals(1L, (long) jarsOpened(1));
+        Assert.assertEquals(2, cacheFiles().size());
+    }
+
+    @Test
+    public void testRewrittenClassFileIndexedAgain() throws Exception {
+        Path classFile = dir.resolve("UserStatus.class");
+        String resource = "/" + UserStatus.class.getName().replace('.', '/') + ".class";
+        byte[] content;
+        try (InputStream in = UserStatus.class.getResourceAsStream(resource)) {
+            content = in.readAllBytes();
+        }
+        Files.write(classFile, content);
+        FileTime modified = FileTime.fromMillis(System.currentTimeMillis() - 3_600_000);
+        Files.setLastModifiedTime(classFile, modified);
+        JavaArchive archive = app(exportJar("events.jar", UserEvents.class), 0)
+                .add(new FileAsset(classFile.toFile()), resource);
+        IndexView before = index(archive);
+        Assert.assertNotNull(before.getClassByName(DotName.createSimple(UserStatus.class.getName())));
+
+        // A class file of an exploded directory is matched by content, whatever its time stamp
+        Files.write(classFile, new byte[content.length]);
+        Files.setLastModifiedTime(classFile, modified);
+        Assert.assertNotEquals(IndexCacheUtil.cacheKey(ArchiveUtil.archiveToConfig(archive), archive),
+                cacheFiles().get(0).getFileName().toString().replace(IndexCacheUtil.CACHE_FILE_SUFFIX, ""));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEvicted() throws Exception {
+        JavaArchive first = app(exportJar("first.jar", UserEvents.class), 2);
+        JavaArchive second = app(exportJar("second.jar", UserSignedUp.class), 2);
+        JavaArchive third = app(exportJar("third.jar", UserStatus.class), 2);
+
+        index(first);
+        Thread.sleep(20);
+        index(second);
+        Thread.sleep(20);
+        // Using the first cache file makes the second one the least recently used
+        index(first);
+        Thread.sleep(20);
+        index(third);
+        Assert.assertEquals(2, cacheFiles().size());
+
+        index(first);
+        index(third);
+        index(second);
+        Assert.assertEquals(0L, (long) jarsOpened(4));
+        Assert.assertEquals(0L, (long) jarsOpened(5));
+        Assert.assertEquals(1L, (long) jarsOpened(6));
+        Assert.assertEquals(2, cacheFiles().size());
+    }
+
+    /**
+     * Returns an app made of the given dependency jar, configured to cache its index.
+     */
+    private JavaArchive app(File jar, int maxEntries) {
+        String config = AsyncApiConstants.INDEX_CACHE_DIR + "=" + cacheDir + "\n"
+                + AsyncApiConstants.INDEX_CACHE_MAX_ENTRIES + "=" + maxEntries + "\n";
+        return ShrinkWrap.create(JavaArchive.class, "app.jar")
+                .add(new FileAsset(jar), "/lib/" + jar.getName())
+                .addAsManifestResource(new StringAsset(config), "microprofile-config.properties");
+    }
+
+    private File exportJar(String name, Class<?>... classes) {
+        File jar = dir.resolve(name).toFile();
+        ShrinkWrap.create(JavaArchive.class, name).addClasses(classes).as(ZipExporter.class).exportTo(jar, true);
+        return jar;
+    }
+
+    private IndexView index(JavaArchive archive) {
+        AsyncApiConfig config = ArchiveUtil.archiveToConfig(archive);
+        return ArchiveUtil.archiveToIndex(config, archive);
+    }
+
+    private Long jarsOpened(int indexing) {
+        return indexings.get(indexing).getOrDefault(AsyncApiPhaseCounter.JARS_OPENED, 0L);
+    }
+
+    private List<Path> cacheFiles() throws Exception {
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            return files.filter(f -> f.toString().endsWith(IndexCacheUtil.CACHE_FILE_SUFFIX)).collect(Collectors.toList());
+        }
+    }
+
+}
@@ -0,0 +1,224 @@
+/**
+ * Copyright 2026 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.api.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.asyncapi.v2.models.Aai20Document;
+import io.apicurio.datamodels.asyncapi.v2.visitors.Aai20AllNodeVisitor;
+import io.apicurio.datamodels.core.models.Document;
+import io.apicurio.datamodels.core.models.Node;
+import io.apicurio.datamodels.core.models.common.Tag;
+import io.apicurio.datamodels.core.util.VisitorUtil;
+import io.apicurio.datamodels.core.visitors.TraverserDirection;
+
+/**
+ * Tests the merge of the keyed lists (tags, servers, parameters) by {@link MergeUtil}: the first
+ * node with a key wins, nodes without a key never match, and appended nodes keep their order.
+ * Also tests that maps large enough to be merged in parallel give the same result as a sequential
+ * merge.
+ */
+public class MergeUtilTest {
+
+    @Test
+    public void testFirstMatchWins() {
+        Document document1 = tagged("{\"name\": \"a\", \"description\": \"first\"}",
+                "{\"name\": \"a\", \"description\": \"duplicate\"}",
+                "{\"description\": \"unnamed 1\"}");
+        Document document2 = tagged("{\"name\": \"a\", \"description\": \"merged\"}",
+                "{\"name\": \"b\", \"description\": \"appended\"}",
+                "{\"name\": \"b\", \"description\": \"merged into appended\"}",
+                "{\"description\": \"unnamed 2\"}");
+        Tag first = document1.tags.get(0);
+        Tag appended = document2.tags.get(1);
+
+        List<Tag> tags = MergeUtil.merge(document1, document2).tags;
+
+        Assert.assertEquals(Arrays.asList("a", "a", null, "b", null), names(tags));
+        Assert.assertEquals(Arrays.asList("merged", "duplicate", "unnamed 1", "merged into appended", "unnamed 2"),
+                descriptions(tags));
+        Assert.assertSame(first, tags.get(0));
+        Assert.assertSame(appended, tags.get(3));
+        Assert.assertSame(document1, appended.ownerDocument());
+    }
+
+    @Test
+    public void testSameAsScanningMerge() {
+        Random random = new Random(42);
+        for (int run = 0; run < 10; run++) {
+            String[] tags1 = randomTags(random, 2000, "first");
+            String[] tags2 = randomTags(random, 2000, "second");
+
+            Document expected = tagged(tags1);
+            scanningMerge(expected.tags, tagged(tags2).tags);
+            Document actual = MergeUtil.merge(tagged(tags1), tagged(tags2));
+
+            Assert.assertEquals(names(expected.tags), names(actual.tags));
+            Assert.assertEquals(descriptions(expected.tags), descriptions(actual.tags));
+        }
+    }
+
+    @Test
+    public void testParallelMapMerge() {
+        Random random = new Random(7);
+        for (int run = 0; run < 5; run++) {
+            // Maps of a few hundred entries, half of them in both documents, split into many leaf tasks
+            List<Integer> keys1 = shuffledRange(random, 0, 300);
+            List<Integer> keys2 = shuffledRange(random, 150, 450);
+            String json1 = channelsDocument(keys1, "first");
+            String json2 = channelsDocument(keys2, "second");
+
+            Document sequential = MergeUtil.merge(Library.readDocumentFromJSONString(json1),
+                    Library.readDocumentFromJSONString(json2), 0);
+            Document parallel = MergeUtil.merge(Library.readDocumentFromJSONString(json1),
+                    Library.readDocumentFromJSONString(json2), 17);
+
+            Assert.assertEquals(Library.writeDocumentToJSONString(sequential), Library.writeDocumentToJSONString(parallel));
+
+            // The keys of the first document keep their place, the others follow in the order of the second one
+            List<String> expected = new ArrayList<>();
+            for (Integer key : keys1) {
+                expected.add("orders/" + key);
+            }
+            for (Integer key : keys2) {
+                if (key >= 300) {
+                    expected.add("orders/" + key);
+                }
+            }
+            Assert.assertEquals(expected, new ArrayList<>(((Aai20Document) parallel).channels.keySet()));
+            Assert.assertEquals(expected.size(), ((Aai20Document) parallel).components.schemas.size());
+
+            assertAdopted(parallel);
+        }
+    }
+
+    /**
+     * Checks that every node of the given document is owned by it, and that its parent is a node
+     * of the document as well, rather than a node of the document merged into it.
+     */
+    private static void assertAdopted(Document document) {
+        Set<Node> nodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        VisitorUtil.visitTree(document, new Aai20AllNodeVisitor() {
+            @Override
+            protected void visitNode(Node node) {
+                nodes.add(node);
+            }
+        }, TraverserDirection.down);
+        for (Node node : nodes) {
+            Assert.assertSame(document, node.ownerDocument());
+            if (node != document) {
+                Assert.assertTrue(nodes.contains(node.parent()));
+            }
+        }
+    }
+
+    private static List<Integer> shuffledRange(Random random, int from, int to) {
+        List<Integer> range = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            range.add(i);
+        }
+        Collections.shuffle(range, random);
+        return range;
+    }
+
+    /**
+     * Returns a document with a channel and a component schema per key, each with a property
+     * named after the source, so that merged entries combine the properties of both documents.
+     */
+    private static String channelsDocument(List<Integer> keys, String source) {
+        StringBuilder channels = new StringBuilder();
+        StringBuilder schemas = new StringBuilder();
+        for (Integer key : keys) {
+            String properties = "\"properties\": {\"" + source + "\": {\"type\": \"string\"}}";
+            channels.append(channels.length() == 0 ? "" : ", ").append("\"orders/").append(key)
+                    .append("\": {\"description\": \"").append(source).append(' ').append(key)
+                    .append("\", \"subscribe\": {\"operationId\": \"on").append(key)
+                    .append("\", \"message\": {\"name\": \"Order").append(key)
+                    .append("\", \"payload\": {\"type\": \"object\", ").append(properties).append("}}}}");
+            schemas.append(schemas.length() == 0 ? "" : ", ").append("\"Order").append(key)
+                    .append("\": {\"type\": \"object\", ").append(properties).append("}");
+        }
+        return "{\"asyncapi\": \"2.0.0\", \"channels\": {" + channels + "}, \"components\": {\"schemas\": {" + schemas
+                + "}}}";
+    }
+
+    /**
+     * The merge of two lists of tags as it was before the key index: the first list is scanned for
+     * each tag of the second one.
+     */
+    private static void scanningMerge(List<Tag> values1, List<Tag> values2) {
+        for (Tag value2 : values2) {
+            Tag match = null;
+            for (Tag value1 : values1) {
+                if (value1.name != null && value1.name.equals(value2.name)) {
+                    match = value1;
+                    break;
+                }
+            }
+            if (match == null) {
+                values1.add(value2);
+            } else {
+                MergeUtil.mergeObjects(match, value2);
+            }
+        }
+    }
+
+    /**
+     * Returns tags named from a small set of names, so that names repeat within and across the
+     * lists, with some tags not named at all.
+     */
+    private static String[] randomTags(Random random, int count, String source) {
+        String[] tags = new String[count];
+        for (int i = 0; i < count; i++) {
+            String description = "\"description\": \"" + source + " " + i + "\"";
+            int name = random.nextInt(600);
+            tags[i] = name < 20 ? "{" + description + "}" : "{\"name\": \"tag" + name + "\", " + description + "}";
+        }
+        return tags;
+    }
+
+    private static Document tagged(String... tags) {
+        return Library.readDocumentFromJSONString("{\"asyncapi\": \"2.0.0\", \"tags\": [" + String.join(", ", tags) + "]}");
+    }
+
+    private static List<String> names(List<Tag> tags) {
+        List<String> names = new ArrayList<>();
+        for (Tag tag : tags) {
+            names.add(tag.name);
+        }
+        return names;
+    }
+
+    private static List<String> descriptions(List<Tag> tags) {
+        List<String> descriptions = new ArrayList<>();
+        for (Tag tag : tags) {
+            descriptions.add(tag.description);
+        }
+        return descriptions;
+    }
+
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright 2026 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.api.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.asyncapi.models.AaiChannelItem;
+import io.apicurio.datamodels.asyncapi.models.AaiDocument;
+import io.apicurio.datamodels.asyncapi.models.AaiMessage;
+import io.apicurio.datamodels.asyncapi.models.AaiSchema;
+import io.apicurio.datamodels.core.models.Node;
+
+/**
+ * Tests the lookups of the {@link ReferenceIndex}.
+ */
+public class ReferenceIndexTest {
+
+    private static final String DOCUMENT = "{\"asyncapi\": \"2.0.0\","
+            + " \"info\": {\"title\": \"Users\", \"version\": \"1.0.0\"},"
+            + " \"channels\": {"
+            + "   \"user/{id}\": {\"subscribe\": {\"message\": {\"$ref\": \"#/components/messages/UserCreated\"}}},"
+            + "   \"user/deleted\": {\"subscribe\": {\"message\": {\"payload\": {\"type\": \"object\","
+            + "     \"properties\": {\"user\": {\"$ref\": \"#/components/schemas/User\"},"
+            + "       \"profile\": {\"$ref\": \"#/components/schemas/User%20Profile\"}}}}}},"
+            + "   \"user/renamed\": {\"publish\": {\"message\": {\"$ref\": \"#/components/messages/UserCreated\"}}}},"
+            + " \"components\": {"
+            + "   \"schemas\": {"
+            + "     \"User\": {\"type\": \"object\", \"properties\": {\"address\": {\"$ref\": \"#/components/schemas/Address\"},"
+            + "       \"missing\": {\"$ref\": \"#/components/schemas/Missing\"}}},"
+            + "     \"Address\": {\"type\": \"string\"},"
+            + "     \"User Profile\": {\"type\": \"string\"}},"
+            + "   \"messages\": {\"UserCreated\": {\"name\": \"UserCreated\", \"payload\": {\"$ref\": \"#/components/schemas/User\"}}}}}";
+
+    private AaiDocument document;
+    private ReferenceIndex index;
+
+    @Before
+    public void setUp() {
+        document = (AaiDocument) Library.readDocumentFromJSONString(DOCUMENT);
+        index = new ReferenceIndex(document);
+    }
+
+    @Test
+    public void testResolve() {
+        AaiSchema user = document.components.schemas.get("User");
+        Assert.assertSame(user, index.resolve("#/components/schemas/User"));
+        Assert.assertSame(user.properties.get("address"), index.resolve("#/components/schemas/User/properties/address"));
+        Assert.assertSame(document.components.messages.get("UserCreated"),
+                index.resolve("#/components/messages/UserCreated"));
+        Assert.assertSame(document, index.resolve("#"));
+
+        Assert.assertNull(index.resolve("#/components/schemas/Missing"));
+        Assert.assertNull(index.resolve("other.json#/components/schemas/User"));
+        Assert.assertNull(index.resolve(null));
+    }
+
+    @Test
+    public void testResolveEscaped() {
+        AaiChannelItem channel = document.channels.get("user/{id}");
+        Assert.assertSame(channel, index.resolve("#/channels/user~1{id}"));
+        Assert.assertSame(channel, index.resolve("#/channels/user~1%7Bid%7D"));
+        Assert.assertSame(document.components.schemas.get("User Profile"),
+                index.resolve("#/components/schemas/User%20Profile"));
+        // Neither a form encoding nor a malformed escape is decoded
+        Assert.assertNull(index.resolve("#/components/schemas/User+Profile"));
+        Assert.assertNull(index.resolve("#/components/schemas/User%2"));
+    }
+
+    @Test
+    public void testReferenceTo() {
+        Assert.assertEquals("#/components/schemas/User", index.referenceTo(document.components.schemas.get("User")));
+        Assert.assertEquals("#/channels/user~1{id}", index.referenceTo(document.channels.get("user/{id}")));
+        Assert.assertEquals("#/components/schemas/User Profile",
+                index.referenceTo(document.components.schemas.get("User Profile")));
+
+        Node detached = Library.readDocumentFromJSONString(DOCUMENT);
+        Assert.assertNull(index.referenceTo(detached));
+    }
+
+    @Test
+    public void testReferrersOfNode() {
+        AaiMessage userCreated = document.components.messages.get("UserCreated");
+        Assert.assertEquals(Arrays.asList(document.channels.get("user/{id}").subscribe.message,
+                document.channels.get("user/renamed").publish.message), index.referrers(userCreated));
+
+        // Payloads are plain JSON, so their references are held by their message
+        AaiSchema user = document.components.schemas.get("User");
+        Assert.assertEquals(Arrays.asList(document.channels.get("user/deleted").subscribe.message, userCreated),
+                index.referrers(user));
+
+        AaiSchema address = document.components.schemas.get("Address");
+        Assert.assertEquals(Collections.singletonList(user.properties.get("address")), index.referrers(address));
+
+        Assert.assertEquals(Collections.emptyList(), index.referrers(document.channels.get("user/deleted")));
+        Assert.assertEquals(Collections.emptyList(), index.referrers(Library.readDocumentFromJSONString(DOCUMENT)));
+    }
+
+    @Test
+    public void testReferrersOfReference() {
+        AaiSchema user = document.components.schemas.get("User");
+        Assert.assertEquals(index.referrers(user), index.referrers("#/components/schemas/User"));
+        // Whether the reference resolves or not
+        Assert.assertEquals(Collections.singletonList(user.properties.get("missing")),
+                index.referrers("#/components/schemas/Missing"));
+        // The same reference, percent-encoded or not
+        Assert.assertEquals(Collections.singletonList(document.channels.get("user/deleted").subscribe.message),
+                index.referrers("#/components/schemas/User Profile"));
+        Assert.assertEquals(index.referrers("#/components/schemas/User Profile"),
+                index.referrers("#/components/schemas/User%20Profile"));
+
+        Assert.assertEquals(Collections.emptyList(), index.referrers("#/components/schemas/Address/type"));
+        Assert.assertEquals(Collections.emptyList(), index.referrers("other.json#/components/schemas/User"));
+    }
+
+}
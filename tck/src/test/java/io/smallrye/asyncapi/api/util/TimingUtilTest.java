@@ -0,0 +1,183 @@
+/**
+ * Copyright 2026 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.api.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.jandex.IndexView;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.smallrye.asyncapi.api.AsyncApiConfig;
+import io.smallrye.asyncapi.api.AsyncApiConstants;
+import io.smallrye.asyncapi.api.AsyncApiDocument;
+import io.smallrye.asyncapi.api.AsyncApiPhase;
+import io.smallrye.asyncapi.api.AsyncApiPhaseCounter;
+import io.smallrye.asyncapi.api.AsyncApiPhaseListener;
+import io.smallrye.asyncapi.apps.annotations.UserEvents;
+import io.smallrye.asyncapi.runtime.AsyncApiDocumentBuilder;
+import io.smallrye.asyncapi.runtime.AsyncApiStaticFile;
+
+/**
+ * Tests the phases, counters and allocations reported by {@link TimingUtil} to the listeners.
+ */
+public class TimingUtilTest {
+
+    private static final String STATIC_FILE = "{\"asyncapi\": \"2.0.0\", \"info\": {\"title\": \"Users\", \"version\": \"1.0.0\"},"
+            + " \"channels\": {\"user/audit\": {\"description\": \"Audit trail.\"}}}";
+    private static final int ALLOCATION = 4 << 20;
+
+    // Keeps the allocations of the tests from being optimized away
+    static volatile Object sink;
+
+    private final Map<AsyncApiPhase, Map<AsyncApiPhaseCounter, Long>> counters = Collections
+            .synchronizedMap(new EnumMap<>(AsyncApiPhase.class));
+    private final Map<AsyncApiPhase, Long> allocations = Collections.synchronizedMap(new EnumMap<>(AsyncApiPhase.class));
+    private final List<AsyncApiPhase> phases = Collections.synchronizedList(new ArrayList<>());
+    private final AsyncApiPhaseListener listener = new AsyncApiPhaseListener() {
+        @Override
+        public void phaseCompleted(AsyncApiPhase phase, long durationNanos, long allocatedBytes,
+                Map<AsyncApiPhaseCounter, Long> values) {
+            Assert.assertTrue(durationNanos >= 0);
+            phases.add(phase);
+            counters.put(phase, values);
+            allocations.put(phase, allocatedBytes);
+        }
+    };
+
+    @Before
+    public void setUp() {
+        AsyncApiDocument.INSTANCE.reset();
+        TimingUtil.addListener(listener);
+    }
+
+    @After
+    public void tearDown() {
+        TimingUtil.removeListener(listener);
+        AsyncApiDocument.INSTANCE.reset();
+    }
+
+    @Test
+    public void testPhasesAndCounters() throws Exception {
+        JavaArchive archive = ShrinkWrap.create(JavaArchive.class, "users.jar")
+                .addPackage(UserEvents.class.getPackage())
+                .addAsManifestResource(new StringAsset(STATIC_FILE), "asyncapi.json")
+                .addAsManifestResource(new StringAsset(AsyncApiConstants.SCAN_PARALLELISM + "=2"),
+                        "microprofile-config.properties");
+        AsyncApiConfig config = ArchiveUtil.archiveToConfig(archive);
+        IndexView index = ArchiveUtil.archiveToIndex(config, archive);
+        try (AsyncApiStaticFile staticFile = ArchiveUtil.archiveToStaticFile(archive)) {
+            new AsyncApiDocumentBuilder().initialize(config, index, staticFile,
+                    Thread.currentThread().getContextClassLoader(), null);
+        }
+
+        for (AsyncApiPhase phase : new AsyncApiPhase[] { AsyncApiPhase.INDEX, AsyncApiPhase.STATIC_FILE,
+                AsyncApiPhase.ANNOTATIONS, AsyncApiPhase.MERGE_STATIC_FILE, AsyncApiPhase.MERGE_ANNOTATIONS,
+                AsyncApiPhase.FILTER, AsyncApiPhase.DEFAULT_DOCUMENT, AsyncApiPhase.REQUIRED_ELEMENTS,
+                AsyncApiPhase.SERVERS }) {
+            Assert.assertEquals(phase.name(), 1, Collections.frequency(phases, phase));
+        }
+        // No model reader is configured
+        Assert.assertFalse(phases.contains(AsyncApiPhase.MODEL_READER));
+        // The phases building on each other run in order, the final model is indexed once published
+        List<AsyncApiPhase> ordered = Arrays.asList(AsyncApiPhase.MERGE_STATIC_FILE, AsyncApiPhase.MERGE_ANNOTATIONS,
+                AsyncApiPhase.FILTER, AsyncApiPhase.DEFAULT_DOCUMENT, AsyncApiPhase.REQUIRED_ELEMENTS,
+                AsyncApiPhase.SERVERS, AsyncApiPhase.REFERENCE_INDEX);
+        List<AsyncApiPhase> actual = new ArrayList<>(phases);
+        actual.retainAll(ordered);
+        Assert.assertEquals(ordered, actual);
+
+        Assert.assertEquals(3L, count(AsyncApiPhase.INDEX, AsyncApiPhaseCounter.CLASSES_INDEXED));
+        Assert.assertEquals(0L, count(AsyncApiPhase.INDEX, AsyncApiPhaseCounter.JARS_OPENED));
+        Assert.assertEquals(1L, count(AsyncApiPhase.STATIC_FILE, AsyncApiPhaseCounter.CHANNELS));
+        Assert.assertEquals(2L, count(AsyncApiPhase.ANNOTATIONS, AsyncApiPhaseCounter.CHANNELS));
+        Assert.assertTrue(count(AsyncApiPhase.MERGE_ANNOTATIONS, AsyncApiPhaseCounter.NODES_MERGED) > 0);
+        Assert.assertEquals(3L, count(AsyncApiPhase.SERVERS, AsyncApiPhaseCounter.CHANNELS));
+
+        // The classes were indexed by the workers, whose allocations are part of the phase
+        long indexed = allocations.get(AsyncApiPhase.INDEX);
+        Assert.assertTrue(indexed == -1 || indexed > 0);
+    }
+
+    @Test
+    public void testWorkerAllocations() throws Exception {
+        TimingUtil.Timer timer = TimingUtil.start(AsyncApiPhase.INDEX);
+        Thread worker = new Thread(() -> timer.worker(() -> sink = new byte[ALLOCATION]));
+        worker.start();
+        worker.join();
+        timer.stop();
+
+        long allocated = allocations.get(AsyncApiPhase.INDEX);
+        if (allocated != -1) {
+            Assert.assertTrue(String.valueOf(allocated), allocated >= ALLOCATION);
+        }
+    }
+
+    @Test
+    public void testWorkOfStartingThreadCountedOnce() {
+        TimingUtil.Timer timer = TimingUtil.start(AsyncApiPhase.MERGE_ANNOTATIONS);
+        timer.worker(() -> timer.worker(() -> sink = new byte[ALLOCATION]));
+        timer.stop();
+
+        long allocated = allocations.get(AsyncApiPhase.MERGE_ANNOTATIONS);
+        if (allocated != -1) {
+            Assert.assertTrue(String.valueOf(allocated), allocated >= ALLOCATION && allocated < 2 * ALLOCATION);
+        }
+    }
+
+    @Test
+    public void testCurrentPhase() throws Exception {
+        Assert.assertNull(TimingUtil.current());
+        TimingUtil.Timer outer = TimingUtil.start(AsyncApiPhase.SERVERS);
+        Assert.assertSame(outer, TimingUtil.current());
+
+        TimingUtil.Timer inner = TimingUtil.start(AsyncApiPhase.REFERENCE_INDEX);
+        Assert.assertSame(inner, TimingUtil.current());
+        inner.stop();
+        Assert.assertSame(outer, TimingUtil.current());
+
+        // Workers see the phase they run a part of, and nothing once done
+        Object[] seen = new Object[2];
+        Thread worker = new Thread(() -> {
+            outer.worker(() -> seen[0] = TimingUtil.current());
+            seen[1] = TimingUtil.current();
+        });
+        worker.start();
+        worker.join();
+        Assert.assertSame(outer, seen[0]);
+        Assert.assertNull(seen[1]);
+
+        outer.stop();
+        Assert.assertNull(TimingUtil.current());
+        Assert.assertEquals(Arrays.asList(AsyncApiPhase.REFERENCE_INDEX, AsyncApiPhase.SERVERS), phases);
+    }
+
+    private long count(AsyncApiPhase phase, AsyncApiPhaseCounter counter) {
+        return counters.get(phase).getOrDefault(counter, 0L);
+    }
+
+}
@@ -0,0 +1,107 @@
+/**
+ * Copyright 2026 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.runtime.io;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import io.apicurio.datamodels.Library;
+import io.apicurio.datamodels.core.models.Document;
+import io.smallrye.asyncapi.runtime.AsyncApiFormat;
+
+/**
+ * Tests that a document survives a round trip through the {@link AsyncApiBinaryCodec}: the model read
+ * back from the binary form serializes to the same JSON as the original model.
+ */
+public class AsyncApiBinaryCodecTest {
+
+    private static final String DOCUMENT = "{\"asyncapi\": \"2.0.0\", \"id\": \"urn:com:acme:orders\","
+            + " \"info\": {\"title\": \"Orders \\u00e9\\u20ac\\ud83d\\ude80\", \"version\": \"1.0.0\","
+            + " \"x-audience\": \"internal\", \"x-owners\": [\"sales\", \"billing\"]},"
+            + " \"x-generated\": {\"by\": \"build\", \"at\": 1571270400000, \"incremental\": false, \"ratio\": 0.25,"
+            + " \"big\": 123456789012345678901234567890, \"precise\": 1.000000000000000000000001, \"sparse\": [1, null]},"
+            + " \"channels\": {"
+            + "\"orders/created\": {\"description\": \"Orders created.\", \"x-retention\": -1,"
+            + " \"subscribe\": {\"operationId\": \"onOrderCreated\", \"tags\": [{\"name\": \"orders\"}],"
+            + " \"message\": {\"$ref\": \"#/components/messages/OrderCreated\"}}},"
+            + "\"orders/cancelled\": {\"description\": \"\","
+            + " \"publish\": {\"operationId\": \"cancelOrder\", \"message\": {\"name\": \"OrderCancelled\","
+            + " \"payload\": {\"type\": \"array\", \"items\": {\"$ref\": \"#/components/schemas/Order\"}}}}}},"
+            + " \"components\": {\"schemas\": {\"Order\": {\"type\": \"object\", \"required\": [\"id\"],"
+            + " \"properties\": {\"id\": {\"type\": \"string\"}, \"total\": {\"type\": \"number\", \"minimum\": 0},"
+            + " \"lines\": {\"type\": \"array\", \"items\": {\"type\": \"array\", \"items\": {\"type\": \"integer\"}}},"
+            + " \"parent\": {\"$ref\": \"#/components/schemas/Order\"}}, \"x-entity\": true}},"
+            + " \"messages\": {\"OrderCreated\": {\"name\": \"OrderCreated\", \"contentType\": \"application/json\","
+            + " \"payload\": {\"$ref\": \"#/components/schemas/Order\"}, \"x-schema-version\": 3}}}}";
+
+    @Test
+    public void testRoundTrip() {
+        Document model = Library.readDocumentFromJSONString(DOCUMENT);
+        byte[] binary = AsyncApiSerializer.serialize(model, AsyncApiFormat.BINARY);
+
+        Document readBack = AsyncApiParser.parseBinary(ByteBuffer.wrap(binary));
+        Assert.assertEquals(Library.writeDocumentToJSONString(model), Library.writeDocumentToJSONString(readBack));
+        Assert.assertEquals(Library.writeNode(model), Library.writeNode(readBack));
+
+        // The same content from a stream, and encoded again
+        readBack = AsyncApiParser.parse(new ByteArrayInputStream(binary), AsyncApiFormat.BINARY);
+        Assert.assertEquals(Library.writeDocumentToJSONString(model), Library.writeDocumentToJSONString(readBack));
+        Assert.assertArrayEquals(binary, AsyncApiSerializer.serialize(readBack, AsyncApiFormat.BINARY));
+    }
+
+    @Test
+    public void testExtensionsAndReferences() {
+        Document model = Library.readDocumentFromJSONString(DOCUMENT);
+        JsonNode tree = AsyncApiBinaryCodec.decode(ByteBuffer.wrap(AsyncApiSerializer.serialize(model, AsyncApiFormat.BINARY)));
+
+        Assert.assertEquals("internal", tree.at("/info/x-audience").asText());
+        Assert.assertEquals("billing", tree.at("/info/x-owners/1").asText());
+        Assert.assertEquals(1571270400000L, tree.at("/x-generated/at").longValue());
+        // Numbers keep the node type the model writes them with
+        JsonNode written = (JsonNode) Library.writeNode(model);
+        for (String number : new String[] { "/x-generated/at", "/x-generated/ratio", "/x-generated/big",
+                "/x-generated/precise" }) {
+            Assert.assertEquals(number, written.at(number).numberType(), tree.at(number).numberType());
+            Assert.assertEquals(number, written.at(number), tree.at(number));
+        }
+        Assert.assertTrue(tree.at("/x-generated/sparse/1").isNull());
+        Assert.assertEquals(-1, tree.at("/channels/orders~1created/x-retention").intValue());
+        Assert.assertEquals("#/components/messages/OrderCreated",
+                tree.at("/channels/orders~1created/subscribe/message/$ref").asText());
+        Assert.assertEquals("#/components/schemas/Order",
+                tree.at("/components/schemas/Order/properties/parent/$ref").asText());
+        Assert.assertEquals("Orders \u00e9\u20ac\ud83d\ude80", tree.at("/info/title").asText());
+    }
+
+    @Test
+    public void testInvalidContent() {
+        byte[] binary = AsyncApiSerializer.serialize(Library.readDocumentFromJSONString(DOCUMENT), AsyncApiFormat.BINARY);
+        binary[0] = '{';
+        try {
+            AsyncApiBinaryCodec.decode(ByteBuffer.wrap(binary));
+            Assert.fail("Decoded a document without the magic number");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+    }
+
+}
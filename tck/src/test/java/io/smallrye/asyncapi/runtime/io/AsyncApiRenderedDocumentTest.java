@@ -0,0 +1,133 @@
+/**
+ * Copyright 2026 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.runtime.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.smallrye.asyncapi.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.runtime.io.AsyncApiRenderedDocument.Encoding;
+
+/**
+ * Tests the content codings and the conditional requests support of the
+ * {@link AsyncApiRenderedDocument}.
+ */
+public class AsyncApiRenderedDocumentTest {
+
+    private static final String CONTENT = "{\"asyncapi\": \"2.0.0\", \"info\": {\"title\": \"Orders\", \"version\": \"1.0.0\"}}";
+
+    @Test
+    public void testETags() {
+        AsyncApiRenderedDocument document = document(CONTENT);
+        String identity = document.getETag(Encoding.IDENTITY);
+        Assert.assertTrue(identity.matches("\"[0-9a-f]{32}\""));
+        Assert.assertEquals(identity.replace("\"", "") + "-gzip", document.getETag(Encoding.GZIP).replace("\"", ""));
+        Assert.assertEquals(identity.replace("\"", "") + "-deflate", document.getETag(Encoding.DEFLATE).replace("\"", ""));
+        Assert.assertSame(identity, document.getETag(Encoding.IDENTITY));
+
+        // Strong tags derived from the content only
+        Assert.assertEquals(identity, document(CONTENT).getETag(Encoding.IDENTITY));
+        Assert.assertNotEquals(identity, document(CONTENT.replace("1.0.0", "1.0.1")).getETag(Encoding.IDENTITY));
+    }
+
+    @Test
+    public void testIfNoneMatch() {
+        AsyncApiRenderedDocument document = document(CONTENT);
+        String identity = document.getETag(Encoding.IDENTITY);
+        String gzip = document.getETag(Encoding.GZIP);
+
+        // Not modified
+        Assert.assertTrue(document.matches(identity, Encoding.IDENTITY));
+        Assert.assertTrue(document.matches("\"other\", " + gzip, Encoding.GZIP));
+        Assert.assertTrue(document.matches("W/" + identity, Encoding.IDENTITY));
+        Assert.assertTrue(document.matches("*", Encoding.DEFLATE));
+
+        // Modified, or cached in another encoding
+        Assert.assertFalse(document.matches(null, Encoding.IDENTITY));
+        Assert.assertFalse(document.matches("\"other\"", Encoding.IDENTITY));
+        Assert.assertFalse(document.matches(identity, Encoding.GZIP));
+        Assert.assertFalse(document.matches(gzip, Encoding.IDENTITY));
+    }
+
+    @Test
+    public void testAcceptEncoding() {
+        Assert.assertEquals(Encoding.IDENTITY, Encoding.fromAcceptEncoding(null));
+        Assert.assertEquals(Encoding.IDENTITY, Encoding.fromAcceptEncoding(""));
+        Assert.assertEquals(Encoding.IDENTITY, Encoding.fromAcceptEncoding("br, identity"));
+        Assert.assertEquals(Encoding.GZIP, Encoding.fromAcceptEncoding("deflate, GZIP"));
+        Assert.assertEquals(Encoding.GZIP, Encoding.fromAcceptEncoding("*"));
+        Assert.assertEquals(Encoding.DEFLATE, Encoding.fromAcceptEncoding("gzip;q=0, deflate;q=0.5"));
+        Assert.assertEquals(Encoding.IDENTITY, Encoding.fromAcceptEncoding("gzip; q=0.0"));
+        Assert.assertEquals("gzip", Encoding.GZIP.getToken());
+    }
+
+    @Test
+    public void testContentEncodings() throws IOException {
+        AsyncApiRenderedDocument document = document(CONTENT);
+        byte[] identity = CONTENT.getBytes(StandardCharsets.UTF_8);
+
+        byte[] gzip = write(document, Encoding.GZIP);
+        byte[] deflate = write(document, Encoding.DEFLATE);
+        Assert.assertEquals(gzip.length, document.length(Encoding.GZIP));
+        Assert.assertEquals(deflate.length, document.length(Encoding.DEFLATE));
+        Assert.assertArrayEquals(identity, read(new GZIPInputStream(new ByteArrayInputStream(gzip))));
+        Assert.assertArrayEquals(identity, read(new InflaterInputStream(new ByteArrayInputStream(deflate))));
+
+        Assert.assertArrayEquals(identity, write(document, Encoding.IDENTITY));
+        Assert.assertEquals(identity.length, document.length(Encoding.IDENTITY));
+        Assert.assertArrayEquals(gzip, write(document, Encoding.GZIP));
+    }
+
+    @Test
+    public void testContentCopied() {
+        AsyncApiRenderedDocument document = document(CONTENT);
+        byte[] copy = document.toByteArray();
+        copy[0] = 'x';
+        Assert.assertEquals(CONTENT, new String(document.toByteArray(), StandardCharsets.UTF_8));
+        Assert.assertEquals(AsyncApiFormat.JSON, document.getFormat());
+    }
+
+    private static AsyncApiRenderedDocument document(String content) {
+        return new AsyncApiRenderedDocument(AsyncApiFormat.JSON, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static byte[] write(AsyncApiRenderedDocument document, Encoding encoding) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        document.writeTo(encoding, out);
+        return out.toByteArray();
+    }
+
+    private static byte[] read(InputStream in) throws IOException {
+        try (InputStream stream = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            for (int read = stream.read(buffer); read >= 0; read = stream.read(buffer)) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright 2026 Red Hat, Inc, and individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.smallrye.asyncapi.runtime.scanner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.apicurio.datamodels.Library;
+import io.smallrye.asyncapi.api.AsyncApiConfig;
+import io.smallrye.asyncapi.api.util.ArchiveUtil;
+import io.smallrye.asyncapi.spec.annotations.Channel;
+import io.smallrye.asyncapi.spec.annotations.Publish;
+import io.smallrye.asyncapi.spec.annotations.Subscribe;
+
+/**
+ * Tests how the {@link AsyncApiAnnotationScanner} derives message payloads from method signatures.
+ */
+public class AsyncApiAnnotationScannerTest {
+
+    private JsonNode channels;
+
+    @Before
+    public void setUp() throws Exception {
+        AsyncApiConfig config = ArchiveUtil.archiveToConfig(ShrinkWrap.create(JavaArchive.class));
+        IndexView index = index(OrderEvents.class, Envelope.class, Order.class);
+        String json = Library.writeDocumentToJSONString(new AsyncApiAnnotationScanner(config, index).scan());
+        channels = new ObjectMapper().readTree(json).get("channels");
+    }
+
+    @Test
+    public void testUserDefinedGenericIsKept() {
+        JsonNode payload = payload("orders/enveloped", "subscribe");
+        Assert.assertTrue(payload.path("properties").has("correlationId"));
+        Assert.assertTrue(payload.path("properties").has("payload"));
+        Assert.assertFalse(payload.path("properties").has("total"));
+    }
+
+    @Test
+    public void testAsyncWrappersAreUnwrapped() {
+        assertOrder(payload("orders/created", "subscribe"));
+        assertOrder(payload("orders/placed", "publish"));
+    }
+
+    @Test
+    public void testUserDefinedGenericInsideWrapperIsKept() {
+        JsonNode payload = payload("orders/enveloped/async", "subscribe");
+        Assert.assertTrue(payload.path("properties").has("correlationId"));
+        Assert.assertFalse(payload.path("properties").has("total"));
+    }
+
+    private JsonNode payload(String channel, String operation) {
+        JsonNode payload = channels.path(channel).path(operation).path("message").path("payload");
+        Assert.assertFalse("No payload for " + channel, payload.isMissingNode());
+        return payload;
+    }
+
+    private static void assertOrder(JsonNode payload) {
+        Assert.assertTrue(payload.path("properties").has("id"));
+        Assert.assertTrue(payload.path("properties").has("total"));
+    }
+
+    private static IndexView index(Class<?>... classes) throws IOException {
+        Indexer indexer = new Indexer();
+        for (Class<?> c : classes) {
+            String resource = c.getName().replace('.', '/') + ".class";
+            try (InputStream in = c.getClassLoader().getResourceAsStream(resource)) {
+                indexer.index(in);
+            }
+        }
+        return indexer.complete();
+    }
+
+    public static class Order {
+        private String id;
+        private double total;
+    }
+
+    public static class Envelope<T> {
+        private String correlationId;
+        private T payload;
+    }
+
+    public static class OrderEvents {
+
+        @Channel("orders/enveloped")
+        @Subscribe(operationId = "onEnvelopedOrder")
+        public Envelope<Order> enveloped() {
+            return null;
+        }
+
+        @Channel("orders/enveloped/async")
+        @Subscribe(operationId = "onEnvelopedOrderAsync")
+        public CompletionStage<Envelope<Order>> envelopedAsync() {
+            return null;
+        }
+
+        @Channel("orders/created")
+        @Subscribe(operationId = "onOrderCreated")
+        public CompletableFuture<Order> created() {
+            return null;
+        }
+
+        @Channel("orders/placed")
+        @Publish(operationId = "placeOrder")
+        public void placed(Optional<Order> order) {
+        }
+
+    }
+
+}
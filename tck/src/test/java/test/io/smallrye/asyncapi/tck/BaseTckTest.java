@@ -32,10 +32,12 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.sun.net.httpserver.HttpServer;
 
-import io.apicurio.datamodels.Library;
 import io.restassured.RestAssured;
 import io.restassured.response.ValidatableResponse;
 import io.smallrye.asyncapi.api.AsyncApiDocument;
+import io.smallrye.asyncapi.runtime.AsyncApiFormat;
+import io.smallrye.asyncapi.runtime.io.AsyncApiRenderedDocument;
+import io.smallrye.asyncapi.runtime.io.AsyncApiRenderedDocument.Encoding;
 
 /**
  * Base class for all Tck tests.
@@ -79,9 +81,9 @@ public abstract class BaseTckTest<T extends Arquillian> {
     static class MyHandler implements HttpHandler {
         @Override
         public void handle(HttpExchange t) throws IOException {
-            String response = null;
+            AsyncApiRenderedDocument rendered = null;
             try {
-                response = Library.writeDocumentToJSONString(AsyncApiDocument.INSTANCE.get());
+                rendered = AsyncApiDocument.INSTANCE.getRendered(AsyncApiFormat.JSON);
             } catch (Throwable e) {
                 e.printStackTrace();
                 t.getResponseHeaders().add("Content-Type", APPLICATION_JSON);
@@ -92,10 +94,21 @@ public abstract class BaseTckTest<T extends Arquillian> {
                 return;
             }
 
+            Encoding encoding = Encoding.fromAcceptEncoding(t.getRequestHeaders().getFirst("Accept-Encoding"));
             t.getResponseHeaders().add("Content-Type", APPLICATION_JSON);
-            t.sendResponseHeaders(200, response.length());
+            t.getResponseHeaders().add("ETag", rendered.getETag(encoding));
+            t.getResponseHeaders().add("Vary", "Accept-Encoding");
+            if (rendered.matches(t.getRequestHeaders().getFirst("If-None-Match"), encoding)) {
+                t.sendResponseHeaders(304, -1);
+                t.close();
+                return;
+            }
+            if (encoding != Encoding.IDENTITY) {
+                t.getResponseHeaders().add("Content-Encoding", encoding.getToken());
+            }
+            t.sendResponseHeaders(200, rendered.length(encoding));
             OutputStream os = t.getResponseBody();
-            os.write(response.getBytes());
+            rendered.writeTo(encoding, os);
             os.close();
         }
     }
@@ -47,7 +47,8 @@ import io.apicurio.datamodels.core.models.Document;
 import io.smallrye.asyncapi.api.AsyncApiConfig;
 import io.smallrye.asyncapi.api.AsyncApiDocument;
 import io.smallrye.asyncapi.api.util.ArchiveUtil;
-import io.smallrye.asyncapi.runtime.AsyncApiProcessor;
+import io.smallrye.asyncapi.runtime.AsyncApiDocumentBuilder;
+import io.smallrye.asyncapi.runtime.AsyncApiFormat;
 import io.smallrye.asyncapi.runtime.AsyncApiStaticFile;
 
 /**
@@ -79,21 +80,23 @@ public class TckTestRunner extends ParentRunner<ProxiedTckTest> {
 
         // The Archive (shrinkwrap deployment)
         Archive archive = archive();
-        // MPConfig
-        AsyncApiConfig config = ArchiveUtil.archiveToConfig(archive);
 
         try {
-            IndexView index = ArchiveUtil.archiveToIndex(config, archive);
-            AsyncApiStaticFile staticFile = ArchiveUtil.archiveToStaticFile(archive);
-
             // Reset and then initialize the AsyncApiDocument for this test.
             AsyncApiDocument.INSTANCE.reset();
-            AsyncApiDocument.INSTANCE.config(config);
-            AsyncApiDocument.INSTANCE.modelFromStaticFile(AsyncApiProcessor.modelFromStaticFile(staticFile));
-            AsyncApiDocument.INSTANCE.modelFromAnnotations(AsyncApiProcessor.modelFromAnnotations(config, index));
-            AsyncApiDocument.INSTANCE.modelFromReader(AsyncApiProcessor.modelFromReader(config, getContextClassLoader()));
-            AsyncApiDocument.INSTANCE.filter(AsyncApiProcessor.getFilter(config, getContextClassLoader()));
-            AsyncApiDocument.INSTANCE.initialize();
+
+            Map<AsyncApiFormat, byte[]> generated = ArchiveUtil.archiveToGeneratedDocument(archive);
+            if (generated != null) {
+                // Generated at build time, nothing left to do
+                AsyncApiDocument.INSTANCE.initialize(generated);
+            } else {
+                // MPConfig
+                AsyncApiConfig config = ArchiveUtil.archiveToConfig(archive);
+                IndexView index = ArchiveUtil.archiveToIndex(config, archive);
+                AsyncApiStaticFile staticFile = ArchiveUtil.archiveToStaticFile(archive);
+
+                new AsyncApiDocumentBuilder().initialize(config, index, staticFile, getContextClassLoader(), null);
+            }
 
             Assert.assertNotNull("Generated OAI document must not be null.", AsyncApiDocument.INSTANCE.get());
 